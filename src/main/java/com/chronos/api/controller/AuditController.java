@@ -1,13 +1,13 @@
 package com.chronos.api.controller;
 
 import com.chronos.api.dto.audit.AuditEventResponse;
+import com.chronos.api.dto.page.CursorPage;
 import com.chronos.service.AuditService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,39 +27,70 @@ public class AuditController {
 
     @GetMapping
     @Operation(summary = "List audit events")
-    public ResponseEntity<Page<AuditEventResponse>> getAuditEvents(
-            Pageable pageable
+    public ResponseEntity<CursorPage<AuditEventResponse>> getAuditEvents(
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Events per page, at most 200")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Add the approximate number of events")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(auditService.getAuditEvents(pageable));
+        return ResponseEntity.ok(auditService.getAuditEvents(cursor, limit, includeTotal));
     }
 
     @GetMapping("/entity/{entityType}/{entityId}")
     @Operation(summary = "Get audit history for an entity")
-    public ResponseEntity<Page<AuditEventResponse>> getEntityAuditEvents(
+    public ResponseEntity<CursorPage<AuditEventResponse>> getEntityAuditEvents(
             @PathVariable String entityType,
             @PathVariable String entityId,
-            Pageable pageable
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Events per page, at most 200")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Add the approximate number of events")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
         return ResponseEntity.ok(auditService.getAuditEventsForEntity(
-                entityType, entityId, pageable));
+                entityType, entityId, cursor, limit, includeTotal));
     }
 
     @GetMapping("/action/{action}")
     @Operation(summary = "Get audit events by action type")
-    public ResponseEntity<Page<AuditEventResponse>> getActionAuditEvents(
+    public ResponseEntity<CursorPage<AuditEventResponse>> getActionAuditEvents(
             @PathVariable String action,
-            Pageable pageable
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Events per page, at most 200")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Add the approximate number of events")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(auditService.getAuditEventsByAction(action, pageable));
+        return ResponseEntity.ok(auditService.getAuditEventsByAction(action, cursor, limit, includeTotal));
     }
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get audit events for a user")
-    public ResponseEntity<Page<AuditEventResponse>> getUserAuditEvents(
+    public ResponseEntity<CursorPage<AuditEventResponse>> getUserAuditEvents(
             @PathVariable Long userId,
-            Pageable pageable
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Events per page, at most 200")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Add the approximate number of events")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(auditService.getAuditEventsForUser(userId, pageable));
+        return ResponseEntity.ok(auditService.getAuditEventsForUser(userId, cursor, limit, includeTotal));
     }
 
     @DeleteMapping("/cleanup")
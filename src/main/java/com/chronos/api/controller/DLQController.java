@@ -1,13 +1,13 @@
 package com.chronos.api.controller;
 
 import com.chronos.api.dto.dlq.DLQEventResponse;
+import com.chronos.api.dto.page.CursorPage;
 import com.chronos.service.DLQService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -24,14 +24,19 @@ public class DLQController {
 
     @GetMapping
     @Operation(summary = "List DLQ events")
-    public ResponseEntity<Page<DLQEventResponse>> getDLQEvents(
+    public ResponseEntity<CursorPage<DLQEventResponse>> getDLQEvents(
             @RequestParam(required = false) String reasonContains,
-            Pageable pageable
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Events per page, at most 200")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Add the approximate number of events")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        if (reasonContains != null) {
-            return ResponseEntity.ok(dlqService.searchDLQEvents(reasonContains, pageable));
-        }
-        return ResponseEntity.ok(dlqService.getDLQEvents(pageable));
+        return ResponseEntity.ok(dlqService.getDLQEvents(reasonContains, cursor, limit, includeTotal));
     }
 
     @GetMapping("/{eventId}")
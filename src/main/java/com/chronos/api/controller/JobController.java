@@ -1,20 +1,22 @@
 package com.chronos.api.controller;
 
 import com.chronos.api.dto.job.*;
+import com.chronos.api.dto.page.CursorPage;
 import com.chronos.domain.model.enums.JobStatus;
 import com.chronos.service.JobService;
+import com.chronos.service.runlog.RunLogStreamer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Instant;
 import java.net.URI;
@@ -27,6 +29,7 @@ import java.net.URI;
 public class JobController {
 
     private final JobService jobService;
+    private final RunLogStreamer runLogStreamer;
 
     @PostMapping
     @Operation(summary = "Create a new job")
@@ -52,7 +55,7 @@ public class JobController {
     @GetMapping
     @Operation(summary = "List jobs with filters")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<Page<JobResponse>> getJobs(
+    public ResponseEntity<CursorPage<JobSummaryResponse>> getJobs(
             @Parameter(description = "Filter by job status")
             @RequestParam(required = false) JobStatus status,
             
@@ -66,11 +69,18 @@ public class JobController {
             @Parameter(description = "Filter by next run time to")
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant nextRunTo,
-            
-            Pageable pageable
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Jobs per page, at most 200")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Add the approximate number of matching jobs")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(jobService.getJobs(status, nameContains, 
-                nextRunFrom, nextRunTo, pageable));
+        return ResponseEntity.ok(jobService.getJobs(status, nameContains,
+                nextRunFrom, nextRunTo, cursor, limit, includeTotal));
     }
 
     @PutMapping("/{jobId}")
@@ -142,11 +152,19 @@ public class JobController {
     @GetMapping("/{jobId}/runs")
     @Operation(summary = "Get job execution history")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<Page<JobRunSummaryDto>> getJobRuns(
+    public ResponseEntity<CursorPage<JobRunSummaryDto>> getJobRuns(
             @PathVariable String jobId,
-            Pageable pageable
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Runs per page, at most 200")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "Add the approximate number of runs")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        return ResponseEntity.ok(jobService.getJobRuns(jobId, pageable));
+        return ResponseEntity.ok(jobService.getJobRuns(jobId, cursor, limit, includeTotal));
     }
 
     @GetMapping("/{jobId}/runs/{runId}")
@@ -162,11 +180,67 @@ public class JobController {
     @GetMapping("/{jobId}/runs/{runId}/logs")
     @Operation(summary = "Get job run logs")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
-    public ResponseEntity<Page<JobRunLogDto>> getJobRunLogs(
+    public ResponseEntity<CursorPage<JobRunLogDto>> getJobRunLogs(
             @PathVariable String jobId,
             @PathVariable String runId,
-            Pageable pageable
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Entries per page, at most 200")
+            @RequestParam(defaultValue = "100") int limit,
+
+            @Parameter(description = "Add the approximate number of entries")
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(jobService.getJobRunLogs(jobId, runId, cursor, limit, includeTotal));
+    }
+
+    @GetMapping("/{jobId}/logs/search")
+    @Operation(summary = "Search the logs of all runs of a job")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public ResponseEntity<CursorPage<JobRunLogDto>> searchJobRunLogs(
+            @PathVariable String jobId,
+
+            @Parameter(description = "Words that must all occur; text in double quotes is matched as a phrase")
+            @RequestParam String q,
+
+            @Parameter(description = "Filter by log level")
+            @RequestParam(required = false) String level,
+
+            @Parameter(description = "Filter by log time from (inclusive)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+
+            @Parameter(description = "Filter by log time to (exclusive)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+
+            @Parameter(description = "nextCursor of the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Entries per page, at most 200")
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(jobService.searchJobRunLogs(jobId, q, level, from, to, cursor, limit));
+    }
+
+    @GetMapping(value = "/{jobId}/runs/{runId}/logs/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream job run logs as server-sent events")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    public SseEmitter streamJobRunLogs(
+            @PathVariable String jobId,
+            @PathVariable String runId,
+
+            @Parameter(description = "Id of the last event received; browsers send it when reconnecting")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+
+            @Parameter(description = "Same as Last-Event-ID, for clients that cannot set headers")
+            @RequestParam(required = false) Long after
     ) {
-        return ResponseEntity.ok(jobService.getJobRunLogs(jobId, runId, pageable));
+        // Checks that the run exists and belongs to the caller
+        jobService.getJobRun(jobId, runId);
+        long position = lastEventId != null ? lastEventId : after != null ? after : 0;
+        return runLogStreamer.stream(runId, position);
     }
 }
@@ -8,6 +8,7 @@ import com.chronos.api.dto.job.payload.FileSystemJobPayloadDto;
 import com.chronos.api.dto.job.payload.MessageQueueJobPayloadDto;
 import com.chronos.api.dto.job.payload.ReportJobPayloadDto;
 import com.chronos.api.dto.job.payload.DbToKafkaJobPayloadDto;
+import com.chronos.api.dto.job.payload.HttpBatchJobPayloadDto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -26,7 +27,8 @@ import java.util.Map;
     @JsonSubTypes.Type(value = FileSystemJobPayloadDto.class, name = "FILE_SYSTEM"),
     @JsonSubTypes.Type(value = MessageQueueJobPayloadDto.class, name = "MESSAGE_QUEUE"),
     @JsonSubTypes.Type(value = ReportJobPayloadDto.class, name = "REPORT"),
-    @JsonSubTypes.Type(value = DbToKafkaJobPayloadDto.class, name = "DB_TO_KAFKA")
+    @JsonSubTypes.Type(value = DbToKafkaJobPayloadDto.class, name = "DB_TO_KAFKA"),
+    @JsonSubTypes.Type(value = HttpBatchJobPayloadDto.class, name = "HTTP_BATCH")
 })
 public abstract class JobPayloadDto {
     private Map<String, Object> metadata;
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.Instant;
+import java.util.Map;
 
 @Data
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -19,4 +20,5 @@ public class JobRunSummaryDto {
     private String errorMessage;
     private String workerId;
     private Long durationMs;
+    private Map<String, Object> stats;
 }
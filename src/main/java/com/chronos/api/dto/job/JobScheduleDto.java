@@ -22,6 +22,10 @@ public class JobScheduleDto {
 
     private Long intervalSeconds;
 
+    private Long intervalMs;
+
+    private Boolean highFrequency;
+
     private String timezone;
 
     @NotNull(message = "Misfire policy is required")
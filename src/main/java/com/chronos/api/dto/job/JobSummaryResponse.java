@@ -0,0 +1,26 @@
+package com.chronos.api.dto.job;
+
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobStatus;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.enums.ScheduleType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobSummaryResponse {
+    private String id;
+    private String name;
+    private JobType type;
+    private JobStatus status;
+    private JobPriority priority;
+    private String ownerEmail;
+    private Instant createdAt;
+    private Instant lastRunAt;
+    private Instant nextRunAt;
+    private ScheduleType scheduleType;
+    private String cronExpression;
+}
@@ -20,4 +20,8 @@ public class RetryPolicyDto {
     private Integer backoffSeconds;
 
     private String[] retryOn;
+
+    @Min(value = 1, message = "Timeout seconds must be at least 1")
+    @Max(value = 86400, message = "Timeout seconds cannot exceed 86400")
+    private Integer timeoutSeconds;
 }
@@ -0,0 +1,47 @@
+package com.chronos.api.dto.job.payload;
+
+import com.chronos.api.dto.job.JobPayloadDto;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class HttpBatchJobPayloadDto extends JobPayloadDto {
+    @NotBlank(message = "HTTP method is required")
+    @Pattern(regexp = "^(GET|POST|PUT|DELETE|PATCH)$", message = "Invalid HTTP method")
+    private String httpMethod;
+
+    private Map<String, String> httpHeaders;
+    private String httpBody;
+
+    @Min(value = 1, message = "HTTP timeout seconds must be at least 1")
+    @Max(value = 3600, message = "HTTP timeout seconds cannot exceed 3600")
+    private Integer httpTimeoutSeconds;
+
+    @Min(value = 1, message = "HTTP rate limit must be at least 1 request per minute")
+    private Integer httpRateLimitPerMinute;
+
+    @Size(max = 100000, message = "A batch cannot exceed 100000 URLs")
+    private List<String> batchUrls;
+
+    // URL with a {value} placeholder, expanded once per template value
+    private String batchUrlTemplate;
+
+    @Size(max = 100000, message = "A batch cannot exceed 100000 template values")
+    private List<String> batchTemplateValues;
+
+    @Min(value = 1, message = "Batch concurrency must be at least 1")
+    @Max(value = 500, message = "Batch concurrency cannot exceed 500")
+    private Integer batchConcurrency = 10;
+
+    @Min(value = 0, message = "Batch max failures cannot be negative")
+    private Integer batchMaxFailures = 0;
+}
@@ -1,6 +1,8 @@
 package com.chronos.api.dto.job.payload;
 
 import com.chronos.api.dto.job.JobPayloadDto;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
@@ -21,4 +23,17 @@ public class HttpJobPayloadDto extends JobPayloadDto {
 
     private Map<String, String> httpHeaders;
     private String httpBody;
+
+    @Min(value = 1, message = "HTTP timeout seconds must be at least 1")
+    @Max(value = 3600, message = "HTTP timeout seconds cannot exceed 3600")
+    private Integer httpTimeoutSeconds;
+
+    @Min(value = 1, message = "HTTP rate limit must be at least 1 request per minute")
+    private Integer httpRateLimitPerMinute;
+
+    private Boolean httpCaptureResponse;
+
+    @Min(value = 0, message = "HTTP response preview cannot be negative")
+    @Max(value = 1024, message = "HTTP response preview cannot exceed 1024 KB")
+    private Integer httpResponsePreviewKb;
 }
@@ -0,0 +1,50 @@
+package com.chronos.api.dto.page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a listing read by key instead of by offset.
+ *
+ * A page is read with {@code WHERE key < :last ORDER BY key LIMIT n}, so a late page costs as much
+ * as the first and no count runs along with it. {@code nextCursor} is an opaque token for the next
+ * page, absent on the last one. {@code approximateTotal} is only filled in when asked for; it
+ * comes from a short-lived cache and may lag behind.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+    public static final int MAX_LIMIT = 200;
+
+    private List<T> items;
+    private String nextCursor;
+    private Long approximateTotal;
+
+    /**
+     * @param rows     up to {@code limit + 1} rows; an extra row only tells there is a next page
+     * @param cursorOf the cursor pointing after a row, see {@link Cursors}
+     */
+    public static <R, T> CursorPage<T> of(List<R> rows, int limit, Function<R, String> cursorOf,
+                                          Function<R, T> mapper) {
+        boolean more = rows.size() > limit;
+        List<R> page = more ? rows.subList(0, limit) : rows;
+        return new CursorPage<>(page.stream().map(mapper).toList(),
+                more ? cursorOf.apply(page.get(page.size() - 1)) : null, null);
+    }
+
+    public static int clampLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+
+    public CursorPage<T> withApproximateTotal(Long approximateTotal) {
+        this.approximateTotal = approximateTotal;
+        return this;
+    }
+}
@@ -0,0 +1,80 @@
+package com.chronos.api.dto.page;
+
+import com.chronos.exception.InvalidCursorException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Encodes the keys of the last row of a page into the cursor of the next one, and back.
+ *
+ * Cursors are base64 so clients treat them as opaque; a cursor that does not decode to the keys
+ * the listing expects is rejected with {@link InvalidCursorException}. A null or blank cursor
+ * stands for the first page, for which the decoders return null.
+ */
+public final class Cursors {
+
+    private static final String SEPARATOR = "\n";
+
+    private Cursors() {
+    }
+
+    public static String encode(Object... keys) {
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = String.valueOf(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String stringKey(String cursor) {
+        String[] keys = decode(cursor, 1);
+        return keys != null ? keys[0] : null;
+    }
+
+    public static Long longKey(String cursor) {
+        String[] keys = decode(cursor, 1);
+        try {
+            return keys != null ? Long.valueOf(keys[0]) : null;
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static TimeKey timeKey(String cursor) {
+        String[] keys = decode(cursor, 2);
+        try {
+            return keys != null ? new TimeKey(Instant.parse(keys[0]), Long.parseLong(keys[1])) : null;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private static String[] decode(String cursor, int count) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] keys;
+        try {
+            keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+        if (keys.length != count) {
+            throw new InvalidCursorException();
+        }
+        return keys;
+    }
+
+    /**
+     * Keys of listings ordered by creation time, with the id breaking ties.
+     */
+    @Value
+    public static class TimeKey {
+        Instant time;
+        long id;
+    }
+}
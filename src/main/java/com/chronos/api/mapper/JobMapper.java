@@ -6,6 +6,8 @@ import com.chronos.api.dto.job.JobScheduleDto;
 import com.chronos.api.dto.job.JobPayloadDto;
 import com.chronos.api.dto.job.RetryPolicyDto;
 import com.chronos.api.dto.job.JobRunSummaryDto;
+import com.chronos.api.dto.job.JobRunLogDto;
+import com.chronos.api.dto.job.JobSummaryResponse;
 import com.chronos.api.dto.job.payload.HttpJobPayloadDto;
 import com.chronos.api.dto.job.payload.ScriptJobPayloadDto;
 import com.chronos.api.dto.job.payload.DatabaseJobPayloadDto;
@@ -14,6 +16,7 @@ import com.chronos.api.dto.job.payload.FileSystemJobPayloadDto;
 import com.chronos.api.dto.job.payload.MessageQueueJobPayloadDto;
 import com.chronos.api.dto.job.payload.ReportJobPayloadDto;
 import com.chronos.api.dto.job.payload.DbToKafkaJobPayloadDto;
+import com.chronos.api.dto.job.payload.HttpBatchJobPayloadDto;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
 import com.chronos.domain.model.JobSchedule;
@@ -27,6 +30,9 @@ import com.chronos.domain.model.payload.FileSystemJobPayload;
 import com.chronos.domain.model.payload.MessageQueueJobPayload;
 import com.chronos.domain.model.payload.ReportJobPayload;
 import com.chronos.domain.model.payload.DbToKafkaJobPayload;
+import com.chronos.domain.model.payload.HttpBatchJobPayload;
+import com.chronos.repository.JobSummary;
+import com.chronos.service.runlog.RunLogEntry;
 import org.mapstruct.*;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -35,6 +41,8 @@ public interface JobMapper {
     @Mapping(target = "ownerEmail", source = "owner.email")
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     JobResponse toJobResponse(Job job);
+
+    JobSummaryResponse toJobSummaryResponse(JobSummary summary);
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "owner", ignore = true)
@@ -59,6 +67,7 @@ public interface JobMapper {
     @SubclassMapping(source = MessageQueueJobPayload.class, target = MessageQueueJobPayloadDto.class)
     @SubclassMapping(source = ReportJobPayload.class, target = ReportJobPayloadDto.class)
     @SubclassMapping(source = DbToKafkaJobPayload.class, target = DbToKafkaJobPayloadDto.class)
+    @SubclassMapping(source = HttpBatchJobPayload.class, target = HttpBatchJobPayloadDto.class)
     @Mapping(target = "metadata", source = "metadata")
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     JobPayloadDto toJobPayloadDto(JobPayload payload);
@@ -71,6 +80,7 @@ public interface JobMapper {
     @SubclassMapping(source = MessageQueueJobPayloadDto.class, target = MessageQueueJobPayload.class)
     @SubclassMapping(source = ReportJobPayloadDto.class, target = ReportJobPayload.class)
     @SubclassMapping(source = DbToKafkaJobPayloadDto.class, target = DbToKafkaJobPayload.class)
+    @SubclassMapping(source = HttpBatchJobPayloadDto.class, target = HttpBatchJobPayload.class)
     @Mapping(target = "metadata", source = "metadata")
     @Mapping(target = "job", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -104,8 +114,11 @@ public interface JobMapper {
     @Mapping(target = "errorMessage", source = "errorMessage")
     @Mapping(target = "workerId", source = "workerId")
     @Mapping(target = "durationMs", source = "durationMs")
+    @Mapping(target = "stats", source = "stats")
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     JobRunSummaryDto toJobRunSummaryDto(JobRun run);
+
+    JobRunLogDto toJobRunLogDto(RunLogEntry entry);
     
     @AfterMapping
     default void validatePayload(@MappingTarget Job job) {
@@ -125,6 +138,7 @@ public interface JobMapper {
         if (payload instanceof MessageQueueJobPayload) return new MessageQueueJobPayloadDto();
         if (payload instanceof ReportJobPayload) return new ReportJobPayloadDto();
         if (payload instanceof DbToKafkaJobPayload) return new DbToKafkaJobPayloadDto();
+        if (payload instanceof HttpBatchJobPayload) return new HttpBatchJobPayloadDto();
         throw new IllegalArgumentException("Unknown payload type: " + payload.getClass());
     }
     
@@ -139,6 +153,7 @@ public interface JobMapper {
         if (dto instanceof MessageQueueJobPayloadDto) return new MessageQueueJobPayload();
         if (dto instanceof ReportJobPayloadDto) return new ReportJobPayload();
         if (dto instanceof DbToKafkaJobPayloadDto) return new DbToKafkaJobPayload();
+        if (dto instanceof HttpBatchJobPayloadDto) return new HttpBatchJobPayload();
         throw new IllegalArgumentException("Unknown payload type: " + dto.getClass());
     }
 }
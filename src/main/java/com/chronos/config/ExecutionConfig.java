@@ -0,0 +1,110 @@
+package com.chronos.config;
+
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.service.execution.DispatchPolicy;
+import com.chronos.service.execution.DispatchPolicyType;
+import com.chronos.service.execution.EarliestDeadlineDispatchPolicy;
+import com.chronos.service.execution.ExecutionMode;
+import com.chronos.service.execution.PriorityAgingDispatchPolicy;
+import com.chronos.service.execution.RejectionPolicy;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.ShortestExpectedDurationDispatchPolicy;
+import lombok.Data;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+public class ExecutionConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.job.execution")
+    public ExecutionProperties executionProperties() {
+        return new ExecutionProperties();
+    }
+
+    // Applications can replace the configured policy by declaring their own DispatchPolicy bean
+    @Bean
+    @ConditionalOnMissingBean
+    public DispatchPolicy dispatchPolicy(ExecutionProperties properties) {
+        return switch (properties.getDispatchPolicy()) {
+            case FIFO -> DispatchPolicy.FIFO;
+            case PRIORITY_AGING -> new PriorityAgingDispatchPolicy(properties.getAgingInterval());
+            case EARLIEST_DEADLINE_FIRST -> new EarliestDeadlineDispatchPolicy(properties.getMaxWait());
+            case SHORTEST_EXPECTED_DURATION -> new ShortestExpectedDurationDispatchPolicy();
+        };
+    }
+
+    @Data
+    public static class ExecutionProperties {
+        // Where admitted runs execute once the Quartz thread hands them off
+        private ExecutionMode mode = ExecutionMode.VIRTUAL_THREADS;
+
+        // Worker count when running in PLATFORM_THREADS mode
+        private int platformPoolSize = 20;
+
+        // Per-type concurrency limits, types without an entry use the default
+        private int defaultTypeConcurrency = 20;
+        private Map<JobType, Integer> typeConcurrency = new EnumMap<>(JobType.class);
+
+        // Caps shared by all types whose executor declares the resource class, unlimited if absent
+        private Map<ResourceClass, Integer> resourceConcurrency = new EnumMap<>(ResourceClass.class);
+
+        // Per-type admission queue depth for runs waiting on a slot, 0 disables queueing
+        private int defaultQueueCapacity = 100;
+        private Map<JobType, Integer> queueCapacity = new EnumMap<>(JobType.class);
+
+        // Applied when a run arrives at a full queue; rejected runs are recorded as failed attempts
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.REJECT;
+
+        // How long a single attempt may run unless its retry policy sets a timeout
+        private Duration defaultTimeout = Duration.ofMinutes(30);
+
+        // Order in which queued runs are dispatched as slots free up
+        private DispatchPolicyType dispatchPolicy = DispatchPolicyType.PRIORITY_AGING;
+
+        // PRIORITY_AGING: queue time after which a run is promoted one priority level
+        private Duration agingInterval = Duration.ofSeconds(30);
+
+        // EARLIEST_DEADLINE_FIRST: how long a run of each priority may wait before it is due
+        private Map<JobPriority, Duration> maxWait = new EnumMap<>(Map.of(
+                JobPriority.HIGH, Duration.ofSeconds(5),
+                JobPriority.MEDIUM, Duration.ofSeconds(60),
+                JobPriority.LOW, Duration.ofMinutes(10)));
+
+        // Fast-fails runs against a downstream target that keeps failing to respond
+        private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+        public int concurrencyFor(JobType type) {
+            return typeConcurrency.getOrDefault(type, defaultTypeConcurrency);
+        }
+
+        public int concurrencyFor(ResourceClass resourceClass) {
+            return resourceConcurrency.getOrDefault(resourceClass, Integer.MAX_VALUE);
+        }
+
+        public int queueCapacityFor(JobType type) {
+            return queueCapacity.getOrDefault(type, defaultQueueCapacity);
+        }
+    }
+
+    @Data
+    public static class CircuitBreakerProperties {
+        private boolean enabled = true;
+
+        // Consecutive connection failures or timeouts against a target that open its breaker
+        private int failureThreshold = 5;
+
+        // How long an open breaker rejects runs before letting probes through
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        // Runs let through at once while half open; the first outcome closes or reopens it
+        private int halfOpenProbes = 1;
+    }
+}
@@ -0,0 +1,102 @@
+package com.chronos.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Client for HTTP jobs. Unlike the RestTemplate used for notifications it keeps connections
+ * alive between runs, multiplexes requests over HTTP/2 where the server supports it and sends
+ * asynchronously, so a run waiting for a response holds no thread.
+ */
+@Configuration
+public class HttpJobClientConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.job.http")
+    public HttpJobProperties httpJobProperties() {
+        return new HttpJobProperties();
+    }
+
+    @Bean
+    public HttpClient httpJobClient(HttpJobProperties properties) {
+        return HttpClient.newBuilder()
+                .version(properties.getVersion())
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                // Only runs response handling, the exchanges themselves are non-blocking
+                .executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chronos-http-", 0).factory()))
+                .build();
+    }
+
+    @Data
+    public static class HttpJobProperties {
+        // HTTP_2 falls back to HTTP/1.1 for servers that do not negotiate it
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        // Time allowed for a response unless the job's payload sets httpTimeoutSeconds
+        private Duration requestTimeout = Duration.ofSeconds(30);
+
+        // Requests in flight per host; further runs against the host wait without holding a thread
+        private int maxConnectionsPerHost = 50;
+
+        // Token bucket applied to every host without its own; unthrottled when not set
+        private RateLimit rateLimit;
+
+        // Longest a request waits for a token before its run fails instead
+        private Duration maxThrottleWait = Duration.ofSeconds(30);
+
+        // Overrides by host name, or host:port when a port is given
+        private Map<String, HostLimits> hosts = new HashMap<>();
+
+        public HostLimits limitsFor(URI uri) {
+            HostLimits limits = uri.getAuthority() != null ? hosts.get(uri.getAuthority()) : null;
+            return limits != null || uri.getHost() == null ? limits : hosts.get(uri.getHost());
+        }
+
+        public RateLimit rateLimitFor(URI uri) {
+            HostLimits limits = limitsFor(uri);
+            return limits != null && limits.getRateLimit() != null ? limits.getRateLimit() : rateLimit;
+        }
+
+        public int maxConnectionsFor(URI uri) {
+            HostLimits limits = limitsFor(uri);
+            return limits != null && limits.getMaxConnections() != null
+                    ? limits.getMaxConnections() : maxConnectionsPerHost;
+        }
+    }
+
+    @Data
+    public static class HostLimits {
+        private RateLimit rateLimit;
+        private Integer maxConnections;
+    }
+
+    @Data
+    public static class RateLimit {
+        // Requests allowed per period, refilled gradually over the period
+        private int requests;
+
+        private Duration period = Duration.ofSeconds(1);
+
+        // Requests that may be sent at once after a quiet spell, requests when not set
+        private Integer burst;
+
+        public static RateLimit perMinute(int requests) {
+            RateLimit limit = new RateLimit();
+            limit.setRequests(requests);
+            limit.setPeriod(Duration.ofMinutes(1));
+            return limit;
+        }
+    }
+}
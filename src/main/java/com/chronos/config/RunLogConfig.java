@@ -0,0 +1,85 @@
+package com.chronos.config;
+
+import com.chronos.repository.JobRunLogRepository;
+import com.chronos.service.runlog.DatabaseRunLogStore;
+import com.chronos.service.runlog.RunLogStore;
+import com.chronos.service.runlog.RunLogStoreType;
+import com.chronos.service.runlog.SegmentRunLogStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class RunLogConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.job.run-log")
+    public RunLogProperties runLogProperties() {
+        return new RunLogProperties();
+    }
+
+    @Bean
+    public RunLogStore runLogStore(RunLogProperties properties,
+                                   JdbcTemplate jdbcTemplate,
+                                   JobRunLogRepository jobRunLogRepository,
+                                   ObjectMapper objectMapper) {
+        return switch (properties.getStore()) {
+            case DATABASE -> new DatabaseRunLogStore(jdbcTemplate, jobRunLogRepository, objectMapper);
+            case SEGMENTS -> new SegmentRunLogStore(properties.getSegments(), objectMapper);
+        };
+    }
+
+    @Data
+    public static class RunLogProperties {
+        private RunLogStoreType store = RunLogStoreType.DATABASE;
+
+        // Entries waiting to be written; entries logged while it is full are dropped
+        private int bufferCapacity = 10_000;
+
+        // Entries written with one statement, or one file write
+        private int batchSize = 500;
+
+        // How long the writer waits for more entries after the first of a batch
+        private Duration linger = Duration.ofMillis(20);
+
+        private Segments segments = new Segments();
+
+        private Tail tail = new Tail();
+    }
+
+    @Data
+    public static class Segments {
+        // Local to the node; logs of runs executed on other nodes are not visible here
+        private Path directory = Path.of("data", "run-logs");
+
+        // Every this many entries of a run the index keeps the position of one
+        private int checkpointInterval = 64;
+    }
+
+    @Data
+    public static class Tail {
+        // Latest entries kept in memory per run executing on the node
+        private int bufferLines = 1000;
+
+        // Entries a streaming client may fall behind by before it is cut off to resume from the store
+        private int subscriberBuffer = 1000;
+
+        // Entries read from the store at a time for the history of a stream
+        private int historyPageSize = 500;
+
+        // How often the store is read for runs executing on another node
+        private Duration pollInterval = Duration.ofSeconds(2);
+
+        // Comment sent on a quiet stream, so proxies keep it open and a gone client is noticed
+        private Duration heartbeat = Duration.ofSeconds(15);
+
+        // Streams are closed after this long, clients reconnect with the last event id
+        private Duration timeout = Duration.ofMinutes(30);
+    }
+}
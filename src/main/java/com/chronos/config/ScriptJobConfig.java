@@ -0,0 +1,68 @@
+package com.chronos.config;
+
+import com.chronos.service.executor.ScriptRunnerMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of SCRIPT jobs. Their output is read off the thread running the script and stored in
+ * chunks of many lines rather than one log entry per line. Scripts run in a new shell each, or in
+ * a pool of shells started ahead of time, which saves starting bash for short frequent scripts.
+ */
+@Configuration
+public class ScriptJobConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "app.job.script")
+    public ScriptJobProperties scriptJobProperties() {
+        return new ScriptJobProperties();
+    }
+
+    @Data
+    public static class ScriptJobProperties {
+        private Output output = new Output();
+        private Runner runner = new Runner();
+    }
+
+    @Data
+    public static class Output {
+        // Output is stored as one log entry per chunk; kept well under the 64 KB of a TEXT column
+        private DataSize chunkSize = DataSize.ofKilobytes(32);
+
+        // A partial chunk is stored once its first line is this old
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        // Lines read but not stored yet; a script writing faster than they are stored blocks
+        private int bufferLines = 10_000;
+
+        // Output beyond this is read and dropped, the run log records how much
+        private DataSize maxCapturedSize = DataSize.ofMegabytes(10);
+
+        // Longer lines are split
+        private int maxLineLength = 8192;
+    }
+
+    @Data
+    public static class Runner {
+        private ScriptRunnerMode mode = ScriptRunnerMode.FORK;
+
+        // Idle shells kept started in WARM_POOL mode; busier periods start more, which are not kept
+        private int poolSize = 5;
+
+        // A shell is replaced after this many runs, and after any run that failed
+        private int maxRunsPerWorker = 100;
+
+        // Directory pooled scripts run in; a new temporary directory when not set
+        private Path workingDirectory;
+
+        // The only environment variables pooled shells get from the scheduler's environment
+        private List<String> inheritEnvironment = List.of("PATH", "HOME", "LANG", "LC_ALL", "TZ", "TMPDIR");
+    }
+}
@@ -14,7 +14,8 @@ import java.time.Instant;
 @Builder
 public class DLQEvent {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dlq_events_seq")
+    @SequenceGenerator(name = "dlq_events_seq", sequenceName = "dlq_events_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,7 +23,7 @@ public class Job {
     @Id
     private String id; // ULID
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
 
@@ -54,6 +54,9 @@ public class Job {
     @Column(name = "worker_id")
     private String workerId;
 
+    @Version
+    private Long version;
+
     @OneToOne(mappedBy = "job", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     @JsonManagedReference
     private JobSchedule schedule;
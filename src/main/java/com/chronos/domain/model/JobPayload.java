@@ -28,7 +28,8 @@ import java.util.Map;
     @JsonSubTypes.Type(value = MessageQueueJobPayload.class, name = "MESSAGE_QUEUE"),
     @JsonSubTypes.Type(value = CacheJobPayload.class, name = "CACHE"),
     @JsonSubTypes.Type(value = ReportJobPayload.class, name = "REPORT"),
-    @JsonSubTypes.Type(value = DbToKafkaJobPayload.class, name = "DB_TO_KAFKA")
+    @JsonSubTypes.Type(value = DbToKafkaJobPayload.class, name = "DB_TO_KAFKA"),
+    @JsonSubTypes.Type(value = HttpBatchJobPayload.class, name = "HTTP_BATCH")
 })
 public abstract class JobPayload {
     @Id
@@ -1,12 +1,15 @@
 package com.chronos.domain.model;
 
 import com.chronos.domain.model.enums.JobOutcome;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Type;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Table(name = "job_runs")
@@ -50,6 +53,11 @@ public class JobRun {
     @Column(name = "duration_ms")
     private Long durationMs;
 
+    // Aggregate statistics of runs that fan out, such as HTTP_BATCH
+    @Column(name = "stats", columnDefinition = "json")
+    @Type(JsonType.class)
+    private Map<String, Object> stats;
+
     @OneToMany(mappedBy = "run", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<JobRunLog> logs = new ArrayList<>();
@@ -17,6 +17,7 @@ import java.util.Map;
 @Builder
 public class JobRunLog {
     @Id
+    // Rows are inserted by DatabaseRunLogStore with multi-row statements, which leave ids to the database
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
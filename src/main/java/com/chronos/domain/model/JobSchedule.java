@@ -17,7 +17,8 @@ import java.time.Instant;
 @Builder
 public class JobSchedule {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_schedules_seq")
+    @SequenceGenerator(name = "job_schedules_seq", sequenceName = "job_schedules_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -38,6 +39,15 @@ public class JobSchedule {
     @Column(name = "interval_seconds")
     private Long intervalSeconds;
 
+    // Millisecond interval for high-frequency schedules, takes precedence over intervalSeconds
+    @Column(name = "interval_ms")
+    private Long intervalMs;
+
+    // Fired from the in-memory timing wheel rather than Quartz
+    @Column(name = "high_frequency", nullable = false)
+    @Builder.Default
+    private boolean highFrequency = false;
+
     @Column(nullable = false)
     private String timezone;
 
@@ -45,6 +55,13 @@ public class JobSchedule {
     @Column(name = "misfire_policy", nullable = false)
     private MisfirePolicy misfirePolicy;
 
+    public Long getEffectiveIntervalMs() {
+        if (intervalMs != null) {
+            return intervalMs;
+        }
+        return intervalSeconds != null ? intervalSeconds * 1000 : null;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (timezone == null) {
@@ -39,6 +39,10 @@ public class RetryPolicy {
     @Type(JsonType.class)
     private List<String> retryOn;
 
+    // Limit for a single attempt, the configured default applies when null
+    @Column(name = "timeout_seconds")
+    private Integer timeoutSeconds;
+
     @PrePersist
     protected void onCreate() {
         if (maxAttempts == null) {
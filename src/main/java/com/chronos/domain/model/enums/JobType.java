@@ -10,5 +10,6 @@ public enum JobType {
     EMAIL,
     CACHE,
     REPORT,
-    DB_TO_KAFKA
+    DB_TO_KAFKA,
+    HTTP_BATCH
 }
@@ -0,0 +1,8 @@
+package com.chronos.domain.model.enums;
+
+public enum TransitionResult {
+    // The job was in the expected state and has been moved to the new one
+    APPLIED,
+    // Another transition got there first; the job was left untouched
+    LOST_RACE
+}
@@ -0,0 +1,97 @@
+package com.chronos.domain.model.payload;
+
+import com.chronos.domain.model.JobPayload;
+import com.chronos.domain.model.enums.JobType;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
+import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Many requests that only differ by URL, sent in one run. The URLs are either listed or
+ * expanded from a template with a {value} placeholder, once per template value.
+ */
+@Getter
+@Setter
+@Entity
+@DiscriminatorValue("HTTP_BATCH")
+@JsonTypeName("HTTP_BATCH")
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class HttpBatchJobPayload extends JobPayload {
+    public static final String TEMPLATE_PLACEHOLDER = "{value}";
+
+    @NotBlank(message = "HTTP method is required")
+    @Pattern(regexp = "^(GET|POST|PUT|DELETE|PATCH)$", message = "Invalid HTTP method")
+    @Column(name = "http_method")
+    private String httpMethod;
+
+    @Column(name = "http_body")
+    private String httpBody;
+
+    @Column(name = "http_headers", columnDefinition = "json")
+    @Type(JsonType.class)
+    private Map<String, String> httpHeaders;
+
+    // Time allowed for each response, app.job.http.request-timeout applies when null
+    @Column(name = "http_timeout_seconds")
+    private Integer httpTimeoutSeconds;
+
+    // Requests per minute to each host for this job alone, instead of the host's configured rate
+    @Column(name = "http_rate_limit_per_minute")
+    private Integer httpRateLimitPerMinute;
+
+    @Column(name = "batch_urls", columnDefinition = "json")
+    @Type(JsonType.class)
+    private List<String> batchUrls;
+
+    @Column(name = "batch_url_template")
+    private String batchUrlTemplate;
+
+    @Column(name = "batch_template_values", columnDefinition = "json")
+    @Type(JsonType.class)
+    private List<String> batchTemplateValues;
+
+    // Requests of the batch in flight at once
+    @Column(name = "batch_concurrency")
+    private Integer batchConcurrency = 10;
+
+    // Failed requests tolerated before the run fails
+    @Column(name = "batch_max_failures")
+    private Integer batchMaxFailures = 0;
+
+    @Override
+    public void validate(JobType type) {
+        if (type != JobType.HTTP_BATCH) {
+            throw new IllegalArgumentException("Invalid job type for HttpBatchJobPayload: " + type);
+        }
+        if (httpMethod == null || httpMethod.isBlank()) {
+            throw new IllegalArgumentException("HTTP method is required for HTTP_BATCH jobs");
+        }
+        boolean hasUrls = batchUrls != null && !batchUrls.isEmpty();
+        boolean hasTemplate = batchUrlTemplate != null && !batchUrlTemplate.isBlank();
+        if (hasUrls == hasTemplate) {
+            throw new IllegalArgumentException("HTTP_BATCH jobs need either batch URLs or a URL template");
+        }
+        if (hasTemplate && (batchTemplateValues == null || batchTemplateValues.isEmpty())) {
+            throw new IllegalArgumentException("Template values are required with a URL template");
+        }
+        if (hasTemplate && !batchUrlTemplate.contains(TEMPLATE_PLACEHOLDER)) {
+            throw new IllegalArgumentException("URL template must contain " + TEMPLATE_PLACEHOLDER);
+        }
+        if (batchConcurrency != null && batchConcurrency <= 0) {
+            throw new IllegalArgumentException("Batch concurrency must be positive");
+        }
+        if (batchMaxFailures != null && batchMaxFailures < 0) {
+            throw new IllegalArgumentException("Batch max failures cannot be negative");
+        }
+    }
+}
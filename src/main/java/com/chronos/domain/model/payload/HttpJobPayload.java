@@ -39,6 +39,22 @@ public class HttpJobPayload extends JobPayload {
     @Type(JsonType.class)
     private Map<String, String> httpHeaders;
 
+    // Time allowed for the response, app.job.http.request-timeout applies when null
+    @Column(name = "http_timeout_seconds")
+    private Integer httpTimeoutSeconds;
+
+    // Requests per minute to each host for this job alone, instead of the host's configured rate
+    @Column(name = "http_rate_limit_per_minute")
+    private Integer httpRateLimitPerMinute;
+
+    // Streams the response body to compute its size and SHA-256 digest instead of discarding it
+    @Column(name = "http_capture_response")
+    private Boolean httpCaptureResponse;
+
+    // Leading part of the decoded body kept in the run log when the response is captured
+    @Column(name = "http_response_preview_kb")
+    private Integer httpResponsePreviewKb;
+
     @Override
     public void validate(JobType type) {
         if (type != JobType.HTTP) {
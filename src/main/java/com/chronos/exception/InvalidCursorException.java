@@ -0,0 +1,9 @@
+package com.chronos.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends ChronosException {
+    public InvalidCursorException() {
+        super("Invalid page cursor", HttpStatus.BAD_REQUEST, "INVALID_CURSOR");
+    }
+}
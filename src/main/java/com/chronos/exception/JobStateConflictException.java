@@ -0,0 +1,9 @@
+package com.chronos.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class JobStateConflictException extends ChronosException {
+    public JobStateConflictException(String message) {
+        super(message, HttpStatus.CONFLICT, "JOB_STATE_CONFLICT");
+    }
+}
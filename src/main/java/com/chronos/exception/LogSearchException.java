@@ -0,0 +1,18 @@
+package com.chronos.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class LogSearchException extends ChronosException {
+    public LogSearchException(String message, HttpStatus status) {
+        super(message, status, "LOG_SEARCH_FAILED");
+    }
+
+    public static LogSearchException invalidQuery(String reason) {
+        return new LogSearchException("Invalid log search: " + reason, HttpStatus.BAD_REQUEST);
+    }
+
+    public static LogSearchException unsupported(String store) {
+        return new LogSearchException("Log search is not available with the " + store + " run log store",
+                HttpStatus.NOT_IMPLEMENTED);
+    }
+}
@@ -0,0 +1,15 @@
+package com.chronos.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class RunLogUnavailableException extends ChronosException {
+    public RunLogUnavailableException(String message, HttpStatus status) {
+        super(message, status, "RUN_LOG_UNAVAILABLE");
+    }
+
+    public static RunLogUnavailableException notOnThisNode(String runId) {
+        return new RunLogUnavailableException("Log of run " + runId + " is not stored on this node; "
+                + "the segments run log store keeps it on the node that executed the run",
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -2,7 +2,6 @@ package com.chronos.repository;
 
 import com.chronos.domain.model.AuditEvent;
 import com.chronos.domain.model.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,14 +13,6 @@ import java.util.List;
 @Repository
 public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
     
-    Page<AuditEvent> findByUser(User user, Pageable pageable);
-    
-    @Query("SELECT e FROM AuditEvent e WHERE e.entityType = :entityType AND e.entityId = :entityId")
-    Page<AuditEvent> findByEntity(String entityType, String entityId, Pageable pageable);
-    
-    @Query("SELECT e FROM AuditEvent e WHERE e.action = :action")
-    Page<AuditEvent> findByAction(String action, Pageable pageable);
-    
     @Query("SELECT e FROM AuditEvent e " +
            "WHERE e.createdAt >= :from AND e.createdAt <= :to")
     List<AuditEvent> findBetween(Instant from, Instant to);
@@ -36,5 +27,21 @@ public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
            "ORDER BY e.createdAt DESC")
     List<AuditEvent> getEntityHistory(String entityType, String entityId);
     
+    String FILTER = "WHERE (:entityType IS NULL OR (e.entityType = :entityType AND e.entityId = :entityId)) " +
+                    "AND (:action IS NULL OR e.action = :action) " +
+                    "AND (:userId IS NULL OR e.user.id = :userId) ";
+
+    // Newest first, keyed on the creation time with the id breaking ties; null filters are left out
+    // and the Pageable only carries the limit
+    @Query("SELECT e FROM AuditEvent e " + FILTER +
+           "AND (:beforeTime IS NULL OR e.createdAt < :beforeTime " +
+           "     OR (e.createdAt = :beforeTime AND e.id < :beforeId)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<AuditEvent> findPage(String entityType, String entityId, String action, Long userId,
+                              Instant beforeTime, Long beforeId, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM AuditEvent e " + FILTER)
+    long countPage(String entityType, String entityId, String action, Long userId);
+    
     void deleteByCreatedAtBefore(Instant before);
 }
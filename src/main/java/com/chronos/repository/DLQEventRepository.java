@@ -22,10 +22,17 @@ public interface DLQEventRepository extends JpaRepository<DLQEvent, Long> {
     @Query("SELECT COUNT(e) FROM DLQEvent e WHERE e.job = :job")
     long countByJob(Job job);
     
+    // Newest first, keyed on the creation time with the id breaking ties; the Pageable only carries the limit
     @Query("SELECT e FROM DLQEvent e " +
-           "WHERE e.reason LIKE %:reasonContains% " +
-           "ORDER BY e.createdAt DESC")
-    Page<DLQEvent> searchByReason(String reasonContains, Pageable pageable);
+           "WHERE (:reasonContains IS NULL OR e.reason LIKE CONCAT('%', :reasonContains, '%')) " +
+           "AND (:beforeTime IS NULL OR e.createdAt < :beforeTime " +
+           "     OR (e.createdAt = :beforeTime AND e.id < :beforeId)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<DLQEvent> findPage(String reasonContains, Instant beforeTime, Long beforeId, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM DLQEvent e " +
+           "WHERE (:reasonContains IS NULL OR e.reason LIKE CONCAT('%', :reasonContains, '%'))")
+    long countPage(String reasonContains);
     
     void deleteByJobAndCreatedAtBefore(Job job, Instant before);
     
@@ -0,0 +1,143 @@
+package com.chronos.repository;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Claims due one-time jobs for this node with row locks that other nodes skip, so several nodes
+ * can pull work from the jobs table concurrently without blocking each other.
+ *
+ * Requires MySQL 8 (or another database supporting FOR UPDATE SKIP LOCKED).
+ *
+ * Every update of a job bumps its version, like the transitions in {@link JobRepository}, so an
+ * entity loaded before a claim cannot be saved over it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobClaimRepository {
+
+    // Pending runs are retry runs pre-created by the failure handler; they are reused, not duplicated
+    private static final String SELECT_DUE_JOBS =
+            "SELECT j.id AS job_id, j.next_run_at, r.id AS run_id, r.attempt " +
+            "FROM jobs j " +
+            "JOIN job_schedules s ON s.job_id = j.id " +
+            "LEFT JOIN job_runs r ON r.job_id = j.id AND r.start_time IS NULL AND r.end_time IS NULL " +
+            "WHERE j.status = 'SCHEDULED' AND j.next_run_at <= ? " +
+            "AND s.schedule_type = 'ONCE' AND s.high_frequency = FALSE " +
+            "ORDER BY CASE j.priority WHEN 'HIGH' THEN 0 WHEN 'MEDIUM' THEN 1 ELSE 2 END, j.next_run_at " +
+            "LIMIT ? " +
+            "FOR UPDATE OF j SKIP LOCKED";
+
+    private static final String MARK_JOB_RUNNING =
+            "UPDATE jobs SET status = 'RUNNING', next_run_at = NULL, last_run_at = ?, worker_id = ?, " +
+            "version = version + 1 " +
+            "WHERE id = ? AND status = 'SCHEDULED'";
+
+    private static final String INSERT_RUN =
+            "INSERT INTO job_runs (id, job_id, scheduled_time, start_time, worker_id, attempt) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String START_PENDING_RUN =
+            "UPDATE job_runs SET start_time = ?, worker_id = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value
+    public static class ClaimedRun {
+        String jobId;
+        String runId;
+        int attempt;
+        Instant scheduledTime;
+        Instant startTime;
+        // True if the run row existed before the claim (a pre-created retry run)
+        boolean reused;
+    }
+
+    /**
+     * Moves up to {@code limit} due jobs from SCHEDULED to RUNNING and starts a run for each,
+     * in a single transaction of one locking select and three batched statements.
+     */
+    @Transactional
+    public List<ClaimedRun> claimDueJobs(Instant now, int limit, String workerId) {
+        Map<String, ClaimedRun> claims = new LinkedHashMap<>();
+        Timestamp startTime = Timestamp.from(now);
+        jdbcTemplate.query(SELECT_DUE_JOBS, rs -> {
+            String jobId = rs.getString("job_id");
+            String pendingRunId = rs.getString("run_id");
+            ClaimedRun existing = claims.get(jobId);
+            // Several pending runs for one job should not happen; keep the latest attempt
+            if (existing != null && (pendingRunId == null || rs.getInt("attempt") <= existing.getAttempt())) {
+                return;
+            }
+            Timestamp nextRunAt = rs.getTimestamp("next_run_at");
+            claims.put(jobId, pendingRunId != null
+                    ? new ClaimedRun(jobId, pendingRunId, rs.getInt("attempt"), nextRunAt.toInstant(), now, true)
+                    : new ClaimedRun(jobId, UlidCreator.getUlid().toString(), 1, nextRunAt.toInstant(), now, false));
+        }, startTime, limit);
+
+        if (claims.isEmpty()) {
+            return List.of();
+        }
+
+        List<ClaimedRun> claimed = new ArrayList<>(claims.values());
+        jdbcTemplate.batchUpdate(MARK_JOB_RUNNING, claimed.stream()
+                .map(c -> new Object[]{startTime, workerId, c.getJobId()})
+                .toList());
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> starts = new ArrayList<>();
+        for (ClaimedRun claim : claimed) {
+            if (claim.isReused()) {
+                starts.add(new Object[]{startTime, workerId, claim.getRunId()});
+            } else {
+                inserts.add(new Object[]{claim.getRunId(), claim.getJobId(),
+                        Timestamp.from(claim.getScheduledTime()), startTime, workerId, claim.getAttempt()});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_RUN, inserts);
+        }
+        if (!starts.isEmpty()) {
+            jdbcTemplate.batchUpdate(START_PENDING_RUN, starts);
+        }
+        return claimed;
+    }
+
+    /**
+     * Hands a claimed job back so that the next poll, on any node, picks it up again.
+     */
+    @Transactional
+    public void releaseClaim(ClaimedRun claim) {
+        jdbcTemplate.update("UPDATE jobs SET status = 'SCHEDULED', next_run_at = ?, version = version + 1 " +
+                "WHERE id = ? AND status = 'RUNNING'",
+                Timestamp.from(claim.getScheduledTime()), claim.getJobId());
+        if (claim.isReused()) {
+            jdbcTemplate.update("UPDATE job_runs SET start_time = NULL, worker_id = NULL WHERE id = ?", claim.getRunId());
+        } else {
+            jdbcTemplate.update("DELETE FROM job_runs WHERE id = ? AND end_time IS NULL", claim.getRunId());
+        }
+    }
+
+    /**
+     * Makes a scheduled one-time job due immediately.
+     *
+     * @return false if the job is not a claimable scheduled job
+     */
+    public boolean requestImmediateRun(String jobId, Instant now) {
+        return jdbcTemplate.update(
+                "UPDATE jobs j JOIN job_schedules s ON s.job_id = j.id SET j.next_run_at = ?, j.version = j.version + 1 " +
+                "WHERE j.id = ? AND j.status = 'SCHEDULED' AND s.schedule_type = 'ONCE' AND s.high_frequency = FALSE",
+                Timestamp.from(now), jobId) > 0;
+    }
+}
@@ -5,6 +5,7 @@ import com.chronos.domain.model.User;
 import com.chronos.domain.model.enums.JobStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,38 +14,81 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, String>, JpaSpecificationExecutor<Job> {
-    
-    Page<Job> findByOwner(User owner, Pageable pageable);
-    
-    Page<Job> findByOwnerAndStatus(User owner, JobStatus status, Pageable pageable);
-    
-    @Query("SELECT j FROM Job j WHERE j.owner = :owner AND j.name LIKE %:nameContains%")
-    Page<Job> findByOwnerAndNameContaining(User owner, String nameContains, Pageable pageable);
-    
-    @Query("SELECT j FROM Job j " +
-           "LEFT JOIN j.schedule s " +
-           "WHERE j.owner = :owner " +
-           "AND (s.runAt BETWEEN :from AND :to OR s.cronExpression IS NOT NULL)")
-    Page<Job> findByOwnerAndNextRunBetween(User owner, Instant from, Instant to, Pageable pageable);
+
+    String SUMMARY = "SELECT j.id AS id, j.name AS name, j.type AS type, j.status AS status, " +
+                     "j.priority AS priority, o.email AS ownerEmail, j.createdAt AS createdAt, " +
+                     "j.lastRunAt AS lastRunAt, j.nextRunAt AS nextRunAt, " +
+                     "s.scheduleType AS scheduleType, s.cronExpression AS cronExpression " +
+                     "FROM Job j JOIN j.owner o LEFT JOIN j.schedule s ";
+    String SUMMARY_COUNT = "SELECT COUNT(j) FROM Job j LEFT JOIN j.schedule s ";
+    // Null filters are left out
+    String SUMMARY_FILTER = "WHERE j.owner = :owner " +
+                            "AND (:status IS NULL OR j.status = :status) " +
+                            "AND (:nameContains IS NULL OR j.name LIKE CONCAT('%', :nameContains, '%')) " +
+                            "AND (:from IS NULL OR :to IS NULL " +
+                            "     OR s.runAt BETWEEN :from AND :to OR s.cronExpression IS NOT NULL) ";
+
+    // Listings read summaries only; payloads such as scripts and request bodies stay in the database.
+    // Pages are keyed on the ULID id, which sorts by creation time; the Pageable only carries the limit.
+    @Query(SUMMARY + SUMMARY_FILTER + "AND (:beforeId IS NULL OR j.id < :beforeId) ORDER BY j.id DESC")
+    List<JobSummary> findSummaries(User owner, JobStatus status, String nameContains, Instant from, Instant to,
+                                   String beforeId, Pageable pageable);
+
+    @Query(SUMMARY_COUNT + SUMMARY_FILTER)
+    long countSummaries(User owner, JobStatus status, String nameContains, Instant from, Instant to);
+
+    // The full definition in one query, for the detail view
+    @EntityGraph(attributePaths = {"owner", "schedule", "payload", "retryPolicy"})
+    @Query("SELECT j FROM Job j WHERE j.id = :id")
+    Optional<Job> findWithDefinitionById(String id);
     
     Optional<Job> findByIdAndOwner(String id, User owner);
     
     boolean existsByNameAndOwner(String name, User owner);
     
     @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("UPDATE Job j SET j.status = :status WHERE j.id = :jobId")
+    @Query("UPDATE Job j SET j.status = :status, j.version = j.version + 1 WHERE j.id = :jobId")
     @Transactional
     int updateJobStatus(String jobId, JobStatus status);
     
     @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("UPDATE Job j SET j.status = :status WHERE j.status != :status")
+    @Query("UPDATE Job j SET j.status = :status, j.version = j.version + 1 WHERE j.status != :status")
     @Transactional
     int updateAllJobStatus(JobStatus status);
+
+    // Status transitions are compare-and-set: they only apply if the job is still in the expected
+    // state, and return 0 instead of overwriting a concurrent transition
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :to, j.version = j.version + 1 " +
+           "WHERE j.id = :jobId AND j.status = :from")
+    @Transactional
+    int compareAndSetStatus(String jobId, JobStatus from, JobStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :to, j.version = j.version + 1 " +
+           "WHERE j.id = :jobId AND j.status IN :from AND j.version = :version")
+    @Transactional
+    int compareAndSetStatus(String jobId, Collection<JobStatus> from, long version, JobStatus to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :running, j.lastRunAt = :startedAt, j.workerId = :workerId, " +
+           "j.version = j.version + 1 " +
+           "WHERE j.id = :jobId AND j.status = :scheduled")
+    @Transactional
+    int compareAndSetRunning(String jobId, JobStatus scheduled, JobStatus running, Instant startedAt, String workerId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :scheduled, j.nextRunAt = :nextRunAt, j.version = j.version + 1 " +
+           "WHERE j.id = :jobId AND j.status = :running")
+    @Transactional
+    int compareAndSetRetryScheduled(String jobId, JobStatus running, JobStatus scheduled, Instant nextRunAt);
     
     @Query("SELECT j FROM Job j " +
            "WHERE j.status = :status " +
@@ -52,6 +96,22 @@ public interface JobRepository extends JpaRepository<Job, String>, JpaSpecificat
            "ORDER BY j.priority DESC, j.createdAt ASC")
     List<Job> findReadyToRun(JobStatus status, Instant now, Pageable pageable);
     
+    @Query("SELECT j FROM Job j " +
+           "JOIN FETCH j.owner " +
+           "LEFT JOIN FETCH j.schedule " +
+           "LEFT JOIN FETCH j.payload " +
+           "LEFT JOIN FETCH j.retryPolicy " +
+           "WHERE j.id IN :ids")
+    List<Job> findAllWithDefinitionByIdIn(Collection<String> ids);
+
+    @Query("SELECT j FROM Job j JOIN FETCH j.schedule s " +
+           "WHERE s.highFrequency = true AND j.status IN :statuses")
+    List<Job> findHighFrequencyJobs(List<JobStatus> statuses);
+
     @Query("SELECT COUNT(j) FROM Job j WHERE j.status = :status")
     long countByStatus(JobStatus status);
+
+    // Lifecycle state only, for callers that take the definition from JobDefinitionCache
+    @Query("SELECT j.status FROM Job j WHERE j.id = :jobId")
+    Optional<JobStatus> findStatusById(String jobId);
 }
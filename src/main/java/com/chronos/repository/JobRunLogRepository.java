@@ -15,6 +15,15 @@ import java.util.List;
 public interface JobRunLogRepository extends JpaRepository<JobRunLog, Long> {
     
     Page<JobRunLog> findByRun(JobRun run, Pageable pageable);
+
+    Page<JobRunLog> findByRunId(String runId, Pageable pageable);
+
+    // Keyed on the id, in the order entries were logged; the Pageable only carries the limit
+    @Query("SELECT l FROM JobRunLog l WHERE l.run.id = :runId AND (:afterId IS NULL OR l.id > :afterId) " +
+           "ORDER BY l.id")
+    List<JobRunLog> findPageByRunId(String runId, Long afterId, Pageable pageable);
+
+    long countByRunId(String runId);
     
     @Query("SELECT l FROM JobRunLog l WHERE l.run = :run AND l.level = :level")
     Page<JobRunLog> findByRunAndLevel(JobRun run, String level, Pageable pageable);
@@ -22,8 +31,5 @@ public interface JobRunLogRepository extends JpaRepository<JobRunLog, Long> {
     @Query("SELECT l FROM JobRunLog l WHERE l.run = :run AND l.timestamp >= :since")
     List<JobRunLog> findByRunSince(JobRun run, Instant since);
     
-    @Query("SELECT l FROM JobRunLog l WHERE l.run = :run AND l.message LIKE %:search%")
-    Page<JobRunLog> searchInRunLogs(JobRun run, String search, Pageable pageable);
-    
     void deleteByRunAndTimestampBefore(JobRun run, Instant before);
 }
@@ -6,8 +6,10 @@ import com.chronos.domain.model.enums.JobOutcome;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
@@ -17,8 +19,6 @@ import java.util.Optional;
 public interface JobRunRepository extends JpaRepository<JobRun, String> {
     Optional<JobRun> findByIdAndJobId(String id, String jobId);
     
-    Page<JobRun> findByJob(Job job, Pageable pageable);
-    
     Page<JobRun> findByJobAndOutcome(Job job, JobOutcome outcome, Pageable pageable);
     
     Optional<JobRun> findFirstByJobOrderByStartTimeDesc(Job job);
@@ -26,6 +26,13 @@ public interface JobRunRepository extends JpaRepository<JobRun, String> {
     Optional<JobRun> findFirstByJobIdOrderByStartTimeDesc(String jobId);
     
     Page<JobRun> findByJobId(String jobId, Pageable pageable);
+
+    // Keyed on the ULID id, newest first; the Pageable only carries the limit
+    @Query("SELECT jr FROM JobRun jr WHERE jr.job.id = :jobId AND (:beforeId IS NULL OR jr.id < :beforeId) " +
+           "ORDER BY jr.id DESC")
+    List<JobRun> findPageByJobId(String jobId, String beforeId, Pageable pageable);
+
+    long countByJobId(String jobId);
     
     List<JobRun> findByJobIdAndOutcome(String jobId, JobOutcome outcome);
     
@@ -50,4 +57,11 @@ public interface JobRunRepository extends JpaRepository<JobRun, String> {
     @Query("SELECT jr FROM JobRun jr " +
            "WHERE jr.endTime IS NULL AND jr.startTime < :timeout")
     List<JobRun> findStuckRuns(Instant timeout);
+
+    // Takes the statistics as JSON text: a Map parameter of a JPQL update is bound with Java
+    // serialization instead of the JSON type of the attribute
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE job_runs SET stats = :stats WHERE id = :runId", nativeQuery = true)
+    @Transactional
+    int updateStats(String runId, String stats);
 }
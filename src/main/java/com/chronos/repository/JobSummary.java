@@ -0,0 +1,26 @@
+package com.chronos.repository;
+
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobStatus;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.enums.ScheduleType;
+
+import java.time.Instant;
+
+/**
+ * The columns of a job shown in listings, read with one query per page instead of loading the
+ * job with its owner, schedule, payload and retry policy.
+ */
+public interface JobSummary {
+    String getId();
+    String getName();
+    JobType getType();
+    JobStatus getStatus();
+    JobPriority getPriority();
+    String getOwnerEmail();
+    Instant getCreatedAt();
+    Instant getLastRunAt();
+    Instant getNextRunAt();
+    ScheduleType getScheduleType();
+    String getCronExpression();
+}
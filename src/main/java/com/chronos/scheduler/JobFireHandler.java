@@ -0,0 +1,137 @@
+package com.chronos.scheduler;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobStatus;
+import com.chronos.exception.JobExecutionException;
+import com.chronos.exception.ResourceNotFoundException;
+import com.chronos.repository.JobRepository;
+import com.chronos.repository.JobRunRepository;
+import com.chronos.service.JobExecutorService;
+import com.chronos.service.JobService;
+import com.chronos.service.execution.JobDefinition;
+import com.chronos.service.execution.JobDefinitionCache;
+import com.github.f4b6a3.ulid.UlidCreator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Turns a trigger fire into a job run, whichever trigger engine (Quartz or the timing wheel)
+ * produced the fire.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobFireHandler {
+
+    public enum FireOutcome {
+        // Run handed to the executor
+        FIRED,
+        // Job is running or in a terminal state, nothing to do for this fire
+        SKIPPED,
+        // Job was cancelled, the trigger should be removed
+        CANCELLED
+    }
+
+    private final JobRepository jobRepository;
+    private final JobRunRepository jobRunRepository;
+    private final JobDefinitionCache definitionCache;
+    private final ApplicationContext applicationContext;
+
+    public FireOutcome fire(String jobId, int attempt, String workerId) {
+        JobService jobService = applicationContext.getBean(JobService.class);
+        JobExecutorService jobExecutorService = applicationContext.getBean(JobExecutorService.class);
+        Job job = null;
+        JobRun jobRun = null;
+
+        try {
+            // Only the status is read per fire, the definition comes from the cache
+            JobStatus status = jobRepository.findStatusById(jobId)
+                    .orElseThrow(() -> ResourceNotFoundException.forResource("Job", jobId));
+            JobDefinition definition = definitionCache.get(jobId);
+            job = definition.getJob();
+
+            // Check if job is cancelled or in terminal state
+            if (status == JobStatus.CANCELLED) {
+                log.info("Job {} is cancelled, removing its trigger", jobId);
+                return FireOutcome.CANCELLED;
+            }
+
+            // For recurring jobs (CRON/INTERVAL), only FAILED is terminal
+            // For one-time jobs (ONCE), both FAILED and SUCCEEDED are terminal
+            boolean isTerminal = false;
+            if (status == JobStatus.FAILED) {
+                isTerminal = true;
+            } else if (status == JobStatus.SUCCEEDED && !definition.isRecurring()) {
+                isTerminal = true;
+            }
+
+            if (isTerminal) {
+                log.warn("Job {} is in terminal state {}, skipping execution",
+                        jobId, status);
+                return FireOutcome.SKIPPED;
+            }
+
+            // Check if job is already running
+            if (status == JobStatus.RUNNING) {
+                log.warn("Job {} is already running, skipping execution", jobId);
+                return FireOutcome.SKIPPED;
+            }
+
+            log.info("Starting job {} execution attempt {}", jobId, attempt);
+
+            // Try to find existing JobRun for this attempt, or create new one
+            Optional<JobRun> existingRun = jobRunRepository.findByJobAndAttempt(job, attempt);
+
+            if (existingRun.isPresent()) {
+                // Reuse existing JobRun and update it for execution
+                jobRun = existingRun.get();
+                jobRun.setStartTime(Instant.now());
+                jobRun.setWorkerId(workerId);
+                log.debug("Reusing existing JobRun {} for job {} attempt {}", jobRun.getId(), jobId, attempt);
+            } else {
+                // Create a new JobRun (for initial execution)
+                jobRun = JobRun.builder()
+                        .id(UlidCreator.getUlid().toString())
+                        .job(job)
+                        .scheduledTime(Instant.now())
+                        .startTime(Instant.now())
+                        .workerId(workerId)
+                        .attempt(attempt)
+                        .build();
+                log.debug("Created new JobRun {} for job {} attempt {}", jobRun.getId(), jobId, attempt);
+            }
+
+            // Execute the job
+            jobExecutorService.executeJob(job, jobRun);
+            return FireOutcome.FIRED;
+        } catch (Exception e) {
+            String error = String.format("Failed to execute job %s: %s", jobId, e.getMessage());
+            log.error(error, e);
+
+            // Try to mark job as failed if we have enough context
+            if (job != null && jobRun != null) {
+                try {
+                    jobService.markJobAsComplete(job.getId(), jobRun.getId(), false, error);
+                } catch (Exception ex) {
+                    log.error("Failed to mark job {} as failed: {}", jobId, ex.getMessage());
+                    // Force job status update
+                    try {
+                        jobRepository.updateJobStatus(jobId, JobStatus.FAILED);
+                    } catch (Exception updateEx) {
+                        log.error("Failed to force update job {} status: {}", jobId, updateEx.getMessage());
+                    }
+                }
+            }
+
+            throw e instanceof JobExecutionException jobException
+                    ? jobException
+                    : new JobExecutionException(error, e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.chronos.scheduler;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobSchedule;
+import com.chronos.domain.model.enums.JobStatus;
+import com.chronos.domain.model.enums.ScheduleType;
+import com.chronos.repository.JobRepository;
+import com.chronos.scheduler.HashedTimingWheel.Timeout;
+import com.chronos.scheduler.JobFireHandler.FireOutcome;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory trigger engine for high-frequency INTERVAL and ONCE jobs.
+ *
+ * Quartz's JDBC store updates several QRTZ_* rows under a cluster lock on every fire and only
+ * supports whole-second intervals through our schedule builder. Jobs whose schedule is flagged
+ * high-frequency are instead kept on a {@link HashedTimingWheel} with millisecond resolution.
+ * Nothing about these triggers is persisted beyond job_schedules, so the wheel is rebuilt from
+ * that table on startup.
+ *
+ * Every node with the wheel enabled fires its high-frequency jobs, so enable it on a single
+ * scheduler node when running clustered.
+ */
+@Slf4j
+@Component
+public class TimingWheelScheduler {
+
+    private final JobFireHandler fireHandler;
+    private final JobRepository jobRepository;
+    private final Scheduler scheduler;
+    private final boolean enabled;
+    private final HashedTimingWheel wheel;
+    private final ExecutorService fireExecutor;
+
+    private final Map<String, WheelEntry> entries = new ConcurrentHashMap<>();
+
+    public TimingWheelScheduler(JobFireHandler fireHandler,
+                                JobRepository jobRepository,
+                                Scheduler scheduler,
+                                @Value("${app.job.timing-wheel.enabled:false}") boolean enabled,
+                                @Value("${app.job.timing-wheel.tick-ms:10}") long tickMs,
+                                @Value("${app.job.timing-wheel.ticks-per-wheel:512}") int ticksPerWheel) {
+        this.fireHandler = fireHandler;
+        this.jobRepository = jobRepository;
+        this.scheduler = scheduler;
+        this.enabled = enabled;
+        this.wheel = enabled ? new HashedTimingWheel("chronos-timing-wheel", tickMs, TimeUnit.MILLISECONDS, ticksPerWheel) : null;
+        this.fireExecutor = enabled ? Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("chronos-wheel-fire-", 0).factory()) : null;
+    }
+
+    public boolean handles(Job job) {
+        JobSchedule schedule = job.getSchedule();
+        return enabled && schedule != null && schedule.isHighFrequency()
+                && (schedule.getScheduleType() == ScheduleType.ONCE
+                    || schedule.getScheduleType() == ScheduleType.INTERVAL);
+    }
+
+    /**
+     * Registers the job on the wheel, replacing any earlier registration. INTERVAL jobs fire
+     * immediately and then every interval; ONCE jobs fire at their run time.
+     */
+    public void schedule(Job job) {
+        Instant firstFire = firstFireTime(job.getSchedule());
+        register(job, firstFire, 1, job.getStatus() == JobStatus.PAUSED);
+        log.info("Scheduled job {} on timing wheel, first fire at {}", job.getId(), firstFire);
+    }
+
+    /**
+     * Fires the job once at the given time with the given attempt number. INTERVAL jobs return to
+     * their regular cadence afterwards.
+     */
+    public void reschedule(Job job, Instant fireTime, int attempt) {
+        register(job, fireTime, attempt, false);
+        log.info("Rescheduled job {} (attempt {}) on timing wheel to run at {}", job.getId(), attempt, fireTime);
+    }
+
+    public boolean pause(String jobId) {
+        WheelEntry entry = entries.get(jobId);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            entry.paused = true;
+            cancel(entry);
+        }
+        log.info("Paused job {} on timing wheel", jobId);
+        return true;
+    }
+
+    public boolean resume(String jobId) {
+        WheelEntry entry = entries.get(jobId);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            entry.paused = false;
+            arm(entry, Instant.now());
+        }
+        log.info("Resumed job {} on timing wheel", jobId);
+        return true;
+    }
+
+    public boolean remove(String jobId) {
+        WheelEntry entry = entries.remove(jobId);
+        if (entry == null) {
+            return false;
+        }
+        synchronized (entry) {
+            entry.removed = true;
+            cancel(entry);
+        }
+        log.info("Removed job {} from timing wheel", jobId);
+        return true;
+    }
+
+    public boolean triggerNow(String jobId) {
+        WheelEntry entry = entries.get(jobId);
+        if (entry == null) {
+            return false;
+        }
+        fireExecutor.execute(() -> fire(entry, 1));
+        log.info("Triggered job {} immediately on timing wheel", jobId);
+        return true;
+    }
+
+    public boolean isScheduled(String jobId) {
+        return entries.containsKey(jobId);
+    }
+
+    public Instant getNextFireTime(String jobId) {
+        WheelEntry entry = entries.get(jobId);
+        return entry != null && !entry.paused ? entry.nextFireTime : null;
+    }
+
+    public void clear() {
+        entries.keySet().forEach(this::remove);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<Job> jobs = jobRepository.findHighFrequencyJobs(
+                List.of(JobStatus.SCHEDULED, JobStatus.RUNNING, JobStatus.PAUSED));
+        for (Job job : jobs) {
+            if (!handles(job)) {
+                continue;
+            }
+            try {
+                // A trigger left over from before the job moved to the wheel would fire it twice
+                JobKey jobKey = JobKey.jobKey(job.getId());
+                if (scheduler.checkExists(jobKey)) {
+                    scheduler.deleteJob(jobKey);
+                }
+            } catch (SchedulerException e) {
+                log.warn("Could not remove Quartz trigger of high-frequency job {}: {}", job.getId(), e.getMessage());
+            }
+            register(job, firstFireTime(job.getSchedule()), 1, job.getStatus() == JobStatus.PAUSED);
+        }
+        log.info("Timing wheel rebuilt with {} high-frequency jobs", entries.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        entries.clear();
+        wheel.stop();
+        fireExecutor.shutdown();
+    }
+
+    // A ONCE job whose run time has passed fires right away, like Quartz's fire-now misfire handling
+    private static Instant firstFireTime(JobSchedule schedule) {
+        return schedule.getScheduleType() == ScheduleType.ONCE && schedule.getRunAt() != null
+                ? schedule.getRunAt()
+                : Instant.now();
+    }
+
+    private void register(Job job, Instant fireTime, int attempt, boolean paused) {
+        JobSchedule schedule = job.getSchedule();
+        Long intervalMs = schedule.getEffectiveIntervalMs();
+        WheelEntry entry = new WheelEntry(job.getId(), schedule.getScheduleType(),
+                schedule.getScheduleType() == ScheduleType.INTERVAL && intervalMs != null ? intervalMs : 0L);
+        WheelEntry previous = entries.put(job.getId(), entry);
+        if (previous != null) {
+            synchronized (previous) {
+                previous.removed = true;
+                cancel(previous);
+            }
+        }
+        synchronized (entry) {
+            entry.attempt = attempt;
+            entry.paused = paused;
+            if (!paused) {
+                arm(entry, fireTime);
+            }
+        }
+    }
+
+    // Caller holds the entry's monitor
+    private void arm(WheelEntry entry, Instant fireTime) {
+        cancel(entry);
+        entry.nextFireTime = fireTime;
+        long delayMs = Math.max(0, Duration.between(Instant.now(), fireTime).toMillis());
+        entry.timeout = wheel.schedule(timeout -> onExpired(entry, timeout), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancel(WheelEntry entry) {
+        if (entry.timeout != null) {
+            entry.timeout.cancel();
+            entry.timeout = null;
+        }
+    }
+
+    // Runs on the wheel thread: schedule the next fire at a fixed rate, then hand the fire off
+    private void onExpired(WheelEntry entry, Timeout timeout) {
+        int attempt;
+        synchronized (entry) {
+            if (entry.removed || entry.paused || entry.timeout != timeout) {
+                return;
+            }
+            attempt = entry.attempt;
+            entry.attempt = 1;
+            if (entry.scheduleType == ScheduleType.INTERVAL && entry.intervalMs > 0) {
+                Instant next = entry.nextFireTime.plusMillis(entry.intervalMs);
+                Instant now = Instant.now();
+                // Skip fires missed while the node was busy rather than bursting to catch up
+                arm(entry, next.isBefore(now) ? now : next);
+            } else {
+                entry.timeout = null;
+                entry.nextFireTime = null;
+                entries.remove(entry.jobId, entry);
+            }
+        }
+        fireExecutor.execute(() -> fire(entry, attempt));
+    }
+
+    private void fire(WheelEntry entry, int attempt) {
+        try {
+            FireOutcome outcome = fireHandler.fire(entry.jobId, attempt, scheduler.getSchedulerInstanceId());
+            if (outcome == FireOutcome.CANCELLED) {
+                remove(entry.jobId);
+            }
+        } catch (Exception e) {
+            log.error("Timing wheel fire of job {} failed: {}", entry.jobId, e.getMessage());
+        }
+    }
+
+    private static final class WheelEntry {
+        final String jobId;
+        final ScheduleType scheduleType;
+        final long intervalMs;
+
+        // Guarded by the entry's monitor
+        Timeout timeout;
+        int attempt = 1;
+        boolean removed;
+        volatile boolean paused;
+        volatile Instant nextFireTime;
+
+        WheelEntry(String jobId, ScheduleType scheduleType, long intervalMs) {
+            this.jobId = jobId;
+            this.scheduleType = scheduleType;
+            this.intervalMs = intervalMs;
+        }
+    }
+}
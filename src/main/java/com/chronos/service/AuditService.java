@@ -1,8 +1,7 @@
 package com.chronos.service;
 
 import com.chronos.api.dto.audit.AuditEventResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.chronos.api.dto.page.CursorPage;
 
 import java.time.Instant;
 import java.util.Map;
@@ -13,13 +12,16 @@ public interface AuditService {
     
     void auditEvent(String action, String entityType, String entityId, Map<String, Object> details);
     
-    Page<AuditEventResponse> getAuditEvents(Pageable pageable);
+    CursorPage<AuditEventResponse> getAuditEvents(String cursor, int limit, boolean includeTotal);
     
-    Page<AuditEventResponse> getAuditEventsForEntity(String entityType, String entityId, Pageable pageable);
+    CursorPage<AuditEventResponse> getAuditEventsForEntity(String entityType, String entityId,
+                                                           String cursor, int limit, boolean includeTotal);
     
-    Page<AuditEventResponse> getAuditEventsByAction(String action, Pageable pageable);
+    CursorPage<AuditEventResponse> getAuditEventsByAction(String action, String cursor, int limit,
+                                                          boolean includeTotal);
     
-    Page<AuditEventResponse> getAuditEventsForUser(Long userId, Pageable pageable);
+    CursorPage<AuditEventResponse> getAuditEventsForUser(Long userId, String cursor, int limit,
+                                                         boolean includeTotal);
     
     void cleanupOldEvents(Instant before);
 }
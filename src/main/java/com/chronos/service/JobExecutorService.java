@@ -6,6 +6,13 @@ import com.chronos.domain.model.JobRun;
 public interface JobExecutorService {
     
     void executeJob(Job job, JobRun run);
+
+    /**
+     * Executes a run whose job was already moved to RUNNING by a claim.
+     *
+     * @param onRejected invoked if the run cannot be admitted, so the claim can be released
+     */
+    void executeClaimedJob(Job job, JobRun run, Runnable onRejected);
     
     void executeHttpJob(Job job, JobRun run);
     
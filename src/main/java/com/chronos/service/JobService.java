@@ -4,10 +4,11 @@ import com.chronos.api.dto.job.CreateJobRequest;
 import com.chronos.api.dto.job.JobResponse;
 import com.chronos.api.dto.job.JobRunLogDto;
 import com.chronos.api.dto.job.JobRunSummaryDto;
+import com.chronos.api.dto.job.JobSummaryResponse;
+import com.chronos.api.dto.page.CursorPage;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.enums.JobStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.chronos.domain.model.enums.TransitionResult;
 
 import java.time.Instant;
 import java.util.List;
@@ -18,8 +19,14 @@ public interface JobService {
     
     JobResponse getJob(String jobId);
     
-    Page<JobResponse> getJobs(JobStatus status, String nameContains, Instant nextRunFrom,
-                             Instant nextRunTo, Pageable pageable);
+    /**
+     * Jobs of the current user, newest first; null filters are left out.
+     *
+     * @param cursor       the next cursor of the previous page, null for the first
+     * @param includeTotal whether to add the approximate number of matching jobs
+     */
+    CursorPage<JobSummaryResponse> getJobs(JobStatus status, String nameContains, Instant nextRunFrom,
+                                           Instant nextRunTo, String cursor, int limit, boolean includeTotal);
     
     JobResponse updateJob(String jobId, CreateJobRequest request);
     
@@ -37,15 +44,35 @@ public interface JobService {
     
     JobResponse triggerJobNow(String jobId);
     
-    Page<JobRunSummaryDto> getJobRuns(String jobId, Pageable pageable);
+    /**
+     * Runs of the job, newest first.
+     */
+    CursorPage<JobRunSummaryDto> getJobRuns(String jobId, String cursor, int limit, boolean includeTotal);
     
     JobRunSummaryDto getJobRun(String jobId, String runId);
     
-    Page<JobRunLogDto> getJobRunLogs(String jobId, String runId, Pageable pageable);
+    /**
+     * Log of the run in the order it was written.
+     */
+    CursorPage<JobRunLogDto> getJobRunLogs(String jobId, String runId, String cursor, int limit, boolean includeTotal);
+
+    /**
+     * Searches the logs of all runs of the job, newest entries first.
+     *
+     * @param text   words that must all occur, text in double quotes as a phrase
+     * @param cursor the next cursor of the previous page, null for the first
+     */
+    CursorPage<JobRunLogDto> searchJobRunLogs(String jobId, String text, String level, Instant from,
+                                              Instant to, String cursor, int limit);
     
     List<JobResponse> findReadyJobs(int limit);
     
-    void markJobAsRunning(String jobId, String runId, String workerId);
+    /**
+     * Moves the job from SCHEDULED to RUNNING and records the run.
+     *
+     * @return LOST_RACE if the job was not SCHEDULED, e.g. because another fire already started it
+     */
+    TransitionResult markJobAsRunning(String jobId, String runId, String workerId);
     
     void markJobAsComplete(String jobId, String runId, boolean success, String errorMessage);
     
@@ -0,0 +1,7 @@
+package com.chronos.service.execution;
+
+public enum Admission {
+    STARTED,
+    QUEUED,
+    REJECTED
+}
@@ -0,0 +1,11 @@
+package com.chronos.service.execution;
+
+/**
+ * Why a run was stopped before its executor returned.
+ */
+public enum CancellationReason {
+    // Cancelled through the API while queued or running
+    CANCELLED,
+    // Ran longer than the job's execution timeout
+    TIMED_OUT
+}
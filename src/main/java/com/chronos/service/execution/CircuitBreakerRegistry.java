@@ -0,0 +1,178 @@
+package com.chronos.service.execution;
+
+import com.chronos.config.ExecutionConfig.CircuitBreakerProperties;
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Circuit breakers keyed by the downstream target a run talks to: an HTTP host, a database URL
+ * or a queue, as named by {@link com.chronos.service.execution.plan.ExecutionPlan#getTarget()}.
+ *
+ * Only failures that mean the target is unreachable count: connection errors and timeouts.
+ * After enough of them in a row the breaker opens and runs against the target fail right away,
+ * without taking a worker for the length of a connect timeout. Once the open duration passed,
+ * a limited number of probe runs go through; the first of them to complete closes the breaker
+ * again or reopens it.
+ */
+@Slf4j
+@Component
+public class CircuitBreakerRegistry {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerProperties properties;
+    private final MeterRegistry meterRegistry;
+    // Breakers not used for an hour are forgotten, which closes them
+    private final Cache<String, Breaker> breakers = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public CircuitBreakerRegistry(ExecutionProperties executionProperties, MeterRegistry meterRegistry) {
+        this.properties = executionProperties.getCircuitBreaker();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chronos.circuit.open", breakers,
+                        cache -> cache.asMap().values().stream().filter(b -> b.state() != State.CLOSED).count())
+                .description("Downstream targets whose circuit breaker is open or half open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false if the breaker of the target is open and the run must not touch it
+     */
+    public boolean tryAcquire(String target) {
+        if (!properties.isEnabled() || target == null) {
+            return true;
+        }
+        if (breaker(target).tryAcquire()) {
+            return true;
+        }
+        Counter.builder("chronos.circuit.rejections")
+                .tag("target", target)
+                .register(meterRegistry)
+                .increment();
+        return false;
+    }
+
+    /**
+     * Records how a run that acquired the target ended, null for success. Failures that are not
+     * about reaching the target show that it answered, so they count as successes.
+     */
+    public void record(String target, Throwable failure) {
+        if (!properties.isEnabled() || target == null) {
+            return;
+        }
+        Breaker breaker = breaker(target);
+        if (failure != null && isOutage(failure)) {
+            breaker.onOutage(target);
+        } else {
+            breaker.onReached(target);
+        }
+    }
+
+    /**
+     * For runs that acquired the target but ended without an outcome, such as cancelled runs, so
+     * they do not hold a probe slot.
+     */
+    public void release(String target) {
+        if (properties.isEnabled() && target != null) {
+            breaker(target).release();
+        }
+    }
+
+    public State getState(String target) {
+        Breaker breaker = breakers.getIfPresent(target);
+        return breaker != null ? breaker.state() : State.CLOSED;
+    }
+
+    public static boolean isOutage(Throwable failure) {
+        // Bounded in case of a cause cycle
+        int depth = 0;
+        for (Throwable cause = failure; cause != null && depth < 20; cause = cause.getCause(), depth++) {
+            if (cause instanceof IOException
+                    || cause instanceof TimeoutException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof org.apache.kafka.common.errors.TimeoutException
+                    || cause instanceof org.apache.kafka.common.errors.NetworkException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Breaker breaker(String target) {
+        return breakers.get(target, t -> new Breaker());
+    }
+
+    private class Breaker {
+
+        // Guarded by this
+        private State state = State.CLOSED;
+        private int failures;
+        private long openUntilNanos;
+        private int probes;
+
+        synchronized State state() {
+            return state;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openUntilNanos < 0) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probes = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probes >= properties.getHalfOpenProbes()) {
+                    return false;
+                }
+                probes++;
+            }
+            return true;
+        }
+
+        synchronized void onReached(String target) {
+            if (state != State.CLOSED) {
+                log.info("Circuit breaker for {} closed, target is reachable again", target);
+            }
+            state = State.CLOSED;
+            failures = 0;
+        }
+
+        synchronized void onOutage(String target) {
+            failures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= properties.getFailureThreshold())) {
+                state = State.OPEN;
+                openUntilNanos = System.nanoTime() + properties.getOpenDuration().toNanos();
+                log.warn("Circuit breaker for {} opened after {} consecutive failures, rejecting runs for {}s",
+                        target, failures, properties.getOpenDuration().toSeconds());
+            }
+        }
+
+        synchronized void release() {
+            if (state == State.HALF_OPEN && probes > 0) {
+                probes--;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.chronos.service.execution;
+
+import java.util.Comparator;
+
+/**
+ * Decides which queued run gets the next free execution slot.
+ *
+ * The ordering is rebuilt at every dispatch so that it can depend on how long runs have been
+ * waiting; runs that compare equal are dispatched in submission order.
+ */
+public interface DispatchPolicy {
+
+    DispatchPolicy FIFO = nowNanos -> Comparator.comparingLong(PendingRun::getSubmittedNanos);
+
+    Comparator<PendingRun> order(long nowNanos);
+
+    // Whether the order reads PendingRun#getExpectedDurationMs; runs are only estimated if so
+    default boolean usesExpectedDuration() {
+        return false;
+    }
+}
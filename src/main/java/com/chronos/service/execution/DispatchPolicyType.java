@@ -0,0 +1,12 @@
+package com.chronos.service.execution;
+
+public enum DispatchPolicyType {
+    // Oldest run first, ignoring priority
+    FIFO,
+    // Highest priority first, waiting runs climb one level per aging interval
+    PRIORITY_AGING,
+    // Earliest submission time plus the max wait configured for the run's priority first
+    EARLIEST_DEADLINE_FIRST,
+    // Shortest historical duration first
+    SHORTEST_EXPECTED_DURATION
+}
@@ -0,0 +1,84 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.enums.JobOutcome;
+import com.chronos.repository.JobRunRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Expected run duration per job, used for shortest-expected-duration dispatch.
+ *
+ * The estimate is seeded once from the average duration of the job's successful runs over the
+ * last week and then follows observed durations as an exponentially weighted moving average.
+ * The history is loaded in the background: a job reads as 0 until it arrives, so submitting a
+ * run never waits on the database. Nothing is estimated unless the dispatch policy reads it.
+ */
+@Slf4j
+@Component
+public class DurationEstimator {
+
+    private static final Duration HISTORY_WINDOW = Duration.ofDays(7);
+    private static final double SMOOTHING = 0.3;
+
+    private final JobRunRepository jobRunRepository;
+    private final boolean enabled;
+    private final AsyncCache<String, Long> estimates;
+
+    public DurationEstimator(JobRunRepository jobRunRepository,
+                             DispatchPolicy dispatchPolicy,
+                             @Value("${app.job.duration-estimates.max-size:10000}") long maxSize,
+                             @Value("${app.job.duration-estimates.idle-ttl:1h}") Duration idleTtl) {
+        this.jobRunRepository = jobRunRepository;
+        this.enabled = dispatchPolicy.usesExpectedDuration();
+        Executor loader = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("chronos-duration-estimate-", 0).factory());
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTtl)
+                .executor(loader)
+                .buildAsync();
+    }
+
+    /**
+     * @return expected duration in milliseconds, 0 if the job has no history, its history is still
+     * loading or the dispatch policy does not use estimates
+     */
+    public long estimate(Job job) {
+        if (!enabled) {
+            return 0L;
+        }
+        CompletableFuture<Long> estimate = estimates.get(job.getId(),
+                (jobId, executor) -> CompletableFuture.supplyAsync(() -> loadAverage(job), executor));
+        return estimate.getNow(0L);
+    }
+
+    public void record(String jobId, long durationMs) {
+        if (!enabled) {
+            return;
+        }
+        estimates.synchronous().asMap().merge(jobId, durationMs, (previous, observed) -> previous == 0
+                ? observed
+                : Math.round(SMOOTHING * observed + (1 - SMOOTHING) * previous));
+    }
+
+    private long loadAverage(Job job) {
+        try {
+            Double average = jobRunRepository.getAverageDuration(
+                    job, JobOutcome.SUCCESS, Instant.now().minus(HISTORY_WINDOW));
+            return average != null ? Math.round(average) : 0L;
+        } catch (Exception e) {
+            log.warn("Could not load duration history for job {}: {}", job.getId(), e.getMessage());
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.enums.JobPriority;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Dispatches the run whose deadline comes first. A run's deadline is its submission time plus
+ * the maximum queue wait allowed for its priority.
+ */
+public class EarliestDeadlineDispatchPolicy implements DispatchPolicy {
+
+    private final Map<JobPriority, Long> maxWaitNanos = new EnumMap<>(JobPriority.class);
+
+    public EarliestDeadlineDispatchPolicy(Map<JobPriority, Duration> maxWait) {
+        for (JobPriority priority : JobPriority.values()) {
+            Duration wait = maxWait.get(priority);
+            if (wait == null) {
+                throw new IllegalArgumentException("No max wait configured for priority " + priority);
+            }
+            maxWaitNanos.put(priority, wait.toNanos());
+        }
+    }
+
+    @Override
+    public Comparator<PendingRun> order(long nowNanos) {
+        return Comparator.comparingLong(this::deadlineNanos)
+                .thenComparingLong(PendingRun::getSubmittedNanos);
+    }
+
+    long deadlineNanos(PendingRun run) {
+        return run.getSubmittedNanos() + maxWaitNanos.get(run.getPriority());
+    }
+}
@@ -0,0 +1,6 @@
+package com.chronos.service.execution;
+
+public enum ExecutionMode {
+    VIRTUAL_THREADS,
+    PLATFORM_THREADS
+}
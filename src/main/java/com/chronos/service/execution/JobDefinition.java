@@ -0,0 +1,102 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.RetryPolicy;
+import com.chronos.domain.model.enums.BackoffStrategy;
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.enums.ScheduleType;
+import com.chronos.service.execution.plan.ExecutionPlan;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Snapshot of what a job does, as opposed to where it currently is in its lifecycle.
+ *
+ * Runs and retries only need the definition, which changes when the job is edited rather than on
+ * every run, so it is cached by {@link JobDefinitionCache} instead of being reloaded with its
+ * owner, schedule, payload and retry policy at each step of a run. Status is deliberately not
+ * part of it; transitions go through the compare-and-set updates on {@code JobRepository}.
+ */
+@Value
+@Builder
+public class JobDefinition {
+
+    // Conditions that make a failed run eligible for a retry when the policy lists any
+    private static final Set<String> RETRYABLE_CONDITIONS = Set.of(
+            "CONNECTION_ERROR", "TIMEOUT", "IO_ERROR", "DATABASE_ERROR", "SERVER_ERROR", "5XX", "NETWORK_ERROR");
+
+    String jobId;
+    long version;
+    String name;
+    JobType type;
+    JobPriority priority;
+    ScheduleType scheduleType;
+    int maxAttempts;
+    BackoffStrategy backoffStrategy;
+    int backoffSeconds;
+    List<String> retryOn;
+
+    // Per-attempt execution limit, null when the job uses the configured default
+    Duration timeout;
+
+    // Detached entity graph handed to executors and notifications; shared between runs, so it
+    // must be treated as read-only
+    Job job;
+
+    // Null for job types without a plan, or if the payload failed to compile; the executor then
+    // compiles it on the run and reports the error there
+    ExecutionPlan plan;
+
+    public static JobDefinition of(Job job) {
+        return of(job, null);
+    }
+
+    public static JobDefinition of(Job job, ExecutionPlan plan) {
+        RetryPolicy policy = job.getRetryPolicy();
+        return JobDefinition.builder()
+                .jobId(job.getId())
+                .version(job.getVersion() != null ? job.getVersion() : 0L)
+                .name(job.getName())
+                .type(job.getType())
+                .priority(job.getPriority() != null ? job.getPriority() : JobPriority.MEDIUM)
+                .scheduleType(job.getSchedule() != null ? job.getSchedule().getScheduleType() : null)
+                .maxAttempts(policy != null && policy.getMaxAttempts() != null ? policy.getMaxAttempts() : 0)
+                .backoffStrategy(policy != null ? policy.getBackoffStrategy() : BackoffStrategy.FIXED)
+                .backoffSeconds(policy != null && policy.getBackoffSeconds() != null ? policy.getBackoffSeconds() : 0)
+                .retryOn(policy != null && policy.getRetryOn() != null ? List.copyOf(policy.getRetryOn()) : List.of())
+                .timeout(policy != null && policy.getTimeoutSeconds() != null
+                        ? Duration.ofSeconds(policy.getTimeoutSeconds()) : null)
+                .job(job)
+                .plan(plan)
+                .build();
+    }
+
+    public boolean isRecurring() {
+        return scheduleType != ScheduleType.ONCE;
+    }
+
+    public boolean shouldRetry(int currentAttempt) {
+        if (currentAttempt >= maxAttempts) {
+            return false;
+        }
+        // If no specific retry conditions are configured, retry for any error
+        if (retryOn.isEmpty()) {
+            return true;
+        }
+        // Simplified: the error type of the failure is not matched against the conditions yet
+        return retryOn.stream().map(String::toUpperCase).anyMatch(RETRYABLE_CONDITIONS::contains);
+    }
+
+    public Instant nextRetryTime(int currentAttempt, Instant now) {
+        return switch (backoffStrategy) {
+            case FIXED -> now.plusSeconds(backoffSeconds);
+            case EXPONENTIAL -> now.plusSeconds(backoffSeconds * (long) Math.pow(2, currentAttempt - 1));
+        };
+    }
+}
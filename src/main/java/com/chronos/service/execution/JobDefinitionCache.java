@@ -0,0 +1,109 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.Job;
+import com.chronos.exception.ResourceNotFoundException;
+import com.chronos.repository.JobRepository;
+import com.chronos.service.execution.plan.ExecutionPlan;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Local cache of {@link JobDefinition} snapshots and their compiled execution plans, keyed by job id.
+ *
+ * A run used to reload the job with all of its eager associations at every step: fire, start,
+ * completion, retry decision and backoff. With the cache a run reads the definition once per
+ * edit of the job instead. Every code path that edits, pauses, resumes, cancels or deletes a job
+ * evicts it here; the TTL bounds how long an edit made on another node can go unnoticed.
+ *
+ * The row version is not part of the key because every status transition bumps it, which would
+ * turn each run into a miss. The snapshot records the version it was loaded at instead.
+ */
+@Slf4j
+@Component
+public class JobDefinitionCache {
+
+    private final JobRepository jobRepository;
+    private final ExecutionPlanCompiler planCompiler;
+    private final Cache<String, JobDefinition> cache;
+
+    public JobDefinitionCache(JobRepository jobRepository,
+                              ExecutionPlanCompiler planCompiler,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.job.definition-cache.max-size:10000}") long maxSize,
+                              @Value("${app.job.definition-cache.ttl:5m}") Duration ttl) {
+        this.jobRepository = jobRepository;
+        this.planCompiler = planCompiler;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jobDefinitions");
+    }
+
+    /**
+     * @throws ResourceNotFoundException if the job does not exist
+     */
+    public JobDefinition get(String jobId) {
+        return cache.get(jobId, id -> jobRepository.findById(id)
+                .map(this::snapshot)
+                .orElseThrow(() -> ResourceNotFoundException.forResource("Job", id)));
+    }
+
+    /**
+     * Loads all misses in a single query. Jobs that no longer exist are left out of the result.
+     */
+    public Map<String, JobDefinition> getAll(Collection<String> jobIds) {
+        return cache.getAll(jobIds, missing -> jobRepository.findAllWithDefinitionByIdIn(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(Job::getId, this::snapshot)));
+    }
+
+    /**
+     * Evicts the job now and, when called inside a transaction, again after it commits, so a run
+     * that reloads the job in between cannot cache the state that is being replaced.
+     */
+    public void invalidate(String jobId) {
+        cache.invalidate(jobId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(jobId);
+                }
+            });
+        }
+        log.debug("Evicted definition of job {}", jobId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private JobDefinition snapshot(Job job) {
+        ExecutionPlan plan = null;
+        try {
+            plan = planCompiler.compile(job);
+        } catch (Exception e) {
+            log.warn("Could not compile execution plan of job {}: {}", job.getId(), e.getMessage());
+        }
+        return JobDefinition.of(job, plan);
+    }
+}
@@ -0,0 +1,286 @@
+package com.chronos.service.execution;
+
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
+import com.chronos.domain.model.enums.JobType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs admitted job executions off the Quartz worker thread.
+ *
+ * A run starts only if both a global slot and a slot for its job type are free, so a burst
+ * of slow jobs of one type cannot starve the others. Resource classes can be capped on top.
+ * A run holds its slot until its task returns, or for runs that complete asynchronously, until
+ * the task releases it. Runs that find no free slot wait in a
+ * bounded queue per job type. Whenever a slot is released the {@link DispatchPolicy} picks the
+ * next run among the queued runs whose type has a free slot. When a queue is full the configured
+ * {@link RejectionPolicy} decides what happens to the run; no policy runs it outside the limits.
+ */
+@Slf4j
+@Component
+public class JobExecutionEngine {
+
+    private final ExecutionProperties properties;
+    private final DispatchPolicy dispatchPolicy;
+    private final ExecutorService executor;
+    private final int maxConcurrentExecutions;
+
+    // Admission state, guarded by this
+    private int running;
+    private final Map<JobType, Integer> runningByType = new EnumMap<>(JobType.class);
+    private final Map<ResourceClass, Integer> runningByResource = new EnumMap<>(ResourceClass.class);
+    private final Map<JobType, Deque<PendingRun>> queues = new EnumMap<>(JobType.class);
+    private boolean shuttingDown;
+
+    private final Map<JobType, Timer> waitTimers = new EnumMap<>(JobType.class);
+    private final Map<JobType, Map<Admission, Counter>> admissionCounters = new EnumMap<>(JobType.class);
+    private final Map<JobType, Counter> evictionCounters = new EnumMap<>(JobType.class);
+
+    public JobExecutionEngine(ExecutionProperties properties,
+                              @Value("${app.job.max-concurrent-executions:50}") int maxConcurrentExecutions,
+                              MeterRegistry meterRegistry,
+                              DispatchPolicy dispatchPolicy) {
+        this.properties = properties;
+        this.dispatchPolicy = dispatchPolicy;
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        for (JobType type : JobType.values()) {
+            runningByType.put(type, 0);
+            queues.put(type, new ArrayDeque<>());
+            registerMeters(type, meterRegistry);
+        }
+        for (ResourceClass resourceClass : ResourceClass.values()) {
+            runningByResource.put(resourceClass, 0);
+        }
+        this.executor = createExecutor(properties);
+        log.info("Job execution engine started in {} mode (global limit {}, rejection policy {}, dispatch policy {})",
+                properties.getMode(), maxConcurrentExecutions, properties.getRejectionPolicy(),
+                dispatchPolicy.getClass().getSimpleName());
+    }
+
+    /**
+     * Starts the run if a slot is free, otherwise queues it behind the other runs of its type.
+     * If the queue is full the rejection policy applies; a run that ends up rejected or evicted
+     * has its {@link PendingRun#getOnRejected()} callback invoked instead of its task. Under
+     * {@link RejectionPolicy#BLOCK_CALLER} the calling thread waits until the run can start or queue.
+     */
+    public Admission submit(PendingRun run) {
+        Admission admission;
+        PendingRun evicted = null;
+
+        synchronized (this) {
+            Deque<PendingRun> queue = queues.get(run.getType());
+            int capacity = properties.queueCapacityFor(run.getType());
+            if (properties.getRejectionPolicy() == RejectionPolicy.BLOCK_CALLER) {
+                awaitRoom(run, queue, capacity);
+            }
+            if (hasFreeSlot(run)) {
+                acquire(run);
+                admission = Admission.STARTED;
+            } else if (queue.size() < capacity) {
+                queue.addLast(run);
+                admission = Admission.QUEUED;
+            } else if (properties.getRejectionPolicy() == RejectionPolicy.DROP_OLDEST && !queue.isEmpty()) {
+                evicted = queue.pollFirst();
+                queue.addLast(run);
+                admission = Admission.QUEUED;
+            } else {
+                // Also reached by a waiting caller that was interrupted or outlived the engine
+                admission = Admission.REJECTED;
+            }
+        }
+
+        admissionCounters.get(run.getType()).get(admission).increment();
+        if (evicted != null) {
+            evictionCounters.get(evicted.getType()).increment();
+            evicted.getOnRejected().run();
+        }
+
+        switch (admission) {
+            case STARTED -> dispatch(run);
+            case REJECTED -> run.getOnRejected().run();
+            default -> { }
+        }
+        return admission;
+    }
+
+    // Holds the submitting thread while the run could neither start nor queue, so a full queue
+    // slows down the fires instead of dropping them or running them past the limits
+    private void awaitRoom(PendingRun run, Deque<PendingRun> queue, int capacity) {
+        try {
+            while (!shuttingDown && !hasFreeSlot(run) && queue.size() >= capacity) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public synchronized int getActiveCount(JobType type) {
+        return runningByType.get(type);
+    }
+
+    // Global slots not taken by running executions
+    public synchronized int getAvailableSlots() {
+        return Math.max(0, maxConcurrentExecutions - running);
+    }
+
+    public synchronized int getQueuedCount(JobType type) {
+        return queues.get(type).size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        synchronized (this) {
+            shuttingDown = true;
+            notifyAll();
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Job executions still running after 30s, interrupting");
+            executor.shutdownNow();
+        }
+    }
+
+    private void dispatch(PendingRun run) {
+        waitTimers.get(run.getType()).record(System.nanoTime() - run.getSubmittedNanos(), TimeUnit.NANOSECONDS);
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            if (released.compareAndSet(false, true)) {
+                release(run);
+            }
+        };
+        try {
+            executor.execute(() -> {
+                boolean returned = false;
+                try {
+                    run.getOnStart().accept(releaseSlot);
+                    run.getTask().run();
+                    returned = true;
+                } finally {
+                    if (!returned || !run.isReleasesSlot()) {
+                        releaseSlot.run();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.error("Execution engine rejected {} task: {}", run.getType(), e.getMessage());
+            releaseSlot.run();
+            run.getOnRejected().run();
+        }
+    }
+
+    private void release(PendingRun run) {
+        PendingRun next;
+        synchronized (this) {
+            running--;
+            runningByType.merge(run.getType(), -1, Integer::sum);
+            runningByResource.merge(run.getResourceClass(), -1, Integer::sum);
+            next = pollNext();
+            if (next != null) {
+                acquire(next);
+            }
+            // A slot or a queue entry is free again for callers waiting under BLOCK_CALLER
+            notifyAll();
+        }
+        if (next != null) {
+            dispatch(next);
+        }
+    }
+
+    // First run in dispatch order among the types that currently have a free slot. Queues are
+    // bounded, so a linear scan is cheap and lets the order depend on the current time.
+    private PendingRun pollNext() {
+        Comparator<PendingRun> order = dispatchPolicy.order(System.nanoTime());
+        Deque<PendingRun> source = null;
+        PendingRun best = null;
+        for (Map.Entry<JobType, Deque<PendingRun>> entry : queues.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            for (PendingRun candidate : entry.getValue()) {
+                if (!hasFreeSlot(candidate)) {
+                    continue;
+                }
+                if (best == null || order.compare(candidate, best) < 0) {
+                    best = candidate;
+                    source = entry.getValue();
+                }
+            }
+        }
+        if (best != null) {
+            PendingRun chosen = best;
+            source.removeIf(run -> run == chosen);
+        }
+        return best;
+    }
+
+    private boolean hasFreeSlot(PendingRun run) {
+        return running < maxConcurrentExecutions
+                && runningByType.get(run.getType()) < properties.concurrencyFor(run.getType())
+                && runningByResource.get(run.getResourceClass()) < properties.concurrencyFor(run.getResourceClass());
+    }
+
+    private void acquire(PendingRun run) {
+        running++;
+        runningByType.merge(run.getType(), 1, Integer::sum);
+        runningByResource.merge(run.getResourceClass(), 1, Integer::sum);
+    }
+
+    private void registerMeters(JobType type, MeterRegistry meterRegistry) {
+        String tag = type.name();
+        Gauge.builder("chronos.jobs.admission.queue.depth", this, engine -> engine.getQueuedCount(type))
+                .tag("type", tag)
+                .description("Runs waiting for an execution slot")
+                .register(meterRegistry);
+        Gauge.builder("chronos.jobs.admission.active", this, engine -> engine.getActiveCount(type))
+                .tag("type", tag)
+                .description("Runs holding an execution slot")
+                .register(meterRegistry);
+        waitTimers.put(type, Timer.builder("chronos.jobs.admission.wait")
+                .tag("type", tag)
+                .description("Time between submission and dispatch of a run")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+
+        Map<Admission, Counter> counters = new EnumMap<>(Admission.class);
+        for (Admission admission : Admission.values()) {
+            counters.put(admission, Counter.builder("chronos.jobs.admission.total")
+                    .tag("type", tag)
+                    .tag("outcome", admission.name())
+                    .description("Admission decisions per job type")
+                    .register(meterRegistry));
+        }
+        admissionCounters.put(type, counters);
+        evictionCounters.put(type, Counter.builder("chronos.jobs.admission.evicted")
+                .tag("type", tag)
+                .description("Queued runs dropped to make room for newer ones")
+                .register(meterRegistry));
+    }
+
+    private static ExecutorService createExecutor(ExecutionProperties properties) {
+        return switch (properties.getMode()) {
+            case VIRTUAL_THREADS -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("chronos-run-", 0).factory());
+            case PLATFORM_THREADS -> Executors.newFixedThreadPool(
+                    properties.getPlatformPoolSize(), new CustomizableThreadFactory("chronos-run-"));
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.function.Consumer;
+
+/**
+ * A run waiting for, or holding, an execution slot.
+ */
+@Value
+@Builder
+public class PendingRun {
+    JobType type;
+    String jobId;
+
+    @Builder.Default
+    JobPriority priority = JobPriority.MEDIUM;
+
+    @Builder.Default
+    ResourceClass resourceClass = ResourceClass.IO;
+
+    // Historical duration of the job, 0 when unknown
+    long expectedDurationMs;
+
+    Runnable task;
+
+    // Invoked on the worker thread just before the task with a callback that gives the slot back
+    // early, for runs that are cancelled but cannot be stopped right away. Idempotent.
+    @Builder.Default
+    Consumer<Runnable> onStart = releaseSlot -> { };
+
+    // The task hands the slot back itself through the onStart callback, possibly after it returned,
+    // for runs that complete asynchronously. The engine still releases it if the task throws.
+    boolean releasesSlot;
+
+    // Invoked instead of the task if the run is rejected or evicted from the queue
+    Runnable onRejected;
+
+    @Builder.Default
+    long submittedNanos = System.nanoTime();
+
+    public long waitedNanos(long nowNanos) {
+        return nowNanos - submittedNanos;
+    }
+}
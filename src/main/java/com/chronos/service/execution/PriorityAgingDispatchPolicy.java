@@ -0,0 +1,27 @@
+package com.chronos.service.execution;
+
+import java.time.Duration;
+import java.util.Comparator;
+
+/**
+ * Strict priority, except that a run gains one priority level for every aging interval it
+ * has spent in the queue, so a LOW run cannot be starved by a steady stream of HIGH runs.
+ */
+public class PriorityAgingDispatchPolicy implements DispatchPolicy {
+
+    private final long agingIntervalNanos;
+
+    public PriorityAgingDispatchPolicy(Duration agingInterval) {
+        this.agingIntervalNanos = Math.max(1, agingInterval.toNanos());
+    }
+
+    @Override
+    public Comparator<PendingRun> order(long nowNanos) {
+        return Comparator.comparingLong((PendingRun run) -> -effectivePriority(run, nowNanos))
+                .thenComparingLong(PendingRun::getSubmittedNanos);
+    }
+
+    long effectivePriority(PendingRun run, long nowNanos) {
+        return run.getPriority().ordinal() + run.waitedNanos(nowNanos) / agingIntervalNanos;
+    }
+}
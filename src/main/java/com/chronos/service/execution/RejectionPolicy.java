@@ -0,0 +1,14 @@
+package com.chronos.service.execution;
+
+/**
+ * What the execution engine does with a run when its type's admission queue is full.
+ */
+public enum RejectionPolicy {
+    // Drop the incoming run
+    REJECT,
+    // Evict the oldest queued run of the same type to make room for the incoming one
+    DROP_OLDEST,
+    // Hold the submitting (Quartz) thread until the run can start or queue, throttling further fires;
+    // unlike ThreadPoolExecutor.CallerRunsPolicy the run never executes on that thread
+    BLOCK_CALLER
+}
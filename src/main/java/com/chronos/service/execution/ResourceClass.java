@@ -0,0 +1,14 @@
+package com.chronos.service.execution;
+
+/**
+ * What a job type's executor mostly consumes while a run is in flight. The execution engine can
+ * cap each class on top of the per-type limits.
+ */
+public enum ResourceClass {
+    // Waits on remote systems; cheap to run many of, especially when the executor is non-blocking
+    IO,
+    // Keeps a core busy in this JVM
+    CPU,
+    // Forks an operating system process per run
+    PROCESS
+}
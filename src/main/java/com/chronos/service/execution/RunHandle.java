@@ -0,0 +1,162 @@
+package com.chronos.service.execution;
+
+import lombok.Getter;
+
+import java.util.concurrent.Future;
+
+/**
+ * Cancellable handle on one run, from submission until it completes.
+ *
+ * Cancelling gives the execution slot back right away, destroys the process tree the run
+ * started, if any, interrupts the thread executing it and cancels the result of an executor
+ * that completes asynchronously. Executors blocked in calls that ignore interrupts keep their
+ * thread until the call returns, but no longer hold up the runs queued behind them. A run
+ * cancelled while still queued never starts.
+ */
+public class RunHandle {
+
+    @Getter
+    private final String jobId;
+    @Getter
+    private final String runId;
+
+    // Guarded by this
+    private Thread thread;
+    private Process process;
+    private Future<?> result;
+    private Runnable slotRelease = () -> { };
+    private CancellationReason cancellation;
+    private boolean completed;
+
+    public RunHandle(String jobId, String runId) {
+        this.jobId = jobId;
+        this.runId = runId;
+    }
+
+    /**
+     * Binds the handle to the thread that executes the run.
+     *
+     * @return false if the run was cancelled before it started
+     */
+    public synchronized boolean start(Thread thread, Runnable slotRelease) {
+        this.slotRelease = slotRelease;
+        if (cancellation != null) {
+            slotRelease.run();
+            return false;
+        }
+        this.thread = thread;
+        return true;
+    }
+
+    /**
+     * Detaches the executing thread once the executor returned, which may be before the run
+     * completes. Clears an interrupt this handle may have raised so it does not leak into the
+     * next task of a pooled thread.
+     */
+    public synchronized void detach() {
+        if (thread == Thread.currentThread() && cancellation != null) {
+            Thread.interrupted();
+        }
+        thread = null;
+    }
+
+    public synchronized void attachResult(Future<?> result) {
+        if (cancellation != null) {
+            result.cancel(true);
+            return;
+        }
+        this.result = result;
+    }
+
+    /**
+     * Gives the execution slot back, for runs that complete after their thread was detached.
+     * Releasing more than once has no effect.
+     */
+    public void releaseSlot() {
+        Runnable release;
+        synchronized (this) {
+            release = slotRelease;
+        }
+        release.run();
+    }
+
+    public synchronized void attachProcess(Process process) {
+        if (cancellation != null) {
+            destroyTree(process);
+            return;
+        }
+        this.process = process;
+    }
+
+    /**
+     * Takes back a process that outlives the run, such as a pooled shell returned after it, so
+     * neither a late cancel nor the cleanup after the run destroys it.
+     */
+    public synchronized void detachProcess(Process process) {
+        if (this.process == process) {
+            this.process = null;
+        }
+    }
+
+    /**
+     * @return false if the run was already cancelled
+     */
+    public boolean cancel(CancellationReason reason) {
+        Runnable release;
+        Future<?> pending;
+        synchronized (this) {
+            if (cancellation != null) {
+                return false;
+            }
+            cancellation = reason;
+            if (process != null) {
+                destroyTree(process);
+            }
+            if (thread != null) {
+                thread.interrupt();
+            }
+            pending = result;
+            release = slotRelease;
+        }
+        // Outside the lock, cancelling runs the callbacks waiting on the result
+        if (pending != null) {
+            pending.cancel(true);
+        }
+        release.run();
+        return true;
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancellation != null;
+    }
+
+    public synchronized CancellationReason getCancellation() {
+        return cancellation;
+    }
+
+    /**
+     * Either the executing thread or whoever cancelled the run records its outcome, never both.
+     *
+     * @return true for the first caller only
+     */
+    public synchronized boolean markCompleted() {
+        if (completed) {
+            return false;
+        }
+        completed = true;
+        return true;
+    }
+
+    public synchronized void destroyProcess() {
+        if (process != null) {
+            destroyTree(process);
+            process = null;
+        }
+    }
+
+    // Children are collected first, they are re-parented once the shell itself is gone
+    private static void destroyTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+}
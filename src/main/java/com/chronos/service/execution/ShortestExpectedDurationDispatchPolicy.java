@@ -0,0 +1,22 @@
+package com.chronos.service.execution;
+
+import java.util.Comparator;
+
+/**
+ * Dispatches the run with the shortest historical duration first, which minimizes the average
+ * queue wait. Runs of jobs without history have an expected duration of 0 and go first so
+ * that they get measured.
+ */
+public class ShortestExpectedDurationDispatchPolicy implements DispatchPolicy {
+
+    @Override
+    public Comparator<PendingRun> order(long nowNanos) {
+        return Comparator.comparingLong(PendingRun::getExpectedDurationMs)
+                .thenComparingLong(PendingRun::getSubmittedNanos);
+    }
+
+    @Override
+    public boolean usesExpectedDuration() {
+        return true;
+    }
+}
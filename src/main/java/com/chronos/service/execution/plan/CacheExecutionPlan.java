@@ -0,0 +1,21 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.api.dto.job.payload.CacheJobPayload;
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CacheExecutionPlan implements ExecutionPlan {
+
+    // Upper case
+    String operation;
+    // Converted once at compile time; must not be modified
+    CacheJobPayload payload;
+
+    @Override
+    public JobType getType() {
+        return JobType.CACHE;
+    }
+}
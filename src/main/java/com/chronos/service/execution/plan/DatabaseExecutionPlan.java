@@ -0,0 +1,44 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.payload.DatabaseJobPayload;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class DatabaseExecutionPlan implements ExecutionPlan {
+
+    // Connection settings for DatabaseJobDataSourceFactory
+    DatabaseJobPayload connection;
+    String query;
+    // Bind values in parameter order, empty when the query takes none
+    List<Object> arguments;
+    boolean readOnly;
+
+    public boolean hasArguments() {
+        return !arguments.isEmpty();
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.DATABASE;
+    }
+
+    @Override
+    public String getTarget() {
+        return target(connection);
+    }
+
+    // JDBC URL without credentials or connection properties
+    static String target(DatabaseJobPayload connection) {
+        String url = connection != null ? connection.getDatabaseUrl() : null;
+        if (url == null) {
+            return null;
+        }
+        int properties = url.indexOf('?');
+        return (properties >= 0 ? url.substring(0, properties) : url).replaceFirst("//[^/@]*@", "//");
+    }
+}
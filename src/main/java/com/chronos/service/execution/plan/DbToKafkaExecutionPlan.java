@@ -0,0 +1,43 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.payload.DatabaseJobPayload;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+public class DbToKafkaExecutionPlan implements ExecutionPlan {
+
+    // Connection settings for DatabaseJobDataSourceFactory
+    DatabaseJobPayload connection;
+    String query;
+    // Query with the offset condition bound as the last parameter, null without an offset field
+    String offsetQuery;
+    String offsetField;
+    String initialOffset;
+    String tableName;
+
+    String kafkaTopic;
+    String kafkaKeyField;
+    String deadLetterTopic;
+    int batchSize;
+    Map<String, String> fieldMappings;
+    List<String> excludeFields;
+    boolean includeMetadata;
+    boolean skipOnError;
+
+    @Override
+    public JobType getType() {
+        return JobType.DB_TO_KAFKA;
+    }
+
+    // The source database; the query runs against it before anything is produced
+    @Override
+    public String getTarget() {
+        return DatabaseExecutionPlan.target(connection);
+    }
+}
@@ -0,0 +1,21 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.enums.JobType;
+
+/**
+ * Immutable, type-specific form of a job payload, compiled once per job definition by
+ * {@link ExecutionPlanCompiler} so that runs do not re-parse URLs, patterns and queries or
+ * round-trip the payload through Jackson every time the job fires.
+ */
+public interface ExecutionPlan {
+
+    JobType getType();
+
+    /**
+     * Downstream system the run talks to, which keys its circuit breaker; null for plans that
+     * touch no single external target.
+     */
+    default String getTarget() {
+        return null;
+    }
+}
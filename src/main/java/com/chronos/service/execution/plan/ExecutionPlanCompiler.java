@@ -0,0 +1,306 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.api.dto.job.payload.CacheJobPayload;
+import com.chronos.api.dto.job.payload.MessageQueueJobPayload;
+import com.chronos.api.dto.job.payload.ReportJobPayload;
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobPayload;
+import com.chronos.domain.model.payload.DatabaseJobPayload;
+import com.chronos.domain.model.payload.DbToKafkaJobPayload;
+import com.chronos.domain.model.payload.FileSystemJobPayload;
+import com.chronos.domain.model.payload.HttpBatchJobPayload;
+import com.chronos.domain.model.payload.HttpJobPayload;
+import com.chronos.domain.model.payload.ScriptJobPayload;
+import com.chronos.exception.JobExecutionException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns a job payload into its {@link ExecutionPlan}. Everything that only depends on the
+ * payload is done here, once per job definition, instead of on every run.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExecutionPlanCompiler {
+
+    // Set by the HTTP client itself, which rejects them as request headers
+    private static final Set<String> CLIENT_MANAGED_HEADERS =
+            Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return the plan for the job's type, null for types that do not use their payload
+     * @throws JobExecutionException if the payload does not match the job type or is invalid
+     */
+    public ExecutionPlan compile(Job job) {
+        JobPayload payload = job.getPayload();
+        return switch (job.getType()) {
+            case HTTP -> compileHttp(payload);
+            case HTTP_BATCH -> compileHttpBatch(payload);
+            case SCRIPT -> compileScript(payload);
+            case DATABASE -> compileDatabase(payload);
+            case DB_TO_KAFKA -> compileDbToKafka(payload);
+            case FILE_SYSTEM -> compileFileSystem(payload);
+            case CACHE -> compileCache(payload);
+            case MESSAGE_QUEUE -> compileMessageQueue(payload);
+            case REPORT -> compileReport(payload);
+            default -> null;
+        };
+    }
+
+    public HttpExecutionPlan compileHttp(JobPayload payload) {
+        if (!(payload instanceof HttpJobPayload httpPayload)) {
+            throw new JobExecutionException("Invalid payload type for HTTP job");
+        }
+        try {
+            URI uri = URI.create(httpPayload.getHttpUrl());
+            String method = httpPayload.getHttpMethod().toUpperCase();
+            Map<String, String> headers = httpPayload.getHttpHeaders() != null ? httpPayload.getHttpHeaders() : Map.of();
+            HttpRequest.Builder request = httpRequest(uri, method, httpPayload.getHttpBody(), headers,
+                    httpPayload.getHttpTimeoutSeconds());
+            boolean capture = Boolean.TRUE.equals(httpPayload.getHttpCaptureResponse());
+            // The JDK client does not negotiate compression itself; captured bodies are decoded on the fly
+            if (capture && headers.keySet().stream().noneMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase)) {
+                request.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+            }
+            int previewKb = httpPayload.getHttpResponsePreviewKb() != null ? httpPayload.getHttpResponsePreviewKb() : 0;
+
+            return HttpExecutionPlan.builder()
+                    .uri(uri)
+                    .method(method)
+                    .request(request.build())
+                    .captureResponse(capture)
+                    .previewBytes(capture ? previewKb * 1024 : 0)
+                    .rateLimitPerMinute(httpPayload.getHttpRateLimitPerMinute())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new JobExecutionException("Invalid HTTP job definition: " + e.getMessage(), e);
+        }
+    }
+
+    public HttpBatchExecutionPlan compileHttpBatch(JobPayload payload) {
+        if (!(payload instanceof HttpBatchJobPayload batchPayload)) {
+            throw new JobExecutionException("Invalid payload type for HTTP_BATCH job");
+        }
+        try {
+            List<URI> uris;
+            if (batchPayload.getBatchUrlTemplate() != null && !batchPayload.getBatchUrlTemplate().isBlank()) {
+                String template = batchPayload.getBatchUrlTemplate();
+                List<String> values = batchPayload.getBatchTemplateValues() != null
+                        ? batchPayload.getBatchTemplateValues() : List.of();
+                uris = values.stream()
+                        .map(value -> URI.create(template.replace(HttpBatchJobPayload.TEMPLATE_PLACEHOLDER,
+                                URLEncoder.encode(value, StandardCharsets.UTF_8))))
+                        .toList();
+            } else {
+                uris = (batchPayload.getBatchUrls() != null ? batchPayload.getBatchUrls() : List.<String>of()).stream()
+                        .map(URI::create)
+                        .toList();
+            }
+            if (uris.isEmpty()) {
+                throw new JobExecutionException("HTTP_BATCH job has no URLs to request");
+            }
+            for (URI uri : uris) {
+                if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+                    throw new JobExecutionException("Batch URL must use http or https: " + uri);
+                }
+            }
+
+            String method = batchPayload.getHttpMethod().toUpperCase();
+            Map<String, String> headers = batchPayload.getHttpHeaders() != null ? batchPayload.getHttpHeaders() : Map.of();
+            return HttpBatchExecutionPlan.builder()
+                    .method(method)
+                    .uris(uris)
+                    .template(httpRequest(uris.get(0), method, batchPayload.getHttpBody(), headers,
+                            batchPayload.getHttpTimeoutSeconds()).build())
+                    .concurrency(batchPayload.getBatchConcurrency() != null && batchPayload.getBatchConcurrency() > 0
+                            ? batchPayload.getBatchConcurrency() : 1)
+                    .maxFailures(batchPayload.getBatchMaxFailures() != null ? batchPayload.getBatchMaxFailures() : 0)
+                    .rateLimitPerMinute(batchPayload.getHttpRateLimitPerMinute())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new JobExecutionException("Invalid HTTP_BATCH job definition: " + e.getMessage(), e);
+        }
+    }
+
+    private static HttpRequest.Builder httpRequest(URI uri, String method, String body,
+                                                   Map<String, String> headers, Integer timeoutSeconds) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .method(method, body != null
+                        ? HttpRequest.BodyPublishers.ofString(body)
+                        : HttpRequest.BodyPublishers.noBody());
+        headers.forEach((name, value) -> {
+            if (!CLIENT_MANAGED_HEADERS.contains(name.toLowerCase())) {
+                request.header(name, value);
+            }
+        });
+        if (body != null && headers.keySet().stream().noneMatch(HttpHeaders.CONTENT_TYPE::equalsIgnoreCase)) {
+            request.header(HttpHeaders.CONTENT_TYPE, "text/plain;charset=UTF-8");
+        }
+        if (timeoutSeconds != null) {
+            request.timeout(Duration.ofSeconds(timeoutSeconds));
+        }
+        return request;
+    }
+
+    public ScriptExecutionPlan compileScript(JobPayload payload) {
+        if (!(payload instanceof ScriptJobPayload scriptPayload)) {
+            throw new JobExecutionException("Invalid payload type for Script job");
+        }
+        return ScriptExecutionPlan.builder()
+                .script(scriptPayload.getScript())
+                .command(List.of("bash", "-c", scriptPayload.getScript()))
+                .build();
+    }
+
+    public DatabaseExecutionPlan compileDatabase(JobPayload payload) {
+        if (!(payload instanceof DatabaseJobPayload databasePayload)) {
+            throw new JobExecutionException("Invalid payload type for DATABASE job");
+        }
+        List<Object> arguments = databasePayload.getParameters() != null
+                ? Collections.unmodifiableList(new ArrayList<>(databasePayload.getParameters().values()))
+                : List.of();
+        return DatabaseExecutionPlan.builder()
+                .connection(databasePayload)
+                .query(databasePayload.getQuery())
+                .arguments(arguments)
+                .readOnly(Boolean.TRUE.equals(databasePayload.getReadOnly()))
+                .build();
+    }
+
+    public DbToKafkaExecutionPlan compileDbToKafka(JobPayload payload) {
+        if (!(payload instanceof DbToKafkaJobPayload kafkaPayload)) {
+            throw new JobExecutionException("Invalid payload type for DB_TO_KAFKA job");
+        }
+        DatabaseJobPayload connection = new DatabaseJobPayload();
+        connection.setDatabaseUrl(kafkaPayload.getDatabaseUrl());
+        connection.setQuery(kafkaPayload.getQuery());
+        connection.setParameters(kafkaPayload.getQueryParameters());
+        connection.setQueryTimeoutSeconds(kafkaPayload.getQueryTimeoutSeconds());
+
+        String offsetField = kafkaPayload.getOffsetField();
+        return DbToKafkaExecutionPlan.builder()
+                .connection(connection)
+                .query(buildQuery(kafkaPayload, false))
+                .offsetQuery(offsetField != null ? buildQuery(kafkaPayload, true) : null)
+                .offsetField(offsetField)
+                .initialOffset(kafkaPayload.getLastProcessedValue())
+                .tableName(extractTableFromQuery(kafkaPayload.getQuery()))
+                .kafkaTopic(kafkaPayload.getKafkaTopic())
+                .kafkaKeyField(kafkaPayload.getKafkaKeyField())
+                .deadLetterTopic(kafkaPayload.getDeadLetterTopic())
+                .batchSize(kafkaPayload.getBatchSize() != null ? kafkaPayload.getBatchSize() : 1000)
+                .fieldMappings(kafkaPayload.getFieldMappings() != null
+                        ? Map.copyOf(kafkaPayload.getFieldMappings()) : Map.of())
+                .excludeFields(kafkaPayload.getExcludeFields() != null
+                        ? List.copyOf(kafkaPayload.getExcludeFields()) : List.of())
+                .includeMetadata(kafkaPayload.isIncludeMetadata())
+                .skipOnError(kafkaPayload.isSkipOnError())
+                .build();
+    }
+
+    public FileSystemExecutionPlan compileFileSystem(JobPayload payload) {
+        if (!(payload instanceof FileSystemJobPayload filePayload)) {
+            throw new JobExecutionException("Invalid payload type for FILE_SYSTEM job");
+        }
+        Map<String, Object> parameters = filePayload.getParameters() != null
+                ? filePayload.getParameters() : Map.of();
+        @SuppressWarnings("unchecked")
+        List<String> patterns = parameters.containsKey("filePatterns")
+                ? (List<String>) parameters.get("filePatterns")
+                : List.of("*");
+        List<PathMatcher> matchers = patterns.stream()
+                .map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern))
+                .toList();
+        Object compressionType = parameters.get("compressionType");
+
+        return FileSystemExecutionPlan.builder()
+                .operation(filePayload.getOperation().toUpperCase())
+                .path(Path.of(filePayload.getPath()))
+                .targetPath(filePayload.getTargetPath() != null ? Path.of(filePayload.getTargetPath()) : null)
+                .matchers(matchers)
+                .maxDepth(Boolean.TRUE.equals(parameters.get("recursive")) ? Integer.MAX_VALUE : 1)
+                .compressionType(compressionType != null ? compressionType.toString() : null)
+                .build();
+    }
+
+    public CacheExecutionPlan compileCache(JobPayload payload) {
+        CacheJobPayload cachePayload = objectMapper.convertValue(payload, CacheJobPayload.class);
+        return CacheExecutionPlan.builder()
+                .operation(cachePayload.getOperation().toUpperCase())
+                .payload(cachePayload)
+                .build();
+    }
+
+    public MessageQueueExecutionPlan compileMessageQueue(JobPayload payload) {
+        MessageQueueJobPayload queuePayload = objectMapper.convertValue(payload, MessageQueueJobPayload.class);
+        Map<String, Object> queueConfig = queuePayload.getQueueConfig() != null
+                ? queuePayload.getQueueConfig() : new HashMap<>();
+        return MessageQueueExecutionPlan.builder()
+                .operation(queuePayload.getOperationType().toUpperCase())
+                .queueType(queueConfig.getOrDefault("type", "RABBITMQ").toString())
+                .payload(queuePayload)
+                .build();
+    }
+
+    public ReportExecutionPlan compileReport(JobPayload payload) {
+        return ReportExecutionPlan.builder()
+                .payload(objectMapper.convertValue(payload, ReportJobPayload.class))
+                .build();
+    }
+
+    // The offset condition is a bind parameter, so the query text is the same on every run
+    private static String buildQuery(DbToKafkaJobPayload payload, boolean withOffset) {
+        String query = payload.getQuery().trim();
+
+        if (withOffset) {
+            String condition = String.format(" WHERE %s > ?", payload.getOffsetField());
+            if (query.toUpperCase().contains("WHERE")) {
+                query = query.replaceFirst("(?i)WHERE", condition + " AND");
+            } else {
+                query += condition;
+            }
+        }
+
+        // Add ORDER BY for consistent processing
+        if (payload.getOffsetField() != null && !query.toUpperCase().contains("ORDER BY")) {
+            query += String.format(" ORDER BY %s ASC", payload.getOffsetField());
+        }
+
+        // Add LIMIT for batch processing (only if not already present)
+        if (payload.getMaxRecords() != null && !query.toUpperCase().contains("LIMIT")) {
+            query += String.format(" LIMIT %d", payload.getMaxRecords());
+        }
+        return query;
+    }
+
+    // Simple table name extraction from a SELECT query
+    private static String extractTableFromQuery(String query) {
+        int fromIndex = query.toUpperCase().indexOf("FROM");
+        if (fromIndex != -1) {
+            String[] parts = query.substring(fromIndex + 4).trim().split("\\s+");
+            if (parts.length > 0 && !parts[0].isEmpty()) {
+                return parts[0];
+            }
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,27 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+
+@Value
+@Builder
+public class FileSystemExecutionPlan implements ExecutionPlan {
+
+    // Upper case
+    String operation;
+    Path path;
+    Path targetPath;
+    List<PathMatcher> matchers;
+    int maxDepth;
+    String compressionType;
+
+    @Override
+    public JobType getType() {
+        return JobType.FILE_SYSTEM;
+    }
+}
@@ -0,0 +1,33 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+
+@Value
+@Builder
+public class HttpBatchExecutionPlan implements ExecutionPlan {
+
+    String method;
+
+    // Expanded once per definition, in the order they are requested
+    List<URI> uris;
+
+    // Method, headers, body and timeout shared by every request; copied with each URI when sent
+    HttpRequest template;
+
+    int concurrency;
+    int maxFailures;
+
+    // The job's own rate limit, null to use the host's
+    Integer rateLimitPerMinute;
+
+    @Override
+    public JobType getType() {
+        return JobType.HTTP_BATCH;
+    }
+}
@@ -0,0 +1,43 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+
+@Value
+@Builder
+public class HttpExecutionPlan implements ExecutionPlan {
+
+    URI uri;
+    String method;
+
+    // Immutable and sent as is on every run; without a timeout when the job sets none
+    HttpRequest request;
+
+    // Whether the body is streamed through a digest instead of discarded
+    boolean captureResponse;
+
+    // Decoded bytes of the body kept for the run log, 0 for none
+    int previewBytes;
+
+    // The job's own rate limit, null to use the host's
+    Integer rateLimitPerMinute;
+
+    @Override
+    public JobType getType() {
+        return JobType.HTTP;
+    }
+
+    @Override
+    public String getTarget() {
+        return target(uri);
+    }
+
+    // Shared with batch requests so both trip the same breaker for a host
+    public static String target(URI uri) {
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
@@ -0,0 +1,27 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.api.dto.job.payload.MessageQueueJobPayload;
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class MessageQueueExecutionPlan implements ExecutionPlan {
+
+    // Upper case
+    String operation;
+    String queueType;
+    // Converted once at compile time; must not be modified
+    MessageQueueJobPayload payload;
+
+    @Override
+    public JobType getType() {
+        return JobType.MESSAGE_QUEUE;
+    }
+
+    @Override
+    public String getTarget() {
+        return (queueType != null ? queueType.toLowerCase() : "queue") + ":" + payload.getQueueName();
+    }
+}
@@ -0,0 +1,19 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.api.dto.job.payload.ReportJobPayload;
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ReportExecutionPlan implements ExecutionPlan {
+
+    // Converted once at compile time; must not be modified
+    ReportJobPayload payload;
+
+    @Override
+    public JobType getType() {
+        return JobType.REPORT;
+    }
+}
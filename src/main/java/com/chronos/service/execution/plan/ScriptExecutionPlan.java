@@ -0,0 +1,22 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.enums.JobType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ScriptExecutionPlan implements ExecutionPlan {
+
+    // Source, for runners that do not start a process per run
+    String script;
+
+    List<String> command;
+
+    @Override
+    public JobType getType() {
+        return JobType.SCRIPT;
+    }
+}
@@ -0,0 +1,96 @@
+package com.chronos.service.executor;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outcome counts and latency percentiles of the requests of one batch run. Each request records
+ * its own slot, so requests completing concurrently do not contend.
+ */
+class BatchStats {
+
+    private static final int MAX_ERROR_SAMPLES = 10;
+
+    private final int total;
+    // Per request, -1 for requests that were never sent
+    private final long[] latenciesMs;
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final AtomicInteger circuitOpen = new AtomicInteger();
+    private final AtomicInteger errorSamples = new AtomicInteger();
+    private final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+
+    BatchStats(int total) {
+        this.total = total;
+        this.latenciesMs = new long[total];
+        Arrays.fill(latenciesMs, -1);
+    }
+
+    void recordSuccess(int index, long latencyMs) {
+        latenciesMs[index] = latencyMs;
+        succeeded.incrementAndGet();
+    }
+
+    void recordFailure(int index, long latencyMs, String error) {
+        latenciesMs[index] = latencyMs;
+        recordError(error);
+    }
+
+    // Failed without being sent, no rate limit token freed up in time
+    void recordThrottled(String error) {
+        throttled.incrementAndGet();
+        recordError(error);
+    }
+
+    // Failed without being sent, the host's circuit breaker is open
+    void recordCircuitOpen(String error) {
+        circuitOpen.incrementAndGet();
+        recordError(error);
+    }
+
+    private void recordError(String error) {
+        failed.incrementAndGet();
+        if (errorSamples.getAndIncrement() < MAX_ERROR_SAMPLES) {
+            errors.add(error);
+        }
+    }
+
+    int failed() {
+        return failed.get();
+    }
+
+    /**
+     * Only consistent once every request of the batch completed.
+     */
+    Map<String, Object> toMap() {
+        long[] sent = Arrays.stream(latenciesMs).filter(latency -> latency >= 0).sorted().toArray();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", total);
+        stats.put("succeeded", succeeded.get());
+        stats.put("failed", failed.get());
+        stats.put("throttled", throttled.get());
+        stats.put("circuitOpen", circuitOpen.get());
+        stats.put("skipped", total - succeeded.get() - failed.get());
+        if (sent.length > 0) {
+            stats.put("p50Ms", percentile(sent, 0.50));
+            stats.put("p90Ms", percentile(sent, 0.90));
+            stats.put("p99Ms", percentile(sent, 0.99));
+            stats.put("maxMs", sent[sent.length - 1]);
+        }
+        if (!errors.isEmpty()) {
+            stats.put("errors", List.copyOf(errors));
+        }
+        return stats;
+    }
+
+    // Nearest-rank percentile of sorted values
+    static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -3,11 +3,14 @@ package com.chronos.service.executor;
 import com.chronos.api.dto.job.payload.CacheJobPayload;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
 import com.chronos.exception.JobExecutionException;
 import org.springframework.context.ApplicationContext;
 import com.chronos.service.JobExecutorService;
 import com.chronos.service.cache.CacheStatisticsCollector;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.CacheExecutionPlan;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
 import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,31 +23,56 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class CacheJobExecutor {
+public class CacheJobExecutor implements JobTypeExecutor {
     
     private final ApplicationContext applicationContext;
-    private final ObjectMapper objectMapper;
+    private final ExecutionPlanCompiler planCompiler;
     private final CacheManager cacheManager;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheStatisticsCollector statisticsCollector;
 
+    @Override
+    public JobType getJobType() {
+        return JobType.CACHE;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Timed(value = "cache.job.execution", extraTags = {"operation", "#{payload.operation}"})
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        return JobTypeExecutor.blocking(() ->
+                execute(context.getJob(), context.getRun(), context.getPlan(CacheExecutionPlan.class)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void execute(Job job, JobRun run) {
+        execute(job, run, null);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void execute(Job job, JobRun run, CacheExecutionPlan plan) {
         try {
-            CacheJobPayload payload = objectMapper.convertValue(
-                job.getPayload(), CacheJobPayload.class);
+            if (plan == null) {
+                plan = planCompiler.compileCache(job.getPayload());
+            }
+            CacheJobPayload payload = plan.getPayload();
 
             getJobExecutorService().logOutput(run, "INFO", 
                 String.format("Executing cache operation %s on region %s", 
                     payload.getOperation(), payload.getRegion()));
 
-            switch (payload.getOperation().toUpperCase()) {
+            switch (plan.getOperation()) {
                 case "WARM":
                     warmCache(payload, run);
                     break;
@@ -1,12 +1,14 @@
 package com.chronos.service.executor;
 
 import com.chronos.config.DatabaseJobDataSourceFactory;
-import com.chronos.domain.model.payload.DatabaseJobPayload;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
 import com.chronos.event.JobLogEvent;
 import com.chronos.exception.JobExecutionException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.DatabaseExecutionPlan;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -16,54 +18,79 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
 
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DatabaseJobExecutor implements JobTypeExecutor {
     
-    private final ObjectMapper objectMapper;
+    private final ExecutionPlanCompiler planCompiler;
     private final DatabaseJobDataSourceFactory dataSourceFactory;
     private final ApplicationEventPublisher eventPublisher;
 
+    @Override
+    public JobType getJobType() {
+        return JobType.DATABASE;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        return JobTypeExecutor.blocking(() ->
+                execute(context.getJob(), context.getRun(), context.getPlan(DatabaseExecutionPlan.class)));
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void execute(Job job, JobRun run) {
+        execute(job, run, null);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void execute(Job job, JobRun run, DatabaseExecutionPlan plan) {
         try {
-            DatabaseJobPayload payload = objectMapper.convertValue(
-                job.getPayload(), DatabaseJobPayload.class);
+            if (plan == null) {
+                plan = planCompiler.compileDatabase(job.getPayload());
+            }
 
             eventPublisher.publishEvent(new JobLogEvent(this, run, "INFO",
-                String.format("Executing database query on %s", payload.getDatabaseUrl())));
+                String.format("Executing database query on %s", plan.getConnection().getDatabaseUrl())));
 
-            JdbcTemplate jdbcTemplate = dataSourceFactory.createJdbcTemplate(payload);
+            JdbcTemplate jdbcTemplate = dataSourceFactory.createJdbcTemplate(plan.getConnection());
             Map<String, Object> result;
 
-            if (payload.getReadOnly() != null && payload.getReadOnly()) {
+            if (plan.isReadOnly()) {
                 // For read-only queries
-                if (payload.getParameters() != null && !payload.getParameters().isEmpty()) {
+                if (plan.hasArguments()) {
+                    Object[] arguments = plan.getArguments().toArray();
                     try {
                         // Try single row first
-                        result = jdbcTemplate.queryForMap(payload.getQuery(), payload.getParameters().values().toArray());
+                        result = jdbcTemplate.queryForMap(plan.getQuery(), arguments);
                     } catch (org.springframework.dao.IncorrectResultSizeDataAccessException e) {
                         // If multiple rows, return them as a list
-                        result = Map.of("rows", jdbcTemplate.queryForList(payload.getQuery(), payload.getParameters().values().toArray()));
+                        result = Map.of("rows", jdbcTemplate.queryForList(plan.getQuery(), arguments));
                     }
                 } else {
                     try {
                         // Try single row first
-                        result = jdbcTemplate.queryForMap(payload.getQuery());
+                        result = jdbcTemplate.queryForMap(plan.getQuery());
                     } catch (org.springframework.dao.IncorrectResultSizeDataAccessException e) {
                         // If multiple rows, return them as a list
-                        result = Map.of("rows", jdbcTemplate.queryForList(payload.getQuery()));
+                        result = Map.of("rows", jdbcTemplate.queryForList(plan.getQuery()));
                     }
                 }
             } else {
                 // For write queries, use update and return affected rows
-                if (payload.getParameters() != null && !payload.getParameters().isEmpty()) {
-                    int rowsAffected = jdbcTemplate.update(payload.getQuery(), payload.getParameters().values().toArray());
+                if (plan.hasArguments()) {
+                    int rowsAffected = jdbcTemplate.update(plan.getQuery(), plan.getArguments().toArray());
                     result = Map.of("rowsAffected", rowsAffected);
                 } else {
-                    int rowsAffected = jdbcTemplate.update(payload.getQuery());
+                    int rowsAffected = jdbcTemplate.update(plan.getQuery());
                     result = Map.of("rowsAffected", rowsAffected);
                 }
             }
@@ -2,10 +2,12 @@ package com.chronos.service.executor;
 
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
-import com.chronos.domain.model.payload.DbToKafkaJobPayload;
-import com.chronos.domain.model.payload.DatabaseJobPayload;
+import com.chronos.domain.model.enums.JobType;
 import com.chronos.exception.JobExecutionException;
 import com.chronos.service.JobExecutorService;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.DbToKafkaExecutionPlan;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
 import com.chronos.config.DatabaseJobDataSourceFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -24,57 +26,74 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DbToKafkaJobExecutor {
+public class DbToKafkaJobExecutor implements JobTypeExecutor {
     
     private final ApplicationContext applicationContext;
     private final ObjectMapper objectMapper;
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final DatabaseJobDataSourceFactory dataSourceFactory;
+    private final ExecutionPlanCompiler planCompiler;
     
     private JobExecutorService getJobExecutorService() {
         return applicationContext.getBean(JobExecutorService.class);
     }
     
-    private JdbcTemplate createJdbcTemplate(DbToKafkaJobPayload payload) {
-        // Create a DatabaseJobPayload for compatibility with existing factory
-        DatabaseJobPayload dbPayload = new DatabaseJobPayload();
-        dbPayload.setDatabaseUrl(payload.getDatabaseUrl());
-        dbPayload.setQuery(payload.getQuery());
-        dbPayload.setParameters(payload.getQueryParameters());
-        dbPayload.setQueryTimeoutSeconds(payload.getQueryTimeoutSeconds());
-        
-        return dataSourceFactory.createJdbcTemplate(dbPayload);
+    @Override
+    public JobType getJobType() {
+        return JobType.DB_TO_KAFKA;
     }
-    
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        return JobTypeExecutor.blocking(() ->
+                execute(context.getJob(), context.getRun(), context.getPlan(DbToKafkaExecutionPlan.class)));
+    }
+
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void execute(Job job, JobRun run) {
+        execute(job, run, null);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void execute(Job job, JobRun run, DbToKafkaExecutionPlan plan) {
         try {
-            DbToKafkaJobPayload payload = objectMapper.convertValue(
-                job.getPayload(), DbToKafkaJobPayload.class);
+            if (plan == null) {
+                plan = planCompiler.compileDbToKafka(job.getPayload());
+            }
             
             getJobExecutorService().logOutput(run, "INFO", 
-                String.format("Starting DB to Kafka streaming for topic %s", payload.getKafkaTopic()));
+                String.format("Starting DB to Kafka streaming for topic %s", plan.getKafkaTopic()));
             
             // Create database connection
-            JdbcTemplate jdbcTemplate = createJdbcTemplate(payload);
+            JdbcTemplate jdbcTemplate = dataSourceFactory.createJdbcTemplate(plan.getConnection());
             
-            // Build query with offset handling
-            String finalQuery = buildQueryWithOffset(payload);
+            // The offset is bound as a parameter of the precompiled query
+            String offset = plan.getInitialOffset();
+            boolean useOffset = plan.getOffsetQuery() != null && offset != null;
+            String finalQuery = useOffset ? plan.getOffsetQuery() : plan.getQuery();
+            Object[] arguments = useOffset ? new Object[]{offset} : new Object[0];
             
             getJobExecutorService().logOutput(run, "INFO", 
                 String.format("Executing query: %s", finalQuery));
             
             // Execute streaming process
-            StreamingResult result = executeStreamingQuery(jdbcTemplate, finalQuery, payload, run);
+            StreamingResult result = executeStreamingQuery(jdbcTemplate, finalQuery, arguments, plan, run);
             
             // Update offset for next execution
-            updateLastProcessedValue(job, payload, result.getLastProcessedValue());
+            updateLastProcessedValue(plan, result.getLastProcessedValue());
             
             getJobExecutorService().logOutput(run, "INFO", 
                 String.format("DB to Kafka streaming completed. Processed: %d records, Sent: %d messages, Errors: %d", 
@@ -87,40 +106,8 @@ public class DbToKafkaJobExecutor {
         }
     }
     
-    private String buildQueryWithOffset(DbToKafkaJobPayload payload) {
-        String baseQuery = payload.getQuery().trim();
-        
-        // Add WHERE clause for offset if specified
-        if (payload.getOffsetField() != null && payload.getLastProcessedValue() != null) {
-            String whereClause = String.format(" WHERE %s > '%s'", 
-                payload.getOffsetField(), payload.getLastProcessedValue());
-            
-            if (baseQuery.toUpperCase().contains("WHERE")) {
-                // Replace WHERE with WHERE ... AND
-                baseQuery = baseQuery.replaceFirst("(?i)WHERE", whereClause + " AND");
-            } else {
-                // Add WHERE clause
-                baseQuery += whereClause;
-            }
-        }
-        
-        // Add ORDER BY for consistent processing
-        if (payload.getOffsetField() != null) {
-            if (!baseQuery.toUpperCase().contains("ORDER BY")) {
-                baseQuery += String.format(" ORDER BY %s ASC", payload.getOffsetField());
-            }
-        }
-        
-        // Add LIMIT for batch processing (only if not already present)
-        if (payload.getMaxRecords() != null && !baseQuery.toUpperCase().contains("LIMIT")) {
-            baseQuery += String.format(" LIMIT %d", payload.getMaxRecords());
-        }
-        
-        return baseQuery;
-    }
-    
-    private StreamingResult executeStreamingQuery(JdbcTemplate jdbcTemplate, String query, 
-                                                 DbToKafkaJobPayload payload, JobRun run) {
+    private StreamingResult executeStreamingQuery(JdbcTemplate jdbcTemplate, String query, Object[] arguments,
+                                                 DbToKafkaExecutionPlan plan, JobRun run) {
         
         AtomicInteger processedCount = new AtomicInteger(0);
         AtomicInteger sentCount = new AtomicInteger(0);
@@ -137,19 +124,19 @@ public class DbToKafkaJobExecutor {
                     processedCount.incrementAndGet();
                     
                     // Track offset value
-                    if (payload.getOffsetField() != null && record.containsKey(payload.getOffsetField())) {
-                        Object offsetValue = record.get(payload.getOffsetField());
+                    if (plan.getOffsetField() != null && record.containsKey(plan.getOffsetField())) {
+                        Object offsetValue = record.get(plan.getOffsetField());
                         if (offsetValue instanceof Number) {
                             lastProcessedValue.set(((Number) offsetValue).longValue());
                         }
                     }
                     
                     // Transform record
-                    Map<String, Object> transformedRecord = transformRecord(record, payload, run);
+                    Map<String, Object> transformedRecord = transformRecord(record, plan, run);
                     
                     // Send to Kafka
                     CompletableFuture<SendResult<String, String>> future = sendToKafka(
-                        transformedRecord, payload, run);
+                        transformedRecord, plan, run);
                     
                     if (future != null) {
                         futures.add(future);
@@ -157,8 +144,8 @@ public class DbToKafkaJobExecutor {
                     }
                     
                     // Process in batches to avoid memory issues
-                    if (futures.size() >= payload.getBatchSize()) {
-                        waitForBatch(futures, errorCount, payload.isSkipOnError());
+                    if (futures.size() >= plan.getBatchSize()) {
+                        waitForBatch(futures, errorCount, plan.isSkipOnError());
                         futures.clear();
                         
                         getJobExecutorService().logOutput(run, "INFO", 
@@ -170,15 +157,15 @@ public class DbToKafkaJobExecutor {
                     getJobExecutorService().logOutput(run, "ERROR", 
                         String.format("Error processing record: %s", e.getMessage()));
                     
-                    if (!payload.isSkipOnError()) {
+                    if (!plan.isSkipOnError()) {
                         throw new JobExecutionException("Record processing failed", e);
                     }
                 }
-            });
+            }, arguments);
             
             // Wait for remaining futures
             if (!futures.isEmpty()) {
-                waitForBatch(futures, errorCount, payload.isSkipOnError());
+                waitForBatch(futures, errorCount, plan.isSkipOnError());
             }
             
         } catch (Exception e) {
@@ -204,13 +191,13 @@ public class DbToKafkaJobExecutor {
     }
     
     private Map<String, Object> transformRecord(Map<String, Object> record, 
-                                              DbToKafkaJobPayload payload, JobRun run) {
+                                              DbToKafkaExecutionPlan plan, JobRun run) {
         Map<String, Object> transformed = new HashMap<>(record);
         
         // Apply field mappings
-        if (payload.getFieldMappings() != null && !payload.getFieldMappings().isEmpty()) {
+        if (!plan.getFieldMappings().isEmpty()) {
             Map<String, Object> mapped = new HashMap<>();
-            for (Map.Entry<String, String> mapping : payload.getFieldMappings().entrySet()) {
+            for (Map.Entry<String, String> mapping : plan.getFieldMappings().entrySet()) {
                 String dbField = mapping.getKey();
                 String kafkaField = mapping.getValue();
                 if (record.containsKey(dbField)) {
@@ -221,18 +208,16 @@ public class DbToKafkaJobExecutor {
         }
         
         // Exclude fields
-        if (payload.getExcludeFields() != null) {
-            payload.getExcludeFields().forEach(transformed::remove);
-        }
+        plan.getExcludeFields().forEach(transformed::remove);
         
         // Add metadata if requested
-        if (payload.isIncludeMetadata()) {
+        if (plan.isIncludeMetadata()) {
             Map<String, Object> metadata = new HashMap<>();
             metadata.put("job_id", run.getJob().getId());
             metadata.put("job_name", run.getJob().getName());
             metadata.put("run_id", run.getId());
             metadata.put("processed_at", Instant.now().toString());
-            metadata.put("source_table", extractTableFromQuery(payload.getQuery()));
+            metadata.put("source_table", plan.getTableName());
             
             transformed.put("_metadata", metadata);
         }
@@ -241,28 +226,28 @@ public class DbToKafkaJobExecutor {
     }
     
     private CompletableFuture<SendResult<String, String>> sendToKafka(
-            Map<String, Object> record, DbToKafkaJobPayload payload, JobRun run) {
+            Map<String, Object> record, DbToKafkaExecutionPlan plan, JobRun run) {
         
         try {
             // Determine Kafka key
             String key = "default-key";
-            if (payload.getKafkaKeyField() != null && record.containsKey(payload.getKafkaKeyField())) {
-                key = String.valueOf(record.get(payload.getKafkaKeyField()));
+            if (plan.getKafkaKeyField() != null && record.containsKey(plan.getKafkaKeyField())) {
+                key = String.valueOf(record.get(plan.getKafkaKeyField()));
             }
             
             // Convert record to JSON
             String message = objectMapper.writeValueAsString(record);
             
             // Send to Kafka with retry logic
-            return kafkaTemplate.send(payload.getKafkaTopic(), key, message)
+            return kafkaTemplate.send(plan.getKafkaTopic(), key, message)
                 .whenComplete((result, ex) -> {
                     if (ex != null) {
                         getJobExecutorService().logOutput(run, "ERROR", 
                             String.format("Failed to send message to Kafka: %s", ex.getMessage()));
                         
                         // Send to DLQ if configured
-                        if (payload.getDeadLetterTopic() != null) {
-                            sendToDeadLetterQueue(record, payload, run, ex.getMessage());
+                        if (plan.getDeadLetterTopic() != null) {
+                            sendToDeadLetterQueue(record, plan, run, ex.getMessage());
                         }
                     } else {
                         log.debug("Message sent to Kafka topic {} partition {} offset {}", 
@@ -279,20 +264,20 @@ public class DbToKafkaJobExecutor {
         }
     }
     
-    private void sendToDeadLetterQueue(Map<String, Object> record, DbToKafkaJobPayload payload, 
+    private void sendToDeadLetterQueue(Map<String, Object> record, DbToKafkaExecutionPlan plan, 
                                      JobRun run, String errorMessage) {
         try {
             // Add error information to record
             Map<String, Object> dlqRecord = new HashMap<>(record);
             dlqRecord.put("_error", errorMessage);
             dlqRecord.put("_failed_at", Instant.now().toString());
-            dlqRecord.put("_original_topic", payload.getKafkaTopic());
+            dlqRecord.put("_original_topic", plan.getKafkaTopic());
             
             String dlqMessage = objectMapper.writeValueAsString(dlqRecord);
-            kafkaTemplate.send(payload.getDeadLetterTopic(), dlqMessage);
+            kafkaTemplate.send(plan.getDeadLetterTopic(), dlqMessage);
             
             getJobExecutorService().logOutput(run, "INFO", 
-                String.format("Sent failed message to DLQ: %s", payload.getDeadLetterTopic()));
+                String.format("Sent failed message to DLQ: %s", plan.getDeadLetterTopic()));
                 
         } catch (Exception e) {
             getJobExecutorService().logOutput(run, "ERROR", 
@@ -314,34 +299,15 @@ public class DbToKafkaJobExecutor {
         }
     }
     
-    private void updateLastProcessedValue(Job job, DbToKafkaJobPayload payload, String lastValue) {
+    private void updateLastProcessedValue(DbToKafkaExecutionPlan plan, String lastValue) {
         // In a real implementation, you would update the job payload in the database
         // This ensures the next execution starts from where this one left off
-        if (payload.getOffsetField() != null && lastValue != null) {
-            payload.setLastProcessedValue(lastValue);
+        if (plan.getOffsetField() != null && lastValue != null) {
             // TODO: Persist this change to the database
             log.info("Updated last processed value to: {}", lastValue);
         }
     }
     
-    private String extractTableFromQuery(String query) {
-        // Simple table name extraction from SELECT query
-        try {
-            String upperQuery = query.toUpperCase();
-            int fromIndex = upperQuery.indexOf("FROM");
-            if (fromIndex != -1) {
-                String afterFrom = query.substring(fromIndex + 4).trim();
-                String[] parts = afterFrom.split("\\s+");
-                if (parts.length > 0) {
-                    return parts[0];
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Could not extract table name from query: {}", query);
-        }
-        return "unknown";
-    }
-    
     // Helper class to track streaming results
     private static class StreamingResult {
         private final int processedCount;
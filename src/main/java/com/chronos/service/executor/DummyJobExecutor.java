@@ -0,0 +1,51 @@
+package com.chronos.service.executor;
+
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.exception.JobExecutionException;
+import com.chronos.service.JobExecutorService;
+import com.chronos.service.execution.ResourceClass;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionStage;
+
+@Component
+@RequiredArgsConstructor
+public class DummyJobExecutor implements JobTypeExecutor {
+
+    private final ApplicationContext applicationContext;
+
+    private JobExecutorService getJobExecutorService() {
+        return applicationContext.getBean(JobExecutorService.class);
+    }
+
+    @Override
+    public JobType getJobType() {
+        return JobType.DUMMY;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    @Override
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        return JobTypeExecutor.blocking(() -> execute(context.getRun()));
+    }
+
+    public void execute(JobRun run) {
+        getJobExecutorService().logOutput(run, "INFO", "Starting dummy job execution");
+        
+        try {
+            // Simulate some work
+            Thread.sleep(5000);
+            getJobExecutorService().logOutput(run, "INFO", "Dummy job completed successfully");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("Dummy job interrupted");
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.chronos.service.executor;
 
-import com.chronos.domain.model.payload.FileSystemJobPayload;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
 import com.chronos.exception.JobExecutionException;
 import com.chronos.service.JobExecutorService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.chronos.service.execution.plan.FileSystemExecutionPlan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
@@ -16,6 +18,7 @@ import org.springframework.transaction.annotation.Propagation;
 import java.io.IOException;
 import java.nio.file.*;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -23,45 +26,67 @@ import java.util.zip.ZipOutputStream;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class FileSystemJobExecutor {
+public class FileSystemJobExecutor implements JobTypeExecutor {
     
     private final ApplicationContext applicationContext;
-    private final ObjectMapper objectMapper;
+    private final ExecutionPlanCompiler planCompiler;
+
+    @Override
+    public JobType getJobType() {
+        return JobType.FILE_SYSTEM;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        return JobTypeExecutor.blocking(() ->
+                execute(context.getJob(), context.getRun(), context.getPlan(FileSystemExecutionPlan.class)));
+    }
 
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void execute(Job job, JobRun run) {
+        execute(job, run, null);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void execute(Job job, JobRun run, FileSystemExecutionPlan plan) {
         try {
-            FileSystemJobPayload payload = objectMapper.convertValue(
-                job.getPayload(), FileSystemJobPayload.class);
+            if (plan == null) {
+                plan = planCompiler.compileFileSystem(job.getPayload());
+            }
 
             getJobExecutorService().logOutput(run, "INFO", 
                 String.format("Executing file system operation %s on %s", 
-                    payload.getOperation(), payload.getPath()));
+                    plan.getOperation(), plan.getPath()));
 
-            List<Path> matchingFiles = findMatchingFiles(payload);
+            List<Path> matchingFiles = findMatchingFiles(plan);
             getJobExecutorService().logOutput(run, "INFO", 
                 String.format("Found %d matching files", matchingFiles.size()));
 
-            switch (payload.getOperation().toUpperCase()) {
+            switch (plan.getOperation()) {
                 case "PROCESS":
                     processFiles(matchingFiles, run);
                     break;
                 case "MOVE":
-                    moveFiles(matchingFiles, payload.getTargetPath(), run);
+                    moveFiles(matchingFiles, plan.getTargetPath(), run);
                     break;
                 case "COPY":
-                    copyFiles(matchingFiles, payload.getTargetPath(), run);
+                    copyFiles(matchingFiles, plan.getTargetPath(), run);
                     break;
                 case "DELETE":
                     deleteFiles(matchingFiles, run);
                     break;
                 case "COMPRESS":
-                    compressFiles(matchingFiles, payload.getTargetPath(), 
-                        payload.getParameters().get("compressionType").toString(), run);
+                    compressFiles(matchingFiles, plan.getTargetPath(), plan.getCompressionType(), run);
                     break;
                 default:
                     throw new JobExecutionException("Unsupported operation type: " + 
-                        payload.getOperation());
+                        plan.getOperation());
             }
 
             getJobExecutorService().logOutput(run, "INFO", "File system operation completed successfully");
@@ -73,18 +98,9 @@ public class FileSystemJobExecutor {
         }
     }
 
-    private List<Path> findMatchingFiles(FileSystemJobPayload payload) throws IOException {
-        List<String> patterns = payload.getParameters().containsKey("filePatterns") ?
-            (List<String>)payload.getParameters().get("filePatterns") :
-            List.of("*");
-
-        List<PathMatcher> matchers = patterns.stream()
-            .map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern))
-            .collect(Collectors.toList());
-        
-        try (var paths = Files.walk(Path.of(payload.getPath()), 
-                payload.getParameters().containsKey("recursive") && 
-                (Boolean)payload.getParameters().get("recursive") ? Integer.MAX_VALUE : 1)) {
+    private List<Path> findMatchingFiles(FileSystemExecutionPlan plan) throws IOException {
+        List<PathMatcher> matchers = plan.getMatchers();
+        try (var paths = Files.walk(plan.getPath(), plan.getMaxDepth())) {
             return paths.filter(Files::isRegularFile)
                        .filter(path -> matchers.stream().anyMatch(matcher -> matcher.matches(path.getFileName())))
                        .collect(Collectors.toList());
@@ -96,8 +112,7 @@ public class FileSystemJobExecutor {
         getJobExecutorService().logOutput(run, "INFO", "Processing files...");
     }
 
-    private void moveFiles(List<Path> files, String destinationPath, JobRun run) throws IOException {
-        Path destDir = Path.of(destinationPath);
+    private void moveFiles(List<Path> files, Path destDir, JobRun run) throws IOException {
         Files.createDirectories(destDir);
         
         for (Path file : files) {
@@ -108,8 +123,7 @@ public class FileSystemJobExecutor {
         }
     }
 
-    private void copyFiles(List<Path> files, String destinationPath, JobRun run) throws IOException {
-        Path destDir = Path.of(destinationPath);
+    private void copyFiles(List<Path> files, Path destDir, JobRun run) throws IOException {
         Files.createDirectories(destDir);
         
         for (Path file : files) {
@@ -128,9 +142,8 @@ public class FileSystemJobExecutor {
         }
     }
 
-    private void compressFiles(List<Path> files, String destinationPath, 
+    private void compressFiles(List<Path> files, Path destFile, 
             String compressionType, JobRun run) throws IOException {
-        Path destFile = Path.of(destinationPath);
         Files.createDirectories(destFile.getParent());
         
         try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(destFile))) {
@@ -0,0 +1,93 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.HttpJobClientConfig.HttpJobProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounds the requests in flight per host. Over HTTP/1.1 every request in flight takes a pooled
+ * connection of its own, so this also bounds the connections opened to a host.
+ *
+ * Callers over the limit get a future that completes when a permit frees up instead of
+ * blocking, so a run waiting for its turn holds no thread. Shared by every executor that sends
+ * on the HTTP job client. The per-job cap sits on top of this one: a job has one run at a time,
+ * which keeps one request in flight for HTTP jobs and batchConcurrency for HTTP_BATCH jobs.
+ */
+@Component
+class HostConcurrencyLimiter {
+
+    private final ToIntFunction<URI> limitFor;
+
+    // Guarded by this, keyed by host and port
+    private final Map<String, HostState> hosts = new HashMap<>();
+
+    @Autowired
+    HostConcurrencyLimiter(HttpJobProperties properties) {
+        this(properties::maxConnectionsFor);
+    }
+
+    HostConcurrencyLimiter(int maxPerHost) {
+        this(uri -> maxPerHost);
+    }
+
+    private HostConcurrencyLimiter(ToIntFunction<URI> limitFor) {
+        this.limitFor = limitFor;
+    }
+
+    CompletableFuture<Void> acquire(URI uri) {
+        synchronized (this) {
+            HostState state = hosts.computeIfAbsent(uri.getAuthority(), h -> new HostState(limitFor.applyAsInt(uri)));
+            if (state.inFlight < state.limit) {
+                state.inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> permit = new CompletableFuture<>();
+            state.waiters.addLast(permit);
+            return permit;
+        }
+    }
+
+    void release(URI uri) {
+        String host = uri.getAuthority();
+        CompletableFuture<Void> next;
+        do {
+            synchronized (this) {
+                HostState state = hosts.get(host);
+                if (state == null) {
+                    return;
+                }
+                next = state.waiters.pollFirst();
+                if (next == null) {
+                    if (--state.inFlight == 0) {
+                        hosts.remove(host);
+                    }
+                    return;
+                }
+            }
+            // The permit passes to the next waiter, unless it was cancelled in the meantime
+        } while (!next.complete(null));
+    }
+
+    synchronized int inFlight(URI uri) {
+        HostState state = hosts.get(uri.getAuthority());
+        return state != null ? state.inFlight : 0;
+    }
+
+    private static class HostState {
+        final int limit;
+        int inFlight;
+        final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+        HostState(int limit) {
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.HttpJobClientConfig.HttpJobProperties;
+import com.chronos.config.HttpJobClientConfig.RateLimit;
+import com.chronos.exception.JobExecutionException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets limiting the request rate per host, so runs firing together at the top of the
+ * minute are spread out instead of being answered with 429s that feed retries.
+ *
+ * A request without a token waits for one, up to {@code app.job.http.max-throttle-wait}, without
+ * holding a thread; the token is reserved up front, so requests are granted in order. A job that
+ * sets its own rate gets a bucket of its own per host and takes a token from the host's bucket as
+ * well, so its rate can only slow it down below the host's, never add to it.
+ */
+@Slf4j
+@Component
+class HostRateLimiter {
+
+    private final HttpJobProperties properties;
+    private final MeterRegistry meterRegistry;
+    // Idle buckets are full again by the time they expire
+    private final Cache<String, Bucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+    // Completes the reservations of waiting requests, never runs the requests themselves
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("chronos-http-throttle").daemon().factory());
+
+    HostRateLimiter(HttpJobProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param jobLimitPerMinute the job's own rate, null if it has none
+     * @return a future completing once the request may be sent, or failing with
+     *         {@link JobExecutionException} if no token frees up within the maximum wait
+     */
+    CompletableFuture<Void> acquire(URI uri, String jobId, Integer jobLimitPerMinute) {
+        String host = uri.getAuthority();
+        RateLimit hostLimit = properties.rateLimitFor(uri);
+        Bucket hostBucket = isLimited(hostLimit) ? buckets.get(host, k -> newBucket(hostLimit)) : null;
+        RateLimit jobLimit = jobLimitPerMinute != null ? RateLimit.perMinute(jobLimitPerMinute) : null;
+        Bucket jobBucket = isLimited(jobLimit)
+                ? buckets.get(host + "|" + jobId + "|" + jobLimitPerMinute, k -> newBucket(jobLimit))
+                : null;
+        if (hostBucket == null && jobBucket == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long startNanos = System.nanoTime();
+        Duration maxWait = properties.getMaxThrottleWait();
+        // The job's token first, so a job waiting on its own rate holds none of the host's
+        return consume(jobBucket, maxWait).thenCompose(jobGranted -> {
+            if (!jobGranted) {
+                return CompletableFuture.completedFuture(false);
+            }
+            Duration left = maxWait.minusNanos(System.nanoTime() - startNanos);
+            return consume(hostBucket, left.isNegative() ? Duration.ZERO : left).thenApply(hostGranted -> {
+                if (!hostGranted && jobBucket != null) {
+                    jobBucket.addTokens(1);
+                }
+                return hostGranted;
+            });
+        }).thenApply(granted -> {
+            if (!granted) {
+                Counter.builder("chronos.http.throttle.rejections")
+                        .tag("host", host)
+                        .register(meterRegistry)
+                        .increment();
+                throw new JobExecutionException("Rate limit of " + host + " exceeded, no request slot within "
+                        + maxWait.toSeconds() + "s");
+            }
+            long waitedNanos = System.nanoTime() - startNanos;
+            Timer.builder("chronos.http.throttle.delay")
+                    .description("Time HTTP job requests waited for a rate limit token")
+                    .tag("host", host)
+                    .register(meterRegistry)
+                    .record(waitedNanos, TimeUnit.NANOSECONDS);
+            if (waitedNanos > TimeUnit.SECONDS.toNanos(1)) {
+                log.debug("Request to {} throttled for {} ms", host, TimeUnit.NANOSECONDS.toMillis(waitedNanos));
+            }
+            return null;
+        });
+    }
+
+    private CompletableFuture<Boolean> consume(Bucket bucket, Duration maxWait) {
+        return bucket != null
+                ? bucket.asScheduler().tryConsume(1, maxWait, scheduler)
+                : CompletableFuture.completedFuture(true);
+    }
+
+    private static boolean isLimited(RateLimit limit) {
+        return limit != null && limit.getRequests() > 0;
+    }
+
+    private static Bucket newBucket(RateLimit limit) {
+        long capacity = limit.getBurst() != null && limit.getBurst() > 0 ? limit.getBurst() : limit.getRequests();
+        return Bucket.builder()
+                .addLimit(Bandwidth.classic(capacity, Refill.greedy(limit.getRequests(), limit.getPeriod())))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
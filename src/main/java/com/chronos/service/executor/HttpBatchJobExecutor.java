@@ -0,0 +1,245 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.HttpJobClientConfig.HttpJobProperties;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.repository.JobRunRepository;
+import com.chronos.service.JobExecutorService;
+import com.chronos.service.execution.CircuitBreakerRegistry;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.chronos.service.execution.plan.HttpBatchExecutionPlan;
+import com.chronos.service.execution.plan.HttpExecutionPlan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends every request of an HTTP_BATCH job within one run, at most the batch concurrency at a
+ * time, on the shared HTTP job client. Per-host rate and in-flight limits apply across batches
+ * and HTTP jobs alike, and requests to a host whose circuit breaker is open fail without being
+ * sent. No thread is held while requests wait or are in flight.
+ *
+ * The run fails once more requests failed than the batch tolerates; requests not sent by then
+ * are skipped. Counts and latency percentiles are stored on the run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpBatchJobExecutor implements JobTypeExecutor {
+
+    private final ApplicationContext applicationContext;
+    private final ExecutionPlanCompiler planCompiler;
+    private final HttpClient httpClient;
+    private final HttpJobProperties properties;
+    private final HostRateLimiter rateLimiter;
+    private final HostConcurrencyLimiter hostLimiter;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final JobRunRepository jobRunRepository;
+    private final ObjectMapper objectMapper;
+
+    private JobExecutorService getJobExecutorService() {
+        return applicationContext.getBean(JobExecutorService.class);
+    }
+
+    @Override
+    public JobType getJobType() {
+        return JobType.HTTP_BATCH;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    @Override
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        HttpBatchExecutionPlan plan;
+        try {
+            plan = resolvePlan(context);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        getJobExecutorService().logOutput(context.getRun(), "INFO", "Starting HTTP batch",
+                Map.of("requests", plan.getUris().size(), "concurrency", plan.getConcurrency()));
+        return new BatchRun(plan, context.getRun(), context.getJob().getId()).start();
+    }
+
+    private HttpBatchExecutionPlan resolvePlan(RunContext context) {
+        HttpBatchExecutionPlan plan = context.getPlan(HttpBatchExecutionPlan.class);
+        return plan != null ? plan : planCompiler.compileHttpBatch(context.getJob().getPayload());
+    }
+
+    private class BatchRun {
+
+        private final HttpBatchExecutionPlan plan;
+        private final JobRun run;
+        private final String jobId;
+        private final BatchStats stats;
+        private final AtomicInteger next = new AtomicInteger();
+        // Permits waited for and exchanges in flight, aborted when the run is cancelled
+        private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<RunResult> result = new CompletableFuture<>();
+
+        BatchRun(HttpBatchExecutionPlan plan, JobRun run, String jobId) {
+            this.plan = plan;
+            this.run = run;
+            this.jobId = jobId;
+            this.stats = new BatchStats(plan.getUris().size());
+        }
+
+        CompletableFuture<RunResult> start() {
+            result.whenComplete((outcome, failure) -> pending.forEach(future -> future.cancel(true)));
+            int lanes = Math.min(plan.getConcurrency(), plan.getUris().size());
+            CompletableFuture<?>[] all = new CompletableFuture<?>[lanes];
+            for (int i = 0; i < lanes; i++) {
+                all[i] = lane();
+            }
+            CompletableFuture.allOf(all).whenComplete((done, failure) -> finish(failure));
+            return result;
+        }
+
+        // Sends one request at a time, taking the next URL until there are none left
+        private CompletableFuture<Void> lane() {
+            if (result.isDone() || stats.failed() > plan.getMaxFailures()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            int index = next.getAndIncrement();
+            if (index >= plan.getUris().size()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            // Async so that requests failing right away do not grow the stack
+            return send(index).thenComposeAsync(sent -> lane());
+        }
+
+        private CompletableFuture<Void> send(int index) {
+            URI uri = plan.getUris().get(index);
+            String target = HttpExecutionPlan.target(uri);
+            CompletableFuture<Void> sent = new CompletableFuture<>();
+            if (!circuitBreakers.tryAcquire(target)) {
+                stats.recordCircuitOpen(uri + ": circuit breaker open for " + target);
+                sent.complete(null);
+                return sent;
+            }
+            rateLimiter.acquire(uri, jobId, plan.getRateLimitPerMinute()).whenComplete((token, throttled) -> {
+                if (throttled != null) {
+                    Throwable cause = throttled instanceof CompletionException && throttled.getCause() != null
+                            ? throttled.getCause() : throttled;
+                    stats.recordThrottled(uri + ": " + cause.getMessage());
+                    circuitBreakers.release(target);
+                    sent.complete(null);
+                } else if (result.isDone()) {
+                    circuitBreakers.release(target);
+                    sent.complete(null);
+                } else {
+                    sendWithPermit(index, uri, target, sent);
+                }
+            });
+            return sent;
+        }
+
+        private void sendWithPermit(int index, URI uri, String target, CompletableFuture<Void> sent) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(plan.getTemplate(), (name, value) -> true).uri(uri);
+            if (plan.getTemplate().timeout().isEmpty()) {
+                builder.timeout(properties.getRequestTimeout());
+            }
+            HttpRequest request = builder.build();
+
+            CompletableFuture<Void> permit = track(hostLimiter.acquire(uri));
+            permit.whenComplete((granted, failure) -> {
+                pending.remove(permit);
+                if (failure != null || result.isDone()) {
+                    if (failure == null) {
+                        hostLimiter.release(uri);
+                    }
+                    circuitBreakers.release(target);
+                    sent.complete(null);
+                    return;
+                }
+                long startNanos = System.nanoTime();
+                CompletableFuture<HttpResponse<Void>> exchange =
+                        track(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+                exchange.whenComplete((response, error) -> {
+                    pending.remove(exchange);
+                    hostLimiter.release(uri);
+                    long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        if (exchange.isCancelled()) {
+                            circuitBreakers.release(target);
+                        } else {
+                            circuitBreakers.record(target, cause);
+                        }
+                        stats.recordFailure(index, latencyMs, uri + ": " + cause);
+                    } else {
+                        // Any response shows the host is reachable
+                        circuitBreakers.record(target, null);
+                        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                            stats.recordFailure(index, latencyMs, uri + ": status " + response.statusCode());
+                        } else {
+                            stats.recordSuccess(index, latencyMs);
+                        }
+                    }
+                    sent.complete(null);
+                });
+            });
+        }
+
+        private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+            pending.add(future);
+            // The run may have been cancelled before the future was tracked
+            if (result.isDone()) {
+                future.cancel(true);
+            }
+            return future;
+        }
+
+        private void finish(Throwable failure) {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                Map<String, Object> summary = stats.toMap();
+                try {
+                    jobRunRepository.updateStats(run.getId(), objectMapper.writeValueAsString(summary));
+                } catch (Exception e) {
+                    log.warn("Failed to store batch statistics of run {}: {}", run.getId(), e.getMessage());
+                }
+                int failed = stats.failed();
+                if (failed > plan.getMaxFailures()) {
+                    getJobExecutorService().logOutput(run, "ERROR", "HTTP batch failed", summary);
+                    result.complete(RunResult.builder()
+                            .success(false)
+                            .message(failed + " of " + plan.getUris().size() + " batch requests failed")
+                            .details(summary)
+                            .build());
+                } else {
+                    getJobExecutorService().logOutput(run, "INFO", "HTTP batch completed successfully", summary);
+                    result.complete(RunResult.success(summary));
+                }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.HttpJobClientConfig.HttpJobProperties;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.exception.JobExecutionException;
+import com.chronos.service.JobExecutorService;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.chronos.service.execution.plan.HttpExecutionPlan;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends HTTP jobs on the shared non-blocking client. A run holds no thread while it waits for
+ * a rate limit token, for its turn against the host or for the response.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpJobExecutor implements JobTypeExecutor {
+
+    private final ApplicationContext applicationContext;
+    private final ExecutionPlanCompiler planCompiler;
+    private final HttpClient httpClient;
+    private final HttpJobProperties properties;
+    private final HostRateLimiter rateLimiter;
+    private final HostConcurrencyLimiter hostLimiter;
+    // Reads captured response bodies; a read blocks only a virtual thread
+    private final ExecutorService captureExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chronos-http-capture-", 0).factory());
+
+    private JobExecutorService getJobExecutorService() {
+        return applicationContext.getBean(JobExecutorService.class);
+    }
+
+    @Override
+    public JobType getJobType() {
+        return JobType.HTTP;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    @Override
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        HttpExecutionPlan plan;
+        try {
+            plan = resolvePlan(context);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        JobRun run = context.getRun();
+        getJobExecutorService().logOutput(run, "INFO", "Starting HTTP request");
+
+        HttpRequest request = plan.getRequest().timeout().isPresent()
+                ? plan.getRequest()
+                : HttpRequest.newBuilder(plan.getRequest(), (name, value) -> true)
+                        .timeout(properties.getRequestTimeout())
+                        .build();
+        URI host = plan.getUri();
+
+        CompletableFuture<RunResult> result = new CompletableFuture<>();
+        rateLimiter.acquire(host, context.getJob().getId(), plan.getRateLimitPerMinute())
+                .whenComplete((token, throttled) -> {
+                    if (throttled != null) {
+                        result.completeExceptionally(throttled instanceof CompletionException && throttled.getCause() != null
+                                ? throttled.getCause() : throttled);
+                        return;
+                    }
+                    if (result.isDone()) {
+                        return;
+                    }
+                    CompletableFuture<Void> permit = hostLimiter.acquire(host);
+                    // A run cancelled while waiting for its turn gives up its place in line
+                    result.whenComplete((outcome, failure) -> permit.cancel(false));
+                    permit.thenRun(() -> send(plan, request, host, run, result));
+                });
+        return result;
+    }
+
+    private HttpExecutionPlan resolvePlan(RunContext context) {
+        HttpExecutionPlan plan = context.getPlan(HttpExecutionPlan.class);
+        return plan != null ? plan : planCompiler.compileHttp(context.getJob().getPayload());
+    }
+
+    private void send(HttpExecutionPlan plan, HttpRequest request, URI host, JobRun run,
+                      CompletableFuture<RunResult> result) {
+        if (result.isDone()) {
+            hostLimiter.release(host);
+            return;
+        }
+        CompletableFuture<Map<String, Object>> exchange;
+        if (plan.isCaptureResponse()) {
+            CompletableFuture<HttpResponse<InputStream>> response =
+                    httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+            // Aborts the exchange when the run is cancelled or times out; no effect once it completed
+            result.whenComplete((outcome, failure) -> response.cancel(true));
+            exchange = response.thenApplyAsync(r -> capture(r, plan.getPreviewBytes(), result), captureExecutor);
+        } else {
+            CompletableFuture<HttpResponse<Void>> response =
+                    httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            result.whenComplete((outcome, failure) -> response.cancel(true));
+            exchange = response.thenApply(r -> Map.of("statusCode", checkStatus(r)));
+        }
+        // The connection stays taken until the body has been read, so the permit is held until then
+        exchange.whenComplete((details, failure) -> {
+            hostLimiter.release(host);
+            if (failure != null) {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure;
+                result.completeExceptionally(cause instanceof JobExecutionException
+                        ? cause
+                        : new JobExecutionException("HTTP request failed: "
+                                + (cause.getMessage() != null ? cause.getMessage() : cause), cause));
+                return;
+            }
+            try {
+                getJobExecutorService().logOutput(run, "INFO", "HTTP job completed successfully", details);
+                result.complete(RunResult.success(details));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private Map<String, Object> capture(HttpResponse<InputStream> response, int previewBytes,
+                                        CompletableFuture<RunResult> result) {
+        InputStream body = response.body();
+        // Closing the stream aborts a read in progress when the run is cancelled or times out
+        result.whenComplete((outcome, failure) -> closeQuietly(body));
+        try (body) {
+            int status = checkStatus(response);
+            String encoding = response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null);
+            ResponseCapture capture = ResponseCapture.read(body, encoding, previewBytes);
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("statusCode", status);
+            details.put("bytes", capture.getBytes());
+            details.put("sha256", capture.getSha256());
+            if (encoding != null) {
+                details.put("contentEncoding", encoding);
+            }
+            if (capture.getPreview() != null) {
+                details.put("preview", capture.getPreview());
+                details.put("previewTruncated", capture.isTruncated());
+            }
+            return details;
+        } catch (IOException e) {
+            throw new JobExecutionException("Failed to read HTTP response: " + e.getMessage(), e);
+        }
+    }
+
+    private static int checkStatus(HttpResponse<?> response) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            throw new JobExecutionException("HTTP request failed with status: " + status);
+        }
+        return status;
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // The run already has its outcome
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        captureExecutor.shutdownNow();
+    }
+}
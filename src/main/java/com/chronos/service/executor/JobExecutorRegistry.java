@@ -0,0 +1,49 @@
+package com.chronos.service.executor;
+
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.exception.JobExecutionException;
+import com.chronos.service.execution.ResourceClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link JobTypeExecutor} beans, by the job type they execute.
+ */
+@Slf4j
+@Component
+public class JobExecutorRegistry {
+
+    private final Map<JobType, JobTypeExecutor> executors = new EnumMap<>(JobType.class);
+
+    public JobExecutorRegistry(List<JobTypeExecutor> executors) {
+        for (JobTypeExecutor executor : executors) {
+            JobTypeExecutor previous = this.executors.putIfAbsent(executor.getJobType(), executor);
+            if (previous != null) {
+                throw new IllegalStateException(String.format("Both %s and %s execute %s jobs",
+                        previous.getClass().getSimpleName(), executor.getClass().getSimpleName(),
+                        executor.getJobType()));
+            }
+        }
+        log.info("Registered executors for job types {}", this.executors.keySet());
+    }
+
+    /**
+     * @throws JobExecutionException if no executor handles the type
+     */
+    public JobTypeExecutor get(JobType type) {
+        JobTypeExecutor executor = executors.get(type);
+        if (executor == null) {
+            throw new JobExecutionException("Unsupported job type: " + type);
+        }
+        return executor;
+    }
+
+    public ResourceClass getResourceClass(JobType type) {
+        JobTypeExecutor executor = executors.get(type);
+        return executor != null ? executor.getResourceClass() : ResourceClass.IO;
+    }
+}
@@ -1,8 +1,40 @@
 package com.chronos.service.executor;
 
-import com.chronos.domain.model.Job;
-import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.service.execution.ResourceClass;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Executes the runs of one job type. Implementations are Spring beans picked up by
+ * {@link JobExecutorRegistry}.
+ *
+ * The returned stage completes when the run is done. Executors built on blocking calls do the
+ * work on the calling thread and return a completed stage, see {@link #blocking(Runnable)};
+ * non-blocking executors return as soon as the work is in flight, and the run holds neither a
+ * thread nor, once it completes, an execution slot while it waits.
+ */
 public interface JobTypeExecutor {
-    void execute(Job job, JobRun run);
+
+    JobType getJobType();
+
+    ResourceClass getResourceClass();
+
+    /**
+     * A failed run completes the stage exceptionally, or with an unsuccessful {@link RunResult}.
+     */
+    CompletionStage<RunResult> executeAsync(RunContext context);
+
+    /**
+     * Runs a blocking body on the calling thread and reports its outcome as a completed stage.
+     */
+    static CompletionStage<RunResult> blocking(Runnable body) {
+        try {
+            body.run();
+            return CompletableFuture.completedFuture(RunResult.success());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -3,46 +3,114 @@ package com.chronos.service.executor;
 import com.chronos.api.dto.job.payload.MessageQueueJobPayload;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
 import com.chronos.exception.JobExecutionException;
 import com.chronos.service.JobExecutorService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.chronos.service.execution.plan.MessageQueueExecutionPlan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 // RabbitMQ imports removed - using Kafka as primary message queue
 import org.springframework.context.ApplicationContext;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Component;
 
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MessageQueueJobExecutor {
+public class MessageQueueJobExecutor implements JobTypeExecutor {
     
     private final ApplicationContext applicationContext;
-    private final ObjectMapper objectMapper;
+    private final ExecutionPlanCompiler planCompiler;
     private final KafkaTemplate<String, String> kafkaTemplate;
 
     private JobExecutorService getJobExecutorService() {
         return applicationContext.getBean(JobExecutorService.class);
     }
 
+    @Override
+    public JobType getJobType() {
+        return JobType.MESSAGE_QUEUE;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.IO;
+    }
+
+    /**
+     * Produce operations complete when the broker acknowledges the message, without holding a
+     * thread in the meantime. The other operations run on the calling thread.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        JobRun run = context.getRun();
+        MessageQueueExecutionPlan plan;
+        try {
+            plan = context.getPlan(MessageQueueExecutionPlan.class);
+            if (plan == null) {
+                plan = planCompiler.compileMessageQueue(context.getJob().getPayload());
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (!"PRODUCE".equals(plan.getOperation())) {
+            MessageQueueExecutionPlan compiled = plan;
+            return JobTypeExecutor.blocking(() -> execute(context.getJob(), run, compiled));
+        }
+
+        MessageQueueJobPayload payload = plan.getPayload();
+        try {
+            getJobExecutorService().logOutput(run, "INFO",
+                String.format("Executing message queue operation %s on %s",
+                    payload.getOperationType(), payload.getQueueName()));
+            return send(payload)
+                .handle((result, ex) -> {
+                    if (ex != null) {
+                        String error = String.format("Message queue job execution failed: %s", ex.getMessage());
+                        getJobExecutorService().logOutput(run, "ERROR", error);
+                        throw new JobExecutionException(error, ex);
+                    }
+                    getJobExecutorService().logOutput(run, "INFO", producedMessage(result));
+                    return RunResult.success(Map.of(
+                        "topic", result.getRecordMetadata().topic(),
+                        "partition", result.getRecordMetadata().partition(),
+                        "offset", result.getRecordMetadata().offset()));
+                });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void execute(Job job, JobRun run) {
+        execute(job, run, null);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void execute(Job job, JobRun run, MessageQueueExecutionPlan plan) {
         try {
-            MessageQueueJobPayload payload = objectMapper.convertValue(
-                job.getPayload(), MessageQueueJobPayload.class);
+            if (plan == null) {
+                plan = planCompiler.compileMessageQueue(job.getPayload());
+            }
+            MessageQueueJobPayload payload = plan.getPayload();
 
             getJobExecutorService().logOutput(run, "INFO", 
                 String.format("Executing message queue operation %s on %s", 
                     payload.getOperationType(), payload.getQueueName()));
 
-            String queueType = payload.getQueueConfig().getOrDefault("type", "RABBITMQ").toString();
+            String queueType = plan.getQueueType();
             
-            switch (payload.getOperationType().toUpperCase()) {
+            switch (plan.getOperation()) {
                 case "PRODUCE":
                     produceMessages(payload, queueType, run);
                     break;
@@ -73,22 +141,14 @@ public class MessageQueueJobExecutor {
         if ("KAFKA".equals(queueType)) {
             // Kafka producer implementation
             try {
-                String key = payload.getMessageGroupId() != null ? payload.getMessageGroupId() : "default-key";
-                String message = payload.getMessageBody() != null ? payload.getMessageBody() : "Default test message";
-                String topicName = payload.getQueueName() != null ? payload.getQueueName() : "default-topic";
-                
-                kafkaTemplate.send(topicName, key, message)
+                send(payload)
                     .whenComplete((result, ex) -> {
                         if (ex != null) {
                             getJobExecutorService().logOutput(run, "ERROR", 
                                 String.format("Failed to produce Kafka message: %s", ex.getMessage()));
                             throw new JobExecutionException("Failed to produce Kafka message", ex);
                         }
-                        getJobExecutorService().logOutput(run, "INFO", 
-                            String.format("Produced message to Kafka topic %s, partition: %d, offset: %d", 
-                                result.getRecordMetadata().topic(),
-                                result.getRecordMetadata().partition(),
-                                result.getRecordMetadata().offset()));
+                        getJobExecutorService().logOutput(run, "INFO", producedMessage(result));
                     });
             } catch (Exception e) {
                 getJobExecutorService().logOutput(run, "ERROR", 
@@ -104,6 +164,20 @@ public class MessageQueueJobExecutor {
         }
     }
 
+    private CompletableFuture<SendResult<String, String>> send(MessageQueueJobPayload payload) {
+        String key = payload.getMessageGroupId() != null ? payload.getMessageGroupId() : "default-key";
+        String message = payload.getMessageBody() != null ? payload.getMessageBody() : "Default test message";
+        String topicName = payload.getQueueName() != null ? payload.getQueueName() : "default-topic";
+        return kafkaTemplate.send(topicName, key, message);
+    }
+
+    private static String producedMessage(SendResult<String, String> result) {
+        return String.format("Produced message to Kafka topic %s, partition: %d, offset: %d",
+            result.getRecordMetadata().topic(),
+            result.getRecordMetadata().partition(),
+            result.getRecordMetadata().offset());
+    }
+
     private void consumeMessages(MessageQueueJobPayload payload, String queueType, JobRun run) {
         int batchSize = payload.getBatchSize() != null ? payload.getBatchSize() : 10;
         String topicName = payload.getQueueName() != null ? payload.getQueueName() : "default-topic";
@@ -0,0 +1,57 @@
+package com.chronos.service.executor;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits script output into lines without ever buffering more than one line, however long the
+ * script writes without a line break. Longer lines are split and carriage returns dropped.
+ */
+class OutputLineReader {
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+
+    OutputLineReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = Math.max(1, maxLineLength);
+    }
+
+    /**
+     * @return the next line, the unterminated rest at the end of the output, or null after it
+     */
+    String readLine() throws IOException {
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer);
+                position = 0;
+                if (limit == -1) {
+                    limit = 0;
+                    return line.isEmpty() ? null : take();
+                }
+            }
+            while (position < limit) {
+                char c = buffer[position++];
+                if (c == '\n') {
+                    return take();
+                }
+                if (c != '\r') {
+                    line.append(c);
+                    if (line.length() >= maxLineLength) {
+                        return take();
+                    }
+                }
+            }
+        }
+    }
+
+    private String take() {
+        String taken = line.toString();
+        line.setLength(0);
+        return taken;
+    }
+}
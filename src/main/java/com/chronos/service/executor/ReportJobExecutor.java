@@ -3,8 +3,11 @@ package com.chronos.service.executor;
 import com.chronos.api.dto.job.payload.ReportJobPayload;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
 import com.chronos.exception.JobExecutionException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.chronos.service.execution.plan.ReportExecutionPlan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
@@ -27,23 +30,48 @@ import java.util.Locale;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ReportJobExecutor {
+public class ReportJobExecutor implements JobTypeExecutor {
     
     private final ApplicationContext applicationContext;
-    private final ObjectMapper objectMapper;
+    private final ExecutionPlanCompiler planCompiler;
     private final SpringTemplateEngine templateEngine;
 
+    @Override
+    public JobType getJobType() {
+        return JobType.REPORT;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.CPU;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        return JobTypeExecutor.blocking(() ->
+                execute(context.getJob(), context.getRun(), context.getPlan(ReportExecutionPlan.class)));
+    }
+
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void execute(Job job, JobRun run) {
+        execute(job, run, null);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void execute(Job job, JobRun run, ReportExecutionPlan plan) {
         try {
-            ReportJobPayload payload = objectMapper.convertValue(
-                job.getPayload(), ReportJobPayload.class);
+            if (plan == null) {
+                plan = planCompiler.compileReport(job.getPayload());
+            }
+            ReportJobPayload payload = plan.getPayload();
 
             getJobExecutorService().logOutput(run, "INFO", 
                 String.format("Generating %s report using template %s", 
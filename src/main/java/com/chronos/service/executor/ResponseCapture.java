@@ -0,0 +1,76 @@
+package com.chronos.service.executor;
+
+import lombok.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Summary of a response body read through a fixed-size buffer: its decoded size, SHA-256 digest
+ * and optionally its first bytes. Memory stays bounded by the buffer and the preview whatever
+ * the size of the body.
+ */
+@Value
+class ResponseCapture {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    long bytes;
+    String sha256;
+    // Null when no preview was requested
+    String preview;
+    boolean truncated;
+
+    /**
+     * Reads the body to its end, decoding gzip and deflate content encodings on the fly.
+     */
+    static ResponseCapture read(InputStream body, String contentEncoding, int previewLimit) throws IOException {
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream preview = new ByteArrayOutputStream(Math.min(previewLimit, BUFFER_SIZE));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        try (InputStream in = decoding(body, contentEncoding)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                if (preview.size() < previewLimit) {
+                    preview.write(buffer, 0, Math.min(read, previewLimit - preview.size()));
+                }
+                total += read;
+            }
+        }
+        return new ResponseCapture(
+                total,
+                HexFormat.of().formatHex(digest.digest()),
+                previewLimit > 0 ? preview.toString(StandardCharsets.UTF_8) : null,
+                total > preview.size());
+    }
+
+    private static InputStream decoding(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "", "identity" -> body;
+            case "gzip", "x-gzip" -> new GZIPInputStream(body, BUFFER_SIZE);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> throw new IOException("Unsupported content encoding: " + contentEncoding);
+        };
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
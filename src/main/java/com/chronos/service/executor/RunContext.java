@@ -0,0 +1,47 @@
+package com.chronos.service.executor;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobRun;
+import com.chronos.service.execution.RunHandle;
+import com.chronos.service.execution.plan.ExecutionPlan;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Everything an executor gets for one run.
+ */
+@Value
+@Builder
+public class RunContext {
+    Job job;
+    JobRun run;
+
+    // Precompiled plan, null if the executor has to compile it from the payload
+    ExecutionPlan plan;
+
+    // Null when the run is executed outside the execution engine
+    RunHandle handle;
+
+    Duration timeout;
+
+    /**
+     * @return the plan if it is of the expected type, otherwise null
+     */
+    public <T extends ExecutionPlan> T getPlan(Class<T> type) {
+        return type.isInstance(plan) ? type.cast(plan) : null;
+    }
+
+    public void attachProcess(Process process) {
+        if (handle != null) {
+            handle.attachProcess(process);
+        }
+    }
+
+    public void detachProcess(Process process) {
+        if (handle != null) {
+            handle.detachProcess(process);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.chronos.service.executor;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Outcome of a run as reported by its {@link JobTypeExecutor}.
+ */
+@Value
+@Builder
+public class RunResult {
+    boolean success;
+
+    // Error message for failed runs
+    String message;
+
+    @Builder.Default
+    Map<String, Object> details = Map.of();
+
+    public static RunResult success() {
+        return RunResult.builder().success(true).build();
+    }
+
+    public static RunResult success(Map<String, Object> details) {
+        return RunResult.builder().success(true).details(details).build();
+    }
+
+    public static RunResult failure(String message) {
+        return RunResult.builder().success(false).message(message).build();
+    }
+}
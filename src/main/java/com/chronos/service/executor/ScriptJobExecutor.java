@@ -0,0 +1,141 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.ScriptJobConfig.ScriptJobProperties;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.exception.JobExecutionException;
+import com.chronos.service.JobExecutorService;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.chronos.service.execution.plan.ScriptExecutionPlan;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScriptJobExecutor implements JobTypeExecutor {
+
+    // How long output may stay open after the script exited, e.g. held by a background process
+    private static final Duration OUTPUT_GRACE = Duration.ofSeconds(5);
+
+    private final ApplicationContext applicationContext;
+    private final ExecutionPlanCompiler planCompiler;
+    private final ScriptJobProperties properties;
+    private final ScriptWorkerPool workerPool;
+
+    private JobExecutorService getJobExecutorService() {
+        return applicationContext.getBean(JobExecutorService.class);
+    }
+
+    @Override
+    public JobType getJobType() {
+        return JobType.SCRIPT;
+    }
+
+    @Override
+    public ResourceClass getResourceClass() {
+        return ResourceClass.PROCESS;
+    }
+
+    @Override
+    public CompletionStage<RunResult> executeAsync(RunContext context) {
+        return JobTypeExecutor.blocking(() -> execute(context));
+    }
+
+    private void execute(RunContext context) {
+        JobRun run = context.getRun();
+        ScriptExecutionPlan plan = context.getPlan(ScriptExecutionPlan.class);
+        if (plan == null) {
+            plan = planCompiler.compileScript(context.getJob().getPayload());
+        }
+
+        JobExecutorService executorService = getJobExecutorService();
+        executorService.logOutput(run, "INFO", "Starting script execution");
+        // Output is stored from other threads while this one waits for the script
+        BiConsumer<String, Map<String, Object>> sink =
+                (chunk, position) -> executorService.logOutput(run, "INFO", chunk, position);
+
+        try {
+            if (workerPool.isEnabled()) {
+                runPooled(context, plan, sink);
+            } else {
+                runForked(context, plan, sink);
+            }
+        } catch (Exception e) {
+            throw new JobExecutionException("Script execution failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void runForked(RunContext context, ScriptExecutionPlan plan, BiConsumer<String, Map<String, Object>> sink)
+            throws Exception {
+        Process process = new ProcessBuilder(plan.getCommand())
+                .redirectErrorStream(true)
+                .start();
+
+        // Lets a cancel or timeout kill the script and everything it started
+        context.attachProcess(process);
+
+        ScriptOutputCapture output = ScriptOutputCapture.start(process.getInputStream(),
+                properties.getOutput(), sink, context.getRun().getId());
+        ScriptOutputCapture.Summary summary;
+        try {
+            if (!process.waitFor(context.getTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+                throw new JobExecutionException("Script execution timed out");
+            }
+            summary = output.await(OUTPUT_GRACE);
+        } finally {
+            // Only has an effect when the wait above was interrupted or timed out
+            output.close();
+        }
+        complete(context.getRun(), process.exitValue(), summary);
+    }
+
+    // The run's timeout and cancel kill the worker, which ends the read of its output
+    private void runPooled(RunContext context, ScriptExecutionPlan plan, BiConsumer<String, Map<String, Object>> sink)
+            throws Exception {
+        Path script = workerPool.scriptFile(plan.getScript());
+        ScriptWorker worker = workerPool.borrow();
+        context.attachProcess(worker.getProcess());
+
+        ScriptOutputCapture output = ScriptOutputCapture.open(properties.getOutput(), sink, context.getRun().getId());
+        int exitCode = -1;
+        ScriptOutputCapture.Summary summary;
+        try {
+            exitCode = worker.run(script, output);
+        } finally {
+            context.detachProcess(worker.getProcess());
+            workerPool.release(worker, exitCode == 0);
+            summary = output.finish();
+        }
+        complete(context.getRun(), exitCode, summary);
+    }
+
+    private void complete(JobRun run, int exitCode, ScriptOutputCapture.Summary summary) {
+        JobExecutorService executorService = getJobExecutorService();
+        if (summary.getDroppedLines() > 0) {
+            executorService.logOutput(run, "WARN", "Script output exceeded "
+                            + properties.getOutput().getMaxCapturedSize() + ", the rest was not stored",
+                    Map.of("droppedLines", summary.getDroppedLines(),
+                            "droppedBytes", summary.getDroppedBytes()));
+        }
+
+        if (exitCode != 0) {
+            throw new JobExecutionException("Script failed with exit code: " + exitCode);
+        }
+
+        executorService.logOutput(run, "INFO", "Script completed successfully",
+                Map.of("exitCode", exitCode, "outputLines", summary.getTotalLines()));
+    }
+}
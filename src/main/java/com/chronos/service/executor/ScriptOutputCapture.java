@@ -0,0 +1,254 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.ScriptJobConfig.Output;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads the output of a script and stores it in chunks of lines.
+ *
+ * A pump thread reads the stream into a bounded queue of lines and a flusher thread hands them to
+ * the sink once a chunk reaches the configured size or its first line the flush interval, so a
+ * chatty script costs one log entry per chunk instead of one per line. When the queue is full
+ * the pump stops reading and the script blocks on its next write. Output beyond the maximum
+ * captured size is still read, so the script never blocks on a full pipe, but only counted.
+ */
+@Slf4j
+class ScriptOutputCapture {
+
+    // Compared by identity, a script printing "EOF" must not end the capture
+    private static final String END = new String("EOF");
+
+    private final InputStream output;
+    private final BiConsumer<String, Map<String, Object>> sink;
+    private final long chunkBytes;
+    private final long flushIntervalNanos;
+    private final long maxCapturedBytes;
+    private final int maxLineLength;
+    private final BlockingQueue<String> lines;
+    private final Thread pump;
+    private final Thread flusher;
+
+    // Written by the pump, or the caller of add(), only; read once it finished
+    private long totalLines;
+    private long capturedBytes;
+    private long droppedLines;
+    private long droppedBytes;
+
+    private ScriptOutputCapture(InputStream output, Output properties, BiConsumer<String, Map<String, Object>> sink,
+                                String name) {
+        this.output = output;
+        this.sink = sink;
+        this.chunkBytes = Math.max(1, properties.getChunkSize().toBytes());
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.maxCapturedBytes = properties.getMaxCapturedSize().toBytes();
+        this.maxLineLength = Math.max(1, properties.getMaxLineLength());
+        this.lines = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferLines()));
+        this.pump = output != null
+                ? Thread.ofVirtual().name("chronos-script-output-" + name).unstarted(this::pump)
+                : null;
+        this.flusher = Thread.ofVirtual().name("chronos-script-flush-" + name).unstarted(this::flush);
+    }
+
+    /**
+     * @param sink receives the text of each chunk and its position in the output; called from the
+     *             flusher thread only, one chunk at a time
+     */
+    static ScriptOutputCapture start(InputStream output, Output properties,
+                                     BiConsumer<String, Map<String, Object>> sink, String name) {
+        ScriptOutputCapture capture = new ScriptOutputCapture(output, properties, sink, name);
+        capture.flusher.start();
+        capture.pump.start();
+        return capture;
+    }
+
+    /**
+     * Opens a capture fed line by line through {@link #add}, for output the caller has to read
+     * itself, such as the framed output of a pooled worker.
+     */
+    static ScriptOutputCapture open(Output properties, BiConsumer<String, Map<String, Object>> sink, String name) {
+        ScriptOutputCapture capture = new ScriptOutputCapture(null, properties, sink, name);
+        capture.flusher.start();
+        return capture;
+    }
+
+    /**
+     * Waits for the end of the stream and for the last chunk to be stored. Processes the script
+     * started in the background may keep the stream open after it exited, so once the grace
+     * period is over the stream is closed and what was read up to then is stored.
+     */
+    Summary await(Duration grace) throws InterruptedException {
+        if (!pump.join(grace)) {
+            log.debug("Output of {} still open after the script exited, closing it", pump.getName());
+            close();
+        }
+        pump.join();
+        flusher.join();
+        return new Summary(totalLines, capturedBytes, droppedLines, droppedBytes);
+    }
+
+    /**
+     * Stops reading; the lines read so far are still stored.
+     */
+    void close() {
+        try {
+            output.close();
+        } catch (IOException e) {
+            log.debug("Could not close script output: {}", e.getMessage());
+        }
+        // A pump blocked on a full queue does not notice the stream being closed
+        pump.interrupt();
+    }
+
+    private void pump() {
+        try (Reader reader = new InputStreamReader(output, StandardCharsets.UTF_8)) {
+            OutputLineReader lineReader = new OutputLineReader(reader, maxLineLength);
+            String line;
+            while ((line = lineReader.readLine()) != null) {
+                add(line);
+            }
+        } catch (IOException e) {
+            // Closed by close() or the process being destroyed
+            log.debug("Stopped reading script output: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            log.debug("Stopped reading script output after an interrupt");
+        } finally {
+            endFlusher();
+        }
+    }
+
+    /**
+     * Adds a line read by the caller, for captures opened without a stream. Blocks while the
+     * buffer is full.
+     */
+    void add(String line) throws InterruptedException {
+        totalLines++;
+        // Plus the line separator
+        long size = utf8Length(line) + 1;
+        if (capturedBytes + size > maxCapturedBytes) {
+            droppedLines++;
+            droppedBytes += size;
+            return;
+        }
+        capturedBytes += size;
+        lines.put(line);
+    }
+
+    /**
+     * Ends a capture opened without a stream and waits for the last chunk to be stored.
+     */
+    Summary finish() throws InterruptedException {
+        endFlusher();
+        flusher.join();
+        return new Summary(totalLines, capturedBytes, droppedLines, droppedBytes);
+    }
+
+    private void endFlusher() {
+        // The queue may be full with a flusher that already stopped, never wait for space forever
+        while (flusher.isAlive()) {
+            try {
+                if (lines.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                // close() interrupts the pump, the flusher still has to be ended
+            }
+        }
+    }
+
+    private void flush() {
+        StringBuilder chunk = new StringBuilder();
+        long size = 0;
+        long chunkStarted = 0;
+        int chunkLines = 0;
+        long firstLine = 1;
+        try {
+            while (true) {
+                long wait = chunkLines == 0
+                        ? flushIntervalNanos
+                        : Math.max(0, chunkStarted + flushIntervalNanos - System.nanoTime());
+                String line = lines.poll(wait, TimeUnit.NANOSECONDS);
+                if (line == END) {
+                    break;
+                }
+                if (line != null) {
+                    long lineSize = utf8Length(line) + 1;
+                    if (chunkLines > 0 && size + lineSize > chunkBytes) {
+                        write(chunk, firstLine, chunkLines);
+                        firstLine += chunkLines;
+                        chunk.setLength(0);
+                        size = 0;
+                        chunkLines = 0;
+                    }
+                    if (chunkLines == 0) {
+                        chunkStarted = System.nanoTime();
+                    } else {
+                        chunk.append('\n');
+                    }
+                    chunk.append(line);
+                    size += lineSize;
+                    chunkLines++;
+                }
+                if (chunkLines > 0
+                        && (size >= chunkBytes || System.nanoTime() - chunkStarted >= flushIntervalNanos)) {
+                    write(chunk, firstLine, chunkLines);
+                    firstLine += chunkLines;
+                    chunk.setLength(0);
+                    size = 0;
+                    chunkLines = 0;
+                }
+            }
+        } catch (InterruptedException e) {
+            log.debug("Stopped storing script output after an interrupt");
+        } finally {
+            if (chunkLines > 0) {
+                write(chunk, firstLine, chunkLines);
+            }
+        }
+    }
+
+    private void write(StringBuilder chunk, long firstLine, int chunkLines) {
+        try {
+            sink.accept(chunk.toString(), Map.of("firstLine", firstLine, "lines", chunkLines));
+        } catch (Exception e) {
+            // The script keeps running, only this chunk is lost
+            log.warn("Could not store {} lines of script output: {}", chunkLines, e.getMessage());
+        }
+    }
+
+    static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // Each half of a surrogate pair counts for two of its four bytes
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    @Value
+    static class Summary {
+        long totalLines;
+        long capturedBytes;
+        long droppedLines;
+        long droppedBytes;
+    }
+}
@@ -0,0 +1,8 @@
+package com.chronos.service.executor;
+
+public enum ScriptRunnerMode {
+    // A new shell per run
+    FORK,
+    // Pre-started shells reused across runs, each run in a subshell of its own
+    WARM_POOL
+}
@@ -0,0 +1,118 @@
+package com.chronos.service.executor;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A shell started ahead of time that runs one script after the other.
+ *
+ * The shell reads the path of a script file per line on its input and sources it in a subshell,
+ * so directory changes, variables and an {@code exit} of one run do not leak into the next, with
+ * its input closed and errors merged into its output like a forked script. The subshell is a
+ * process group of its own; once it exits the group is killed, so processes the script left in
+ * the background cannot write into the output of the next run, which may belong to another job.
+ * After that the shell writes a line with a marker and the exit code; the marker is random per
+ * worker, so a script cannot end its run early by printing it. Not thread-safe, a worker belongs
+ * to one run at a time.
+ */
+class ScriptWorker {
+
+    // Job control gives every background job its own process group. The shell's own errors, such
+    // as job notices, are dropped; the scripts' go to the output through their own redirection.
+    private static final String DRIVER = """
+            set -m
+            exec 2>/dev/null
+            while IFS= read -r script; do
+              ( set --; . "$script" ) </dev/null 2>&1 &
+              pid=$!
+              wait "$pid"
+              code=$?
+              kill -KILL -- -"$pid"
+              for i in 1 2 3 4 5 6 7 8 9 10; do kill -0 -- -"$pid" || break; sleep 0.05; done
+              printf '\\n%s %d\\n' "$1" "$code"
+            done
+            """;
+
+    @Getter
+    private final Process process;
+    private final String marker;
+    private final Writer input;
+    private final OutputLineReader output;
+    @Getter
+    private int runs;
+
+    private ScriptWorker(Process process, String marker, int maxLineLength) {
+        this.process = process;
+        this.marker = marker + " ";
+        this.input = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+        this.output = new OutputLineReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8), maxLineLength);
+    }
+
+    static ScriptWorker start(Path workingDirectory, Map<String, String> environment, int maxLineLength)
+            throws IOException {
+        String marker = "chronos-run-end-" + UUID.randomUUID();
+        ProcessBuilder builder = new ProcessBuilder(List.of("bash", "-c", DRIVER, "chronos-script-worker", marker))
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true);
+        builder.environment().clear();
+        builder.environment().putAll(environment);
+        return new ScriptWorker(builder.start(), marker, maxLineLength);
+    }
+
+    /**
+     * Runs the script and passes its output on line by line.
+     *
+     * @return the exit code of the script
+     * @throws IOException if the worker died or was destroyed during the run
+     */
+    int run(Path script, ScriptOutputCapture capture) throws IOException, InterruptedException {
+        runs++;
+        input.write(script.toString());
+        input.write('\n');
+        input.flush();
+
+        // The protocol ends the output with a line break of its own, so the last line is held
+        // back until it is known whether it is the script's or an empty one the protocol added
+        String pending = null;
+        String line;
+        while ((line = output.readLine()) != null) {
+            if (line.startsWith(marker)) {
+                if (pending != null && !pending.isEmpty()) {
+                    capture.add(pending);
+                }
+                return Integer.parseInt(line.substring(marker.length()).trim());
+            }
+            if (pending != null) {
+                capture.add(pending);
+            }
+            pending = line;
+        }
+        throw new IOException("Script worker exited during the run");
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    // Processes of the last run still attached to the shell, for instance ones that left its group
+    boolean hasDescendants() {
+        return process.descendants().findAny().isPresent();
+    }
+
+    // The shell goes first, so it cannot report the killed script as an ordinary exit code
+    void destroy() {
+        List<ProcessHandle> descendants = process.descendants().toList();
+        process.destroyForcibly();
+        descendants.forEach(ProcessHandle::destroyForcibly);
+    }
+}
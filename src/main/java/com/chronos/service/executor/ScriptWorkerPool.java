@@ -0,0 +1,167 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.ScriptJobConfig.Runner;
+import com.chronos.config.ScriptJobConfig.ScriptJobProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shells started ahead of time for SCRIPT jobs in {@link ScriptRunnerMode#WARM_POOL} mode.
+ *
+ * A run borrows an idle worker or, when all of them are busy, starts one, and gives it back
+ * afterwards. Workers that ran {@code maxRunsPerWorker} scripts, or whose last run failed, are
+ * destroyed instead and replaced in the background, so the next run does not pay for the start.
+ * Scripts are written once to a file named after their hash, which the worker sources by path.
+ * Nothing is started in FORK mode.
+ */
+@Slf4j
+@Component
+class ScriptWorkerPool {
+
+    private final Runner properties;
+    private final int maxLineLength;
+    private final BlockingQueue<ScriptWorker> idle;
+    private final Map<String, Path> scripts = new ConcurrentHashMap<>();
+    private Path directory;
+    private Path workingDirectory;
+    private Map<String, String> environment;
+    private volatile boolean closed;
+
+    ScriptWorkerPool(ScriptJobProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getRunner();
+        this.maxLineLength = properties.getOutput().getMaxLineLength();
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, this.properties.getPoolSize()));
+        Gauge.builder("chronos.script.workers.idle", idle, BlockingQueue::size)
+                .description("Started shells waiting for a SCRIPT run")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        directory = Files.createTempDirectory("chronos-scripts-");
+        workingDirectory = properties.getWorkingDirectory() != null
+                ? Files.createDirectories(properties.getWorkingDirectory())
+                : Files.createDirectories(directory.resolve("work"));
+        environment = new HashMap<>();
+        for (String name : properties.getInheritEnvironment()) {
+            String value = System.getenv(name);
+            if (value != null) {
+                environment.put(name, value);
+            }
+        }
+        for (int i = 0; i < properties.getPoolSize(); i++) {
+            replenish();
+        }
+        log.info("Started {} script workers in {}", idle.size(), workingDirectory);
+    }
+
+    boolean isEnabled() {
+        return properties.getMode() == ScriptRunnerMode.WARM_POOL;
+    }
+
+    ScriptWorker borrow() throws IOException {
+        ScriptWorker worker;
+        while ((worker = idle.poll()) != null) {
+            if (worker.isAlive()) {
+                return worker;
+            }
+            // Killed by a cancel of its last run, or from outside
+            worker.destroy();
+        }
+        return startWorker();
+    }
+
+    /**
+     * @param reusable false if the run failed; the worker is then replaced, as is one that still
+     *                 has processes of the run attached
+     */
+    void release(ScriptWorker worker, boolean reusable) {
+        if (!closed && reusable && worker.isAlive() && !worker.hasDescendants()
+                && worker.getRuns() < properties.getMaxRunsPerWorker() && idle.offer(worker)) {
+            return;
+        }
+        worker.destroy();
+        if (!closed && idle.remainingCapacity() > 0) {
+            Thread.ofVirtual().name("chronos-script-worker-start").start(this::replenish);
+        }
+    }
+
+    /**
+     * @return the file holding the script, written on its first run
+     */
+    Path scriptFile(String script) {
+        byte[] content = script.getBytes(StandardCharsets.UTF_8);
+        return scripts.computeIfAbsent(HexFormat.of().formatHex(sha256().digest(content)), hash -> {
+            Path file = directory.resolve(hash + ".sh");
+            try {
+                Path temporary = Files.createTempFile(directory, hash, ".tmp");
+                Files.write(temporary, content);
+                return Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write script file " + file, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        closed = true;
+        ScriptWorker worker;
+        while ((worker = idle.poll()) != null) {
+            worker.destroy();
+        }
+        if (directory != null) {
+            try {
+                FileSystemUtils.deleteRecursively(directory);
+            } catch (IOException e) {
+                log.warn("Could not delete script directory {}: {}", directory, e.getMessage());
+            }
+        }
+    }
+
+    private void replenish() {
+        try {
+            ScriptWorker worker = startWorker();
+            if (closed || !idle.offer(worker)) {
+                worker.destroy();
+            }
+        } catch (IOException e) {
+            log.warn("Could not start script worker: {}", e.getMessage());
+        }
+    }
+
+    private ScriptWorker startWorker() throws IOException {
+        return ScriptWorker.start(workingDirectory, environment, maxLineLength);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
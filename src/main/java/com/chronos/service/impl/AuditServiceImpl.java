@@ -1,16 +1,19 @@
 package com.chronos.service.impl;
 
 import com.chronos.api.dto.audit.AuditEventResponse;
+import com.chronos.api.dto.page.CursorPage;
+import com.chronos.api.dto.page.Cursors;
+import com.chronos.api.dto.page.Cursors.TimeKey;
 import com.chronos.api.mapper.AuditEventMapper;
 import com.chronos.domain.model.AuditEvent;
 import com.chronos.domain.model.User;
 import com.chronos.repository.AuditEventRepository;
 import com.chronos.repository.UserRepository;
 import com.chronos.service.AuditService;
+import com.chronos.service.pagination.ApproximateTotals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -28,6 +32,7 @@ public class AuditServiceImpl implements AuditService {
     private final AuditEventRepository auditEventRepository;
     private final UserRepository userRepository;
     private final AuditEventMapper auditEventMapper;
+    private final ApproximateTotals approximateTotals;
 
     @Override
     @Async
@@ -61,34 +66,33 @@ public class AuditServiceImpl implements AuditService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<AuditEventResponse> getAuditEvents(Pageable pageable) {
-        return auditEventRepository.findAll(pageable)
-                .map(auditEventMapper::toAuditEventResponse);
+    public CursorPage<AuditEventResponse> getAuditEvents(String cursor, int limit, boolean includeTotal) {
+        return page(null, null, null, null, cursor, limit, includeTotal);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<AuditEventResponse> getAuditEventsForEntity(String entityType, String entityId, 
-                                                          Pageable pageable) {
-        return auditEventRepository.findByEntity(entityType, entityId, pageable)
-                .map(auditEventMapper::toAuditEventResponse);
+    public CursorPage<AuditEventResponse> getAuditEventsForEntity(String entityType, String entityId,
+                                                                String cursor, int limit, boolean includeTotal) {
+        return page(entityType, entityId, null, null, cursor, limit, includeTotal);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<AuditEventResponse> getAuditEventsByAction(String action, Pageable pageable) {
-        return auditEventRepository.findByAction(action, pageable)
-                .map(auditEventMapper::toAuditEventResponse);
+    public CursorPage<AuditEventResponse> getAuditEventsByAction(String action, String cursor, int limit,
+                                                               boolean includeTotal) {
+        return page(null, null, action, null, cursor, limit, includeTotal);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<AuditEventResponse> getAuditEventsForUser(Long userId, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-        
-        return auditEventRepository.findByUser(user, pageable)
-                .map(auditEventMapper::toAuditEventResponse);
+    public CursorPage<AuditEventResponse> getAuditEventsForUser(Long userId, String cursor, int limit,
+                                                              boolean includeTotal) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found: " + userId);
+        }
+
+        return page(null, null, null, userId, cursor, limit, includeTotal);
     }
 
     @Override
@@ -102,6 +106,21 @@ public class AuditServiceImpl implements AuditService {
         }
     }
 
+    private CursorPage<AuditEventResponse> page(String entityType, String entityId, String action, Long userId,
+                                                String cursor, int limit, boolean includeTotal) {
+        TimeKey after = Cursors.timeKey(cursor);
+        int pageSize = CursorPage.clampLimit(limit);
+
+        List<AuditEvent> events = auditEventRepository.findPage(entityType, entityId, action, userId,
+                after != null ? after.getTime() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(events, pageSize, event -> Cursors.encode(event.getCreatedAt(), event.getId()),
+                        auditEventMapper::toAuditEventResponse)
+                .withApproximateTotal(approximateTotals.get(includeTotal,
+                        () -> auditEventRepository.countPage(entityType, entityId, action, userId),
+                        "audit", entityType, entityId, action, userId));
+    }
+
     private User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || authentication.getName() == null) {
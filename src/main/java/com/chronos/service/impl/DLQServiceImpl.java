@@ -1,6 +1,9 @@
 package com.chronos.service.impl;
 
 import com.chronos.api.dto.dlq.DLQEventResponse;
+import com.chronos.api.dto.page.CursorPage;
+import com.chronos.api.dto.page.Cursors;
+import com.chronos.api.dto.page.Cursors.TimeKey;
 import com.chronos.api.mapper.DLQEventMapper;
 import com.chronos.domain.model.DLQEvent;
 import com.chronos.domain.model.Job;
@@ -10,17 +13,18 @@ import com.chronos.repository.DLQEventRepository;
 import com.chronos.service.DLQService;
 import com.chronos.service.JobService;
 import com.chronos.service.QuartzSchedulerService;
+import com.chronos.service.pagination.ApproximateTotals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.SchedulerException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +35,7 @@ public class DLQServiceImpl implements DLQService {
     private final DLQEventMapper dlqEventMapper;
     private final JobService jobService;
     private final QuartzSchedulerService schedulerService;
+    private final ApproximateTotals approximateTotals;
 
     @Override
     @Transactional
@@ -48,16 +53,18 @@ public class DLQServiceImpl implements DLQService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<DLQEventResponse> getDLQEvents(Pageable pageable) {
-        return dlqEventRepository.findAll(pageable)
-                .map(dlqEventMapper::toDLQEventResponse);
-    }
+    public CursorPage<DLQEventResponse> getDLQEvents(String reasonContains, String cursor, int limit,
+                                                     boolean includeTotal) {
+        TimeKey after = Cursors.timeKey(cursor);
+        int pageSize = CursorPage.clampLimit(limit);
 
-    @Override
-    @Transactional(readOnly = true)
-    public Page<DLQEventResponse> searchDLQEvents(String reasonContains, Pageable pageable) {
-        return dlqEventRepository.searchByReason(reasonContains, pageable)
-                .map(dlqEventMapper::toDLQEventResponse);
+        List<DLQEvent> events = dlqEventRepository.findPage(reasonContains,
+                after != null ? after.getTime() : null, after != null ? after.getId() : null,
+                PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(events, pageSize, event -> Cursors.encode(event.getCreatedAt(), event.getId()),
+                        dlqEventMapper::toDLQEventResponse)
+                .withApproximateTotal(approximateTotals.get(includeTotal,
+                        () -> dlqEventRepository.countPage(reasonContains), "dlq", reasonContains));
     }
 
     @Override
@@ -1,37 +1,53 @@
 package com.chronos.service.impl;
 
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
-import com.chronos.domain.model.JobRunLog;
-import com.chronos.domain.model.payload.HttpJobPayload;
-import com.chronos.domain.model.payload.ScriptJobPayload;
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.enums.TransitionResult;
 import com.chronos.event.JobLogEvent;
 import com.chronos.exception.JobExecutionException;
-import com.chronos.repository.JobRunLogRepository;
 import com.chronos.service.JobExecutorService;
 import com.chronos.service.JobService;
 import org.springframework.context.ApplicationContext;
-import com.chronos.service.executor.DatabaseJobExecutor;
-import com.chronos.service.executor.FileSystemJobExecutor;
-import com.chronos.service.executor.CacheJobExecutor;
-import com.chronos.service.executor.ReportJobExecutor;
-import com.chronos.service.executor.MessageQueueJobExecutor;
-import com.chronos.service.executor.DbToKafkaJobExecutor;
+import com.chronos.service.executor.JobExecutorRegistry;
+import com.chronos.service.executor.JobTypeExecutor;
+import com.chronos.service.executor.RunContext;
+import com.chronos.service.executor.RunResult;
+import com.chronos.service.execution.Admission;
+import com.chronos.service.execution.CancellationReason;
+import com.chronos.service.execution.CircuitBreakerRegistry;
+import com.chronos.service.execution.DurationEstimator;
+import com.chronos.service.execution.JobDefinition;
+import com.chronos.service.execution.JobDefinitionCache;
+import com.chronos.service.execution.JobExecutionEngine;
+import com.chronos.service.execution.PendingRun;
+import com.chronos.service.execution.RunHandle;
+import com.chronos.service.execution.plan.ExecutionPlan;
+import com.chronos.service.runlog.RunLogTail;
+import com.chronos.service.runlog.RunLogWriter;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
-import org.springframework.web.client.RestTemplate;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -39,176 +55,290 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class JobExecutorServiceImpl implements JobExecutorService {
 
-    private final JobRunLogRepository jobRunLogRepository;
-    private final RestTemplate restTemplate;
-    private final DatabaseJobExecutor databaseJobExecutor;
-    private final FileSystemJobExecutor fileSystemJobExecutor;
-    private final CacheJobExecutor cacheJobExecutor;
-    private final ReportJobExecutor reportJobExecutor;
-    private final MessageQueueJobExecutor messageQueueJobExecutor;
-    private final DbToKafkaJobExecutor dbToKafkaJobExecutor;
+    private static final Duration RUN_LOG_FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final RunLogWriter runLogWriter;
+    private final RunLogTail runLogTail;
+    private final JobExecutorRegistry executorRegistry;
     private final ApplicationContext applicationContext;
-    
-    @Value("${app.job.max-concurrent-executions:50}")
-    private int maxConcurrentExecutions;
-    
-    private final Map<String, Process> runningProcesses = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> runningJobs = new ConcurrentHashMap<>();
+    private final JobExecutionEngine executionEngine;
+    private final DurationEstimator durationEstimator;
+    private final JobDefinitionCache definitionCache;
+    private final ExecutionProperties executionProperties;
+    private final CircuitBreakerRegistry circuitBreakers;
+
+    // Handle of the run each job is executing or waiting to execute, by job id
+    private final Map<String, RunHandle> runningJobs = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timeoutScheduler = createTimeoutScheduler();
+    // Records runs the engine turned away and runs that were stopped, off the thread that fired or
+    // stopped them, so a slow log flush or database cannot hold up other fires or timeouts
+    private final ExecutorService outcomeRecorder = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("chronos-run-outcome-", 0).factory());
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void executeJob(Job job, JobRun run) {
-        // Check global concurrent execution limit
-        if (runningJobs.size() >= maxConcurrentExecutions) {
-            log.warn("Maximum concurrent executions reached ({}), skipping job {}", maxConcurrentExecutions, job.getId());
+        submit(job, run, false, () -> { });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void executeClaimedJob(Job job, JobRun run, Runnable onRejected) {
+        submit(job, run, true, onRejected);
+    }
+
+    private void submit(Job job, JobRun run, boolean claimed, Runnable onRejected) {
+        // Try to acquire lock
+        RunHandle handle = new RunHandle(job.getId(), run.getId());
+        if (runningJobs.putIfAbsent(job.getId(), handle) != null) {
+            log.warn("Job {} is already running, skipping execution", job.getId());
+            onRejected.run();
             return;
         }
 
-        // Try to acquire lock
-        if (runningJobs.putIfAbsent(job.getId(), Boolean.TRUE) == null) {
-            try {
-                // Start job in a new transaction
-                try {
-                    getJobService().markJobAsRunning(job.getId(), run.getId(), getWorkerId());
-                } catch (JobExecutionException e) {
-                    // Job is already running, skip execution
-                    log.warn("Job {} is already running, skipping execution", job.getId());
-                    runningJobs.remove(job.getId());
-                    return;
-                }
-
-                boolean success = false;
-                String error = null;
-
-                // Execute job
-                try {
-                    switch (job.getType()) {
-                        case HTTP -> executeHttpJob(job, run);
-                        case SCRIPT -> executeScriptJob(job, run);
-                        case DUMMY -> executeDummyJob(job, run);
-                        case DATABASE -> databaseJobExecutor.execute(job, run);
-                        case FILE_SYSTEM -> fileSystemJobExecutor.execute(job, run);
-                        case CACHE -> cacheJobExecutor.execute(job, run);
-                        case REPORT -> reportJobExecutor.execute(job, run);
-                        case MESSAGE_QUEUE -> messageQueueJobExecutor.execute(job, run);
-                        case DB_TO_KAFKA -> dbToKafkaJobExecutor.execute(job, run);
-                        default -> throw new JobExecutionException("Unsupported job type: " + job.getType());
-                    }
-                    success = true;
-                } catch (Exception e) {
-                    error = e.getMessage();
-                    throw e;
-                } finally {
-                    // Always try to complete the job
-                    try {
-                        getJobService().markJobAsComplete(job.getId(), run.getId(), success, error);
-                    } catch (Exception e) {
-                        log.error("Failed to mark job {} as complete: {}", job.getId(), e.getMessage());
+        // Hand the run to the execution engine so the calling thread returns immediately,
+        // overflow waits in the engine's admission queue until a slot frees up
+        Admission admission = executionEngine.submit(PendingRun.builder()
+                .type(job.getType())
+                .jobId(job.getId())
+                .priority(job.getPriority() != null ? job.getPriority() : JobPriority.MEDIUM)
+                .resourceClass(executorRegistry.getResourceClass(job.getType()))
+                .expectedDurationMs(durationEstimator.estimate(job))
+                .onStart(releaseSlot -> handle.start(Thread.currentThread(), releaseSlot))
+                .releasesSlot(true)
+                .task(() -> runJob(job, run, claimed, handle))
+                .onRejected(() -> {
+                    runningJobs.remove(job.getId(), handle);
+                    log.warn("Admission queue for {} jobs is full, not starting run {} of job {}",
+                            job.getType(), run.getId(), job.getId());
+                    // A claimed run goes back to its claimer; a fired one would otherwise be lost
+                    if (claimed) {
+                        onRejected.run();
+                    } else {
+                        outcomeRecorder.execute(() -> recordRejection(job, run, handle));
                     }
-                }
+                })
+                .build());
+        if (admission == Admission.QUEUED) {
+            log.debug("No free slot for {} job {}, run {} queued", job.getType(), job.getId(), run.getId());
+        }
+    }
+
+    // Records the run as a failed attempt so the retry policy reschedules it or moves it to the DLQ
+    private void recordRejection(Job job, JobRun run, RunHandle handle) {
+        String message = "Admission queue for " + job.getType() + " jobs is full, run not started";
+        try {
+            if (getJobService().markJobAsRunning(job.getId(), run.getId(), getWorkerId())
+                    == TransitionResult.LOST_RACE) {
+                log.warn("Job {} is no longer SCHEDULED, not recording rejected run {}", job.getId(), run.getId());
+                return;
+            }
+            logOutput(run, "WARN", message);
+            complete(handle, false, message);
+        } catch (Exception e) {
+            log.error("Failed to record rejected run {} of job {}: {}", run.getId(), job.getId(), e.getMessage());
+        }
+    }
+
+    // Starts the run and returns once its executor did; the run completes in onRunCompleted,
+    // possibly later on another thread if the executor is non-blocking
+    private void runJob(Job job, JobRun run, boolean claimed, RunHandle handle) {
+        boolean started = false;
+        try {
+            if (handle.isCancelled()) {
+                log.info("Run {} of job {} was cancelled before it started", run.getId(), job.getId());
+                return;
+            }
+
+            // Start job in a new transaction, claimed runs were started by the claim itself
+            if (!claimed && getJobService().markJobAsRunning(job.getId(), run.getId(), getWorkerId())
+                    == TransitionResult.LOST_RACE) {
+                log.warn("Job {} is no longer SCHEDULED, skipping execution", job.getId());
+                return;
+            }
+            // Clients streaming the log follow it from memory until the run completes
+            runLogTail.start(run.getId());
+            runLogWriter.start(run.getId());
+
+            JobDefinition definition = cachedDefinition(job);
+            ExecutionPlan plan = planOf(definition, job);
+            String target = plan != null ? plan.getTarget() : null;
+            if (!circuitBreakers.tryAcquire(target)) {
+                String message = "Circuit breaker open for " + target + ", run not started";
+                log.warn("Job {} run {}: {}", job.getId(), run.getId(), message);
+                logOutput(run, "WARN", message);
+                complete(handle, false, message);
+                return;
+            }
+
+            Duration limit = timeoutFor(definition);
+            ScheduledFuture<?> timeout = timeoutScheduler.schedule(
+                    () -> cancel(handle, CancellationReason.TIMED_OUT, "Execution timed out after " + limit.toSeconds() + "s"),
+                    limit.toMillis(), TimeUnit.MILLISECONDS);
+            long startNanos = System.nanoTime();
+
+            CompletionStage<RunResult> result = execute(RunContext.builder()
+                    .job(job)
+                    .run(run)
+                    .plan(plan)
+                    .handle(handle)
+                    .timeout(limit)
+                    .build());
+            started = true;
+            handle.attachResult(result.toCompletableFuture());
+            result.whenComplete((outcome, failure) ->
+                    onRunCompleted(job, run, handle, target, timeout, startNanos, outcome, failure));
+        } catch (Exception e) {
+            log.error("Job {} execution failed: {}", job.getId(), e.getMessage());
+            logOutput(run, "ERROR", "Job execution failed: " + e.getMessage(),
+                    Map.of("stackTrace", e.toString()));
+            complete(handle, false, e.getMessage());
+        } finally {
+            handle.detach();
+            if (!started) {
+                runningJobs.remove(job.getId(), handle);
+                handle.releaseSlot();
+            }
+        }
+    }
+
+    private void onRunCompleted(Job job, JobRun run, RunHandle handle, String target, ScheduledFuture<?> timeout,
+                                long startNanos, RunResult outcome, Throwable failure) {
+        timeout.cancel(false);
+        try {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (handle.isCancelled()) {
+                circuitBreakers.release(target);
+            } else {
+                circuitBreakers.record(target, cause);
+            }
+            boolean success = cause == null && outcome.isSuccess();
+            String error = cause != null ? cause.getMessage() : outcome.getMessage();
+            if (success) {
+                durationEstimator.record(job.getId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            } else if (handle.isCancelled()) {
+                log.info("Job {} run {} stopped: {}", job.getId(), run.getId(), handle.getCancellation());
+            } else {
+                log.error("Job {} execution failed: {}", job.getId(), error);
+                logOutput(run, "ERROR", "Job execution failed: " + error,
+                        Map.of("stackTrace", String.valueOf(cause != null ? cause : error)));
+            }
+            // A stopped run's result completes on the stopping thread; whoever stopped it records
+            // the outcome, with its reason, on the outcome recorder
+            if (!handle.isCancelled()) {
+                complete(handle, success, error);
+            }
+        } catch (Exception e) {
+            log.error("Error completing run {} of job {}", run.getId(), job.getId(), e);
+        } finally {
+            try {
+                handle.destroyProcess();
             } catch (Exception e) {
-                log.error("Job {} execution failed: {}", job.getId(), e.getMessage());
-                handleFailure(job, run, e);
+                log.error("Error during resource cleanup for job {}", job.getId(), e);
             } finally {
-                try {
-                    cleanupResources(run);
-                } catch (Exception e) {
-                    log.error("Error during resource cleanup for job {}", job.getId(), e);
-                } finally {
-                    runningJobs.remove(job.getId());
-                }
+                runningJobs.remove(job.getId(), handle);
+                handle.releaseSlot();
             }
-        } else {
-            log.warn("Job {} is already running, skipping execution", job.getId());
         }
     }
 
-    @Override
-    public void executeHttpJob(Job job, JobRun run) {
-        if (!(job.getPayload() instanceof HttpJobPayload httpPayload)) {
-            throw new JobExecutionException("Invalid payload type for HTTP job");
+    // An executor that throws instead of failing its stage is reported the same way
+    private CompletionStage<RunResult> execute(RunContext context) {
+        try {
+            return executorRegistry.get(context.getJob().getType()).executeAsync(context);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
         }
+    }
 
-        logOutput(run, "INFO", "Starting HTTP request");
-        
-        HttpHeaders headers = new HttpHeaders();
-        if (httpPayload.getHttpHeaders() != null) {
-            httpPayload.getHttpHeaders().forEach(headers::add);
+    // Stops the run and records its outcome right away instead of when the executor notices, which
+    // may be never for calls that ignore interrupts. The outcome is written from a virtual thread,
+    // outside whatever transaction the caller is in.
+    private boolean cancel(RunHandle handle, CancellationReason reason, String message) {
+        if (!handle.cancel(reason)) {
+            return false;
         }
-        
-        HttpEntity<?> entity = new HttpEntity<>(
-                httpPayload.getHttpBody(),
-                headers
-        );
-        
-        ResponseEntity<String> response = restTemplate.exchange(
-                httpPayload.getHttpUrl(),
-                HttpMethod.valueOf(httpPayload.getHttpMethod()),
-                entity,
-                String.class
-        );
-        
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new JobExecutionException("HTTP request failed with status: " + response.getStatusCode());
+        log.warn("Stopping run {} of job {}: {}", handle.getRunId(), handle.getJobId(), message);
+        runningJobs.remove(handle.getJobId(), handle);
+        if (handle.markCompleted()) {
+            outcomeRecorder.execute(() -> recordOutcome(handle, false, message));
         }
-        
-        logOutput(run, "INFO", "HTTP job completed successfully", 
-                Map.of("statusCode", response.getStatusCode().value()));
+        return true;
     }
 
-    @Override
-    public void executeScriptJob(Job job, JobRun run) {
-        if (!(job.getPayload() instanceof ScriptJobPayload scriptPayload)) {
-            throw new JobExecutionException("Invalid payload type for Script job");
+    private void complete(RunHandle handle, boolean success, String error) {
+        if (handle.markCompleted()) {
+            recordOutcome(handle, success, error);
+        }
+    }
+
+    private void recordOutcome(RunHandle handle, boolean success, String error) {
+        if (!runLogWriter.flush(RUN_LOG_FLUSH_TIMEOUT)) {
+            log.warn("Log of run {} not completely written before its outcome", handle.getRunId());
+        }
+        runLogWriter.complete(handle.getRunId(), RUN_LOG_FLUSH_TIMEOUT);
+        try {
+            getJobService().markJobAsComplete(handle.getJobId(), handle.getRunId(), success, error);
+        } catch (Exception e) {
+            log.error("Failed to mark job {} as complete: {}", handle.getJobId(), e.getMessage());
         }
+    }
 
-        logOutput(run, "INFO", "Starting script execution");
-        
+    // Null when the definition cannot be loaded, the run then compiles its plan itself
+    private JobDefinition cachedDefinition(Job job) {
         try {
-            Process process = new ProcessBuilder("bash", "-c", scriptPayload.getScript())
-                    .redirectErrorStream(true)
-                    .start();
-            
-            runningProcesses.put(run.getId(), process);
-            
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream()))) {
-                
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    logOutput(run, "INFO", line);
-                }
-            }
-            
-            if (!process.waitFor(30, TimeUnit.MINUTES)) {
-                process.destroyForcibly();
-                throw new JobExecutionException("Script execution timed out");
-            }
-            
-            int exitCode = process.exitValue();
-            if (exitCode != 0) {
-                throw new JobExecutionException("Script failed with exit code: " + exitCode);
-            }
-            
-            logOutput(run, "INFO", "Script completed successfully", 
-                    Map.of("exitCode", exitCode));
-            
+            return definitionCache.get(job.getId());
         } catch (Exception e) {
-            throw new JobExecutionException("Script execution failed: " + e.getMessage(), e);
+            log.debug("No cached definition for job {}: {}", job.getId(), e.getMessage());
+            return null;
         }
     }
 
+    // Plan compiled when the definition was cached; null makes the executor compile it for this run
+    private static ExecutionPlan planOf(JobDefinition definition, Job job) {
+        ExecutionPlan plan = definition != null ? definition.getPlan() : null;
+        return plan != null && plan.getType() == job.getType() ? plan : null;
+    }
+
+    private Duration timeoutFor(JobDefinition definition) {
+        return definition != null && definition.getTimeout() != null
+                ? definition.getTimeout()
+                : executionProperties.getDefaultTimeout();
+    }
+
+    @Override
+    public void executeHttpJob(Job job, JobRun run) {
+        executeDirectly(JobType.HTTP, job, run);
+    }
+
+    @Override
+    public void executeScriptJob(Job job, JobRun run) {
+        executeDirectly(JobType.SCRIPT, job, run);
+    }
+
     @Override
     public void executeDummyJob(Job job, JobRun run) {
-        logOutput(run, "INFO", "Starting dummy job execution");
-        
+        executeDirectly(JobType.DUMMY, job, run);
+    }
+
+    // Runs the executor on the calling thread, outside the execution engine, and waits for it
+    private void executeDirectly(JobType type, Job job, JobRun run) {
+        JobTypeExecutor executor = executorRegistry.get(type);
+        RunResult result;
         try {
-            // Simulate some work
-            Thread.sleep(5000);
-            logOutput(run, "INFO", "Dummy job completed successfully");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new JobExecutionException("Dummy job interrupted");
+            result = executor.executeAsync(RunContext.builder()
+                            .job(job)
+                            .run(run)
+                            .timeout(timeoutFor(cachedDefinition(job)))
+                            .build())
+                    .toCompletableFuture()
+                    .join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (!result.isSuccess()) {
+            throw new JobExecutionException(result.getMessage());
         }
     }
 
@@ -219,17 +349,11 @@ public class JobExecutorServiceImpl implements JobExecutorService {
 
     @Override
     public void logOutput(JobRun run, String level, String message, Object context) {
-        JobRunLog runLog = JobRunLog.builder()
-                .run(run)
-                .timestamp(Instant.now())
-                .level(level)
-                .message(message)
-                .context(context instanceof Map ? (Map<String, Object>) context : null)
-                .build();
-        
-        jobRunLogRepository.save(runLog);
+        // Written in batches in the background, flushed before the outcome of the run is recorded
+        runLogWriter.append(run.getId(), Instant.now(), level, message,
+                context instanceof Map ? (Map<String, Object>) context : null);
         // Use the SLF4J logger from @Slf4j annotation
-        log.info("Job run log saved - [{}] {} - {}", run.getId(), level, message);
+        log.info("Job run log queued - [{}] {} - {}", run.getId(), level, message);
     }
 
     @EventListener
@@ -242,16 +366,16 @@ public class JobExecutorServiceImpl implements JobExecutorService {
         String errorMessage = error.getMessage();
         logOutput(run, "ERROR", "Job execution failed: " + errorMessage, 
                 Map.of("stackTrace", error.toString()));
+        runLogWriter.flush(RUN_LOG_FLUSH_TIMEOUT);
         
         getJobService().markJobAsComplete(job.getId(), run.getId(), false, errorMessage);
     }
 
     @Override
     public void cleanupResources(JobRun run) {
-        Process process = runningProcesses.remove(run.getId());
-        if (process != null) {
-            process.destroyForcibly();
-        }
+        runningJobs.values().stream()
+                .filter(handle -> handle.getRunId().equals(run.getId()))
+                .forEach(RunHandle::destroyProcess);
     }
 
     @Override
@@ -261,9 +385,9 @@ public class JobExecutorServiceImpl implements JobExecutorService {
 
     @Override
     public void cancelRunningJob(String jobId) {
-        if (isJobRunning(jobId)) {
-            runningJobs.remove(jobId);
-            // The job will be marked as cancelled in its next execution cycle
+        RunHandle handle = runningJobs.get(jobId);
+        if (handle != null) {
+            cancel(handle, CancellationReason.CANCELLED, "Run cancelled");
         }
     }
 
@@ -272,6 +396,12 @@ public class JobExecutorServiceImpl implements JobExecutorService {
         return runningJobs.size();
     }
 
+    @PreDestroy
+    public void shutdown() {
+        timeoutScheduler.shutdownNow();
+        outcomeRecorder.shutdown();
+    }
+
     private String getWorkerId() {
         return System.getProperty("hostname", "worker-" + 
                 System.currentTimeMillis() % 10000);
@@ -280,4 +410,13 @@ public class JobExecutorServiceImpl implements JobExecutorService {
     private JobService getJobService() {
         return applicationContext.getBean(JobService.class);
     }
+
+    // Only stops runs, their outcome is recorded elsewhere. Timeouts are cancelled as soon as their
+    // run ends, drop them from the queue right away.
+    private static ScheduledExecutorService createTimeoutScheduler() {
+        ScheduledThreadPoolExecutor scheduler =
+                new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("chronos-run-timeout-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 }
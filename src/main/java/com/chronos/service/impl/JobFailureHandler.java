@@ -4,8 +4,6 @@ import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
 import com.chronos.domain.model.DLQEvent;
 import com.chronos.repository.DLQEventRepository;
-import com.chronos.repository.JobRepository;
-import com.chronos.domain.model.enums.JobStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -20,7 +18,6 @@ import java.time.Instant;
 public class JobFailureHandler {
 
     private final DLQEventRepository dlqEventRepository;
-    private final JobRepository jobRepository;
 
     @EventListener
     @Transactional
@@ -38,11 +35,9 @@ public class JobFailureHandler {
                     .createdAt(Instant.now())
                     .build();
 
+            // The job itself was already moved to FAILED by the compare-and-set that raised this event
             dlqEventRepository.save(dlqEvent);
             
-            job.setStatus(JobStatus.FAILED);
-            jobRepository.save(job);
-            
             log.info("Added job {} to DLQ after {} attempts: {}", 
                     job.getId(), run.getAttempt(), reason);
         } else {
@@ -1,15 +1,17 @@
 package com.chronos.service.impl;
 
 import com.chronos.api.dto.job.*;
+import com.chronos.api.dto.page.CursorPage;
+import com.chronos.api.dto.page.Cursors;
 import com.chronos.api.mapper.JobMapper;
 import com.chronos.domain.model.Job;
 import com.chronos.domain.model.JobRun;
-import com.chronos.domain.model.RetryPolicy;
 import com.chronos.domain.model.User;
 import com.chronos.domain.model.enums.JobOutcome;
 import com.chronos.domain.model.enums.JobStatus;
 import com.chronos.domain.model.enums.JobType;
 import com.chronos.domain.model.enums.ScheduleType;
+import com.chronos.domain.model.enums.TransitionResult;
 import com.chronos.domain.model.payload.*;
 import com.chronos.api.dto.job.payload.DatabaseJobPayloadDto;
 import com.chronos.api.dto.job.payload.HttpJobPayloadDto;
@@ -18,23 +20,32 @@ import com.chronos.api.dto.job.payload.CacheJobPayloadDto;
 import com.chronos.api.dto.job.payload.MessageQueueJobPayloadDto;
 import com.chronos.api.dto.job.payload.FileSystemJobPayloadDto;
 import com.chronos.api.dto.job.payload.DbToKafkaJobPayloadDto;
+import com.chronos.api.dto.job.payload.HttpBatchJobPayloadDto;
 import com.chronos.exception.InvalidJobConfigurationException;
 import com.chronos.exception.JobExecutionException;
+import com.chronos.exception.JobStateConflictException;
 import com.chronos.exception.ResourceNotFoundException;
 import com.chronos.repository.JobRepository;
-import com.chronos.repository.JobRunLogRepository;
 import com.chronos.repository.JobRunRepository;
+import com.chronos.repository.JobSummary;
 import com.chronos.repository.UserRepository;
 import com.chronos.service.AuditService;
+import com.chronos.service.JobExecutorService;
 import com.chronos.service.JobService;
 import com.chronos.service.NotificationService;
 import com.chronos.service.QuartzSchedulerService;
+import com.chronos.service.execution.JobDefinition;
+import com.chronos.service.execution.JobDefinitionCache;
+import com.chronos.service.pagination.ApproximateTotals;
+import com.chronos.service.runlog.RunLogEntry;
+import com.chronos.service.runlog.RunLogQuery;
+import com.chronos.service.runlog.RunLogStore;
 import com.chronos.monitoring.JobMetrics;
 import com.github.f4b6a3.ulid.UlidCreator;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.SchedulerException;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -51,9 +62,13 @@ import java.util.List;
 @Slf4j
 public class JobServiceImpl implements JobService {
 
+    private static final List<JobStatus> PAUSABLE_STATES =
+            List.of(JobStatus.PENDING, JobStatus.SCHEDULED, JobStatus.RUNNING);
+
     private final JobRepository jobRepository;
     private final JobRunRepository jobRunRepository;
-    private final JobRunLogRepository jobRunLogRepository;
+    private final RunLogStore runLogStore;
+    private final ApproximateTotals approximateTotals;
     private final UserRepository userRepository;
     private final JobMapper jobMapper;
     private final QuartzSchedulerService quartzSchedulerService;
@@ -61,20 +76,26 @@ public class JobServiceImpl implements JobService {
     private final AuditService auditService;
     private final ApplicationEventPublisher eventPublisher;
     private final JobMetrics jobMetrics;
+    private final JobDefinitionCache definitionCache;
+    private final JobExecutorService jobExecutorService;
 
     public JobServiceImpl(JobRepository jobRepository,
                          JobRunRepository jobRunRepository,
-                         JobRunLogRepository jobRunLogRepository,
+                         RunLogStore runLogStore,
+                         ApproximateTotals approximateTotals,
                          UserRepository userRepository,
                          JobMapper jobMapper,
                          QuartzSchedulerService quartzSchedulerService,
                          NotificationService notificationService,
                          AuditService auditService,
                          ApplicationEventPublisher eventPublisher,
-                         JobMetrics jobMetrics) {
+                         JobMetrics jobMetrics,
+                         JobDefinitionCache definitionCache,
+                         JobExecutorService jobExecutorService) {
         this.jobRepository = jobRepository;
         this.jobRunRepository = jobRunRepository;
-        this.jobRunLogRepository = jobRunLogRepository;
+        this.runLogStore = runLogStore;
+        this.approximateTotals = approximateTotals;
         this.userRepository = userRepository;
         this.jobMapper = jobMapper;
         this.quartzSchedulerService = quartzSchedulerService;
@@ -82,6 +103,8 @@ public class JobServiceImpl implements JobService {
         this.auditService = auditService;
         this.eventPublisher = eventPublisher;
         this.jobMetrics = jobMetrics;
+        this.definitionCache = definitionCache;
+        this.jobExecutorService = jobExecutorService;
     }
 
     @Override
@@ -122,6 +145,11 @@ public class JobServiceImpl implements JobService {
             log.warn("Retry policy relationship set: {}", job.getRetryPolicy());
         }
 
+        // One-time jobs are due at their run time, claim dispatch polls on this column
+        if (job.getSchedule() != null && job.getSchedule().getScheduleType() == ScheduleType.ONCE) {
+            job.setNextRunAt(job.getSchedule().getRunAt());
+        }
+
         // Save job
         log.warn("Saving job to database");
         job = jobRepository.save(job);
@@ -180,29 +208,25 @@ public class JobServiceImpl implements JobService {
     @Override
     @Transactional(readOnly = true)
     public JobResponse getJob(String jobId) {
-        Job job = findJobOrThrow(jobId);
+        Job job = jobRepository.findWithDefinitionById(jobId)
+                .orElseThrow(() -> ResourceNotFoundException.forResource("Job", jobId));
         return jobMapper.toJobResponse(job);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<JobResponse> getJobs(JobStatus status, String nameContains, 
-                                   Instant nextRunFrom, Instant nextRunTo, 
-                                   Pageable pageable) {
+    public CursorPage<JobSummaryResponse> getJobs(JobStatus status, String nameContains,
+                                                  Instant nextRunFrom, Instant nextRunTo,
+                                                  String cursor, int limit, boolean includeTotal) {
         User owner = getCurrentUser();
-        Page<Job> jobs;
-
-        if (status != null) {
-            jobs = jobRepository.findByOwnerAndStatus(owner, status, pageable);
-        } else if (nameContains != null) {
-            jobs = jobRepository.findByOwnerAndNameContaining(owner, nameContains, pageable);
-        } else if (nextRunFrom != null && nextRunTo != null) {
-            jobs = jobRepository.findByOwnerAndNextRunBetween(owner, nextRunFrom, nextRunTo, pageable);
-        } else {
-            jobs = jobRepository.findByOwner(owner, pageable);
-        }
+        int pageSize = CursorPage.clampLimit(limit);
 
-        return jobs.map(jobMapper::toJobResponse);
+        List<JobSummary> jobs = jobRepository.findSummaries(owner, status, nameContains, nextRunFrom, nextRunTo,
+                Cursors.stringKey(cursor), PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(jobs, pageSize, job -> Cursors.encode(job.getId()), jobMapper::toJobSummaryResponse)
+                .withApproximateTotal(approximateTotals.get(includeTotal,
+                        () -> jobRepository.countSummaries(owner, status, nameContains, nextRunFrom, nextRunTo),
+                        "jobs", owner.getId(), status, nameContains, nextRunFrom, nextRunTo));
     }
 
     @Override
@@ -230,6 +254,8 @@ public class JobServiceImpl implements JobService {
                 job.getSchedule().setRunAt(request.getSchedule().getRunAt());
                 job.getSchedule().setCronExpression(request.getSchedule().getCronExpression());
                 job.getSchedule().setIntervalSeconds(request.getSchedule().getIntervalSeconds());
+                job.getSchedule().setIntervalMs(request.getSchedule().getIntervalMs());
+                job.getSchedule().setHighFrequency(Boolean.TRUE.equals(request.getSchedule().getHighFrequency()));
                 job.getSchedule().setTimezone(request.getSchedule().getTimezone());
                 job.getSchedule().setMisfirePolicy(request.getSchedule().getMisfirePolicy());
             }
@@ -247,6 +273,10 @@ public class JobServiceImpl implements JobService {
                     existingPayload.setHttpMethod(httpPayload.getHttpMethod());
                     existingPayload.setHttpHeaders(httpPayload.getHttpHeaders());
                     existingPayload.setHttpBody(httpPayload.getHttpBody());
+                    existingPayload.setHttpTimeoutSeconds(httpPayload.getHttpTimeoutSeconds());
+                    existingPayload.setHttpRateLimitPerMinute(httpPayload.getHttpRateLimitPerMinute());
+                    existingPayload.setHttpCaptureResponse(httpPayload.getHttpCaptureResponse());
+                    existingPayload.setHttpResponsePreviewKb(httpPayload.getHttpResponsePreviewKb());
                     existingPayload.setMetadata(httpPayload.getMetadata());
                 } else if (payloadDto instanceof ScriptJobPayloadDto scriptPayload) {
                     if (!(job.getPayload() instanceof ScriptJobPayload)) {
@@ -256,6 +286,24 @@ public class JobServiceImpl implements JobService {
                     ScriptJobPayload existingPayload = (ScriptJobPayload) job.getPayload();
                     existingPayload.setScript(scriptPayload.getScript());
                     existingPayload.setMetadata(scriptPayload.getMetadata());
+                } else if (payloadDto instanceof HttpBatchJobPayloadDto batchPayload) {
+                    if (!(job.getPayload() instanceof HttpBatchJobPayload)) {
+                        throw new InvalidJobConfigurationException("Cannot change payload type from " + 
+                            job.getPayload().getClass().getSimpleName() + " to HttpBatchJobPayload");
+                    }
+                    validateHttpBatchJobPayload(batchPayload);
+                    HttpBatchJobPayload existingPayload = (HttpBatchJobPayload) job.getPayload();
+                    existingPayload.setHttpMethod(batchPayload.getHttpMethod());
+                    existingPayload.setHttpHeaders(batchPayload.getHttpHeaders());
+                    existingPayload.setHttpBody(batchPayload.getHttpBody());
+                    existingPayload.setHttpTimeoutSeconds(batchPayload.getHttpTimeoutSeconds());
+                    existingPayload.setHttpRateLimitPerMinute(batchPayload.getHttpRateLimitPerMinute());
+                    existingPayload.setBatchUrls(batchPayload.getBatchUrls());
+                    existingPayload.setBatchUrlTemplate(batchPayload.getBatchUrlTemplate());
+                    existingPayload.setBatchTemplateValues(batchPayload.getBatchTemplateValues());
+                    existingPayload.setBatchConcurrency(batchPayload.getBatchConcurrency());
+                    existingPayload.setBatchMaxFailures(batchPayload.getBatchMaxFailures());
+                    existingPayload.setMetadata(batchPayload.getMetadata());
                 } else {
                     throw new InvalidJobConfigurationException("Unsupported payload type: " + 
                         payloadDto.getClass().getName());
@@ -268,10 +316,12 @@ public class JobServiceImpl implements JobService {
                 job.getRetryPolicy().setBackoffStrategy(request.getRetryPolicy().getBackoffStrategy());
                 job.getRetryPolicy().setBackoffSeconds(request.getRetryPolicy().getBackoffSeconds());
                 job.getRetryPolicy().setRetryOn(Arrays.asList(request.getRetryPolicy().getRetryOn()));
+                job.getRetryPolicy().setTimeoutSeconds(request.getRetryPolicy().getTimeoutSeconds());
             }
 
             job = jobRepository.save(job);
             quartzSchedulerService.deleteJob(job.getId());
+            definitionCache.invalidate(jobId);
             
             auditService.auditEvent("JOB_UPDATED", "Job", job.getId());
             return jobMapper.toJobResponse(job);
@@ -293,6 +343,7 @@ public class JobServiceImpl implements JobService {
         try {
             quartzSchedulerService.deleteJob(job.getId());
             jobRepository.delete(job);
+            definitionCache.invalidate(jobId);
             auditService.auditEvent("JOB_DELETED", "Job", jobId);
         } catch (SchedulerException e) {
             throw new JobExecutionException("Failed to delete job schedule: " + e.getMessage(), e);
@@ -307,7 +358,9 @@ public class JobServiceImpl implements JobService {
 
         try {
             job.getSchedule().setRunAt(runAt);
+            job.setNextRunAt(runAt);
             job = jobRepository.save(job);
+            definitionCache.invalidate(jobId);
             quartzSchedulerService.rescheduleJob(job, runAt);
             
             auditService.auditEvent("JOB_RESCHEDULED", "Job", jobId);
@@ -324,9 +377,9 @@ public class JobServiceImpl implements JobService {
         validateJobOwnership(job);
 
         try {
+            transitionStatus(job, PAUSABLE_STATES, JobStatus.PAUSED);
+            definitionCache.invalidate(jobId);
             quartzSchedulerService.pauseJob(job.getId());
-            job.setStatus(JobStatus.PAUSED);
-            job = jobRepository.save(job);
             
             auditService.auditEvent("JOB_PAUSED", "Job", jobId);
             return jobMapper.toJobResponse(job);
@@ -342,9 +395,9 @@ public class JobServiceImpl implements JobService {
         validateJobOwnership(job);
 
         try {
+            transitionStatus(job, List.of(JobStatus.PAUSED), JobStatus.SCHEDULED);
+            definitionCache.invalidate(jobId);
             quartzSchedulerService.resumeJob(job.getId());
-            job.setStatus(JobStatus.SCHEDULED);
-            job = jobRepository.save(job);
             
             auditService.auditEvent("JOB_RESUMED", "Job", jobId);
             return jobMapper.toJobResponse(job);
@@ -353,6 +406,18 @@ public class JobServiceImpl implements JobService {
         }
     }
 
+    // Compare-and-set against the version the caller read, so a concurrent change is reported
+    // instead of overwritten
+    private void transitionStatus(Job job, List<JobStatus> from, JobStatus to) {
+        if (!from.contains(job.getStatus())
+                || jobRepository.compareAndSetStatus(job.getId(), from, job.getVersion(), to) == 0) {
+            throw new JobStateConflictException(String.format(
+                    "Job %s cannot move from %s to %s or was modified concurrently", job.getId(), job.getStatus(), to));
+        }
+        job.setStatus(to);
+        job.setVersion(job.getVersion() + 1);
+    }
+
     @Override
     @Transactional
     public void updateAllJobStatus(JobStatus status) {
@@ -372,6 +437,7 @@ public class JobServiceImpl implements JobService {
         if (updated == 0) {
             throw new JobExecutionException("Failed to cancel job: status update failed");
         }
+        definitionCache.invalidate(jobId);
         
         // Get updated job
         job = jobRepository.findById(jobId).orElseThrow();
@@ -387,6 +453,9 @@ public class JobServiceImpl implements JobService {
             log.error("Failed to delete job from Quartz: {}", e.getMessage(), e);
             // Don't throw - job is already cancelled in database
         }
+
+        // Stop a run in progress on this node, it is marked failed with "Run cancelled"
+        jobExecutorService.cancelRunningJob(jobId);
         
         auditService.auditEvent("JOB_CANCELLED", "Job", jobId);
         return jobMapper.toJobResponse(job);
@@ -409,12 +478,16 @@ public class JobServiceImpl implements JobService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<JobRunSummaryDto> getJobRuns(String jobId, Pageable pageable) {
+    public CursorPage<JobRunSummaryDto> getJobRuns(String jobId, String cursor, int limit, boolean includeTotal) {
         Job job = findJobOrThrow(jobId);
         validateJobOwnership(job);
-        
-        Page<JobRun> runs = jobRunRepository.findByJob(job, pageable);
-        return runs.map(jobMapper::toJobRunSummaryDto);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        List<JobRun> runs = jobRunRepository.findPageByJobId(jobId, Cursors.stringKey(cursor),
+                PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(runs, pageSize, run -> Cursors.encode(run.getId()), jobMapper::toJobRunSummaryDto)
+                .withApproximateTotal(approximateTotals.get(includeTotal,
+                        () -> jobRunRepository.countByJobId(jobId), "runs", jobId));
     }
 
     @Override
@@ -435,7 +508,8 @@ public class JobServiceImpl implements JobService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<JobRunLogDto> getJobRunLogs(String jobId, String runId, Pageable pageable) {
+    public CursorPage<JobRunLogDto> getJobRunLogs(String jobId, String runId, String cursor, int limit,
+                                                  boolean includeTotal) {
         JobRun run = jobRunRepository.findById(runId)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("JobRun", runId));
         
@@ -445,17 +519,31 @@ public class JobServiceImpl implements JobService {
         
         validateJobOwnership(run.getJob());
         
-        return jobRunLogRepository.findByRun(run, pageable)
-                .map(log -> {
-                    JobRunLogDto dto = new JobRunLogDto();
-                    dto.setId(log.getId());
-                    dto.setRunId(log.getRun().getId());
-                    dto.setTimestamp(log.getTimestamp());
-                    dto.setLevel(log.getLevel());
-                    dto.setMessage(log.getMessage());
-                    dto.setContext(log.getContext());
-                    return dto;
-                });
+        int pageSize = CursorPage.clampLimit(limit);
+        List<RunLogEntry> entries = runLogStore.readAfter(runId, Cursors.longKey(cursor), pageSize + 1);
+        return CursorPage.of(entries, pageSize, entry -> Cursors.encode(entry.getId()), jobMapper::toJobRunLogDto)
+                .withApproximateTotal(approximateTotals.get(includeTotal,
+                        () -> runLogStore.count(runId), "runLogs", runId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<JobRunLogDto> searchJobRunLogs(String jobId, String text, String level, Instant from,
+                                                     Instant to, String cursor, int limit) {
+        Job job = findJobOrThrow(jobId);
+        validateJobOwnership(job);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        List<RunLogEntry> entries = runLogStore.search(RunLogQuery.builder()
+                .jobId(jobId)
+                .text(text)
+                .level(level != null ? level.toUpperCase() : null)
+                .from(from)
+                .to(to)
+                .beforeId(Cursors.longKey(cursor))
+                .limit(pageSize + 1)
+                .build());
+        return CursorPage.of(entries, pageSize, entry -> Cursors.encode(entry.getId()), jobMapper::toJobRunLogDto);
     }
 
     @Override
@@ -470,14 +558,17 @@ public class JobServiceImpl implements JobService {
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void markJobAsRunning(String jobId, String runId, String workerId) {
-    // Lock the job first
-    Job dbJob = jobRepository.findById(jobId)
-            .orElseThrow(() -> ResourceNotFoundException.forResource("Job", jobId));
-
-    // Check if job is in a valid state to run
-    if (dbJob.getStatus() != JobStatus.SCHEDULED) {
-        throw new JobExecutionException("Job " + jobId + " is not in SCHEDULED state (current state: " + dbJob.getStatus() + ")");
+    public TransitionResult markJobAsRunning(String jobId, String runId, String workerId) {
+    Instant now = Instant.now();
+
+    // Claim the job with a conditional update instead of locking and rewriting the whole row
+    int updated = jobRepository.compareAndSetRunning(jobId, JobStatus.SCHEDULED, JobStatus.RUNNING, now, workerId);
+    if (updated == 0) {
+        if (!jobRepository.existsById(jobId)) {
+            throw ResourceNotFoundException.forResource("Job", jobId);
+        }
+        log.debug("Job {} is no longer SCHEDULED, lost the race to start run {}", jobId, runId);
+        return TransitionResult.LOST_RACE;
     }
 
     // Get attempt count from the latest run
@@ -485,38 +576,17 @@ public class JobServiceImpl implements JobService {
             .map(lastRun -> lastRun.getAttempt() + 1)
             .orElse(1);
 
-    // Create new JobRun first
+    // A failure here rolls back the status change as well
     JobRun run = JobRun.builder()
             .id(runId)
-            .job(dbJob)
-            .scheduledTime(Instant.now())
-            .startTime(Instant.now())
+            .job(jobRepository.getReferenceById(jobId))
+            .scheduledTime(now)
+            .startTime(now)
             .workerId(workerId)
             .attempt(attempt)
             .build();
-
     jobRunRepository.saveAndFlush(run);
-
-    try {
-        // All jobs should be marked as RUNNING during execution
-        dbJob.setStatus(JobStatus.RUNNING);
-        jobRepository.saveAndFlush(dbJob);
-    } catch (Exception e) {
-        log.error("Failed to mark job {} as running: {}", jobId, e.getMessage());
-
-        // Mark the run as failed
-        run.setEndTime(Instant.now());
-        run.setOutcome(JobOutcome.FAILURE);
-        run.setErrorMessage("Failed to start job execution");
-        run.setDurationMs(run.getEndTime().toEpochMilli() - run.getStartTime().toEpochMilli());
-        jobRunRepository.saveAndFlush(run);
-        
-        // Mark the job as failed
-        dbJob.setStatus(JobStatus.FAILED);
-        jobRepository.saveAndFlush(dbJob);
-        notificationService.notifyJobFailure(dbJob, run, "Failed to start job execution");
-        throw e;
-    }
+    return TransitionResult.APPLIED;
 }
 
 @Override
@@ -527,67 +597,28 @@ public Job findJobOrThrow(String jobId) {
 
 @Override
 public boolean shouldRetry(String jobId, int currentAttempt) {
-    Job job = findJobOrThrow(jobId);
-    RetryPolicy policy = job.getRetryPolicy();
-    
-    // Check if we haven't exceeded max attempts
-    if (currentAttempt >= policy.getMaxAttempts()) {
-        return false;
-    }
-    
-    // If no specific retry conditions are configured, retry for any error
-    if (policy.getRetryOn() == null || policy.getRetryOn().isEmpty()) {
-        return true;
-    }
-    
-    // Check if any of the configured retry conditions match
-    // This is a simplified approach - in a real implementation, you'd want to 
-    // match the actual error type from the exception to the retry conditions
-    for (String retryCondition : policy.getRetryOn()) {
-        switch (retryCondition.toUpperCase()) {
-            case "CONNECTION_ERROR":
-            case "TIMEOUT":
-            case "IO_ERROR":
-            case "DATABASE_ERROR":
-            case "SERVER_ERROR":
-            case "5XX":
-            case "NETWORK_ERROR":
-                return true;
-            default:
-                // Continue checking other conditions
-                break;
-        }
-    }
-    
-    return false;
+    return definitionCache.get(jobId).shouldRetry(currentAttempt);
 }
 
 @Override
 public Instant calculateNextRetryTime(String jobId, int currentAttempt) {
-    Job job = findJobOrThrow(jobId);
-    int backoffSeconds = job.getRetryPolicy().getBackoffSeconds();
-    
-    switch (job.getRetryPolicy().getBackoffStrategy()) {
-        case FIXED:
-            return Instant.now().plusSeconds(backoffSeconds);
-        case EXPONENTIAL:
-            long exponentialBackoff = backoffSeconds * (long) Math.pow(2, currentAttempt - 1);
-            return Instant.now().plusSeconds(exponentialBackoff);
-        default:
-            throw new IllegalStateException("Unknown backoff strategy");
-    }
+    return definitionCache.get(jobId).nextRetryTime(currentAttempt, Instant.now());
 }
 
 @Override
 @Transactional(isolation = Isolation.READ_COMMITTED)
 public void markJobAsComplete(String jobId, String runId, boolean success, String errorMessage) {
     try {
-        Job job = findJobOrThrow(jobId);
+        JobDefinition definition = definitionCache.get(jobId);
+        Job job = definition.getJob();
         JobRun run = jobRunRepository.findByIdAndJobId(runId, jobId)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("JobRun", runId));
 
         run.setEndTime(Instant.now());
         run.setOutcome(success ? JobOutcome.SUCCESS : JobOutcome.FAILURE);
+        if (run.getStartTime() != null) {
+            run.setDurationMs(run.getEndTime().toEpochMilli() - run.getStartTime().toEpochMilli());
+        }
         if (errorMessage != null) {
             run.setErrorMessage(errorMessage);
         }
@@ -599,29 +630,24 @@ public void markJobAsComplete(String jobId, String runId, boolean success, Strin
             
             // For recurring jobs (CRON/INTERVAL), reset to SCHEDULED state for next execution
             // Only one-time jobs (ONCE) should be marked as SUCCEEDED
-            if (job.getSchedule().getScheduleType() == ScheduleType.ONCE) {
-                job.setStatus(JobStatus.SUCCEEDED);
-            } else {
-                // Reset CRON and INTERVAL jobs to SCHEDULED state
-                job.setStatus(JobStatus.SCHEDULED);
+            JobStatus next = definition.isRecurring() ? JobStatus.SCHEDULED : JobStatus.SUCCEEDED;
+            // Leaves a job that was paused or cancelled while running as it is
+            if (jobRepository.compareAndSetStatus(jobId, JobStatus.RUNNING, next) == 0) {
+                log.info("Job {} left RUNNING while run {} executed, keeping its current state", jobId, runId);
             }
-            jobRepository.saveAndFlush(job);
             notificationService.notifyJobCompletion(job, run);
         } else {
             // Record job failure metrics
             jobMetrics.recordJobFailure();
             
             // Always handle failure, regardless of current state
-            handleJobFailure(job, run, errorMessage);
+            handleJobFailure(definition, run, errorMessage);
         }
     } catch (Exception e) {
         log.error("Error completing job {} run {}: {}", jobId, runId, e.getMessage());
-        // Try one more time with a clean transaction
+        // Try one more time, only failing the job if nothing else has moved it on
         try {
-            Job job = jobRepository.findById(jobId)
-                    .orElseThrow(() -> ResourceNotFoundException.forResource("Job", jobId));
-            job.setStatus(JobStatus.FAILED);
-            jobRepository.saveAndFlush(job);
+            jobRepository.compareAndSetStatus(jobId, JobStatus.RUNNING, JobStatus.FAILED);
         } catch (Exception retryEx) {
             log.error("Failed to mark job {} as failed after error: {}", jobId, retryEx.getMessage());
         }
@@ -659,6 +685,15 @@ private void validateJobRequest(CreateJobRequest request) {
     if (request.getSchedule().getScheduleType() == null) {
         throw new InvalidJobConfigurationException("Schedule type is required");
     }
+
+    if (Boolean.TRUE.equals(request.getSchedule().getHighFrequency())
+            && request.getSchedule().getScheduleType() == ScheduleType.CRON) {
+        throw new InvalidJobConfigurationException("High-frequency scheduling supports ONCE and INTERVAL schedules only");
+    }
+
+    if (request.getSchedule().getIntervalMs() != null && request.getSchedule().getIntervalMs() <= 0) {
+        throw new InvalidJobConfigurationException("Interval in milliseconds must be positive");
+    }
     
     // Validate payload based on job type
     validateJobPayload(request);
@@ -715,6 +750,12 @@ private void validateJobPayload(CreateJobRequest request) {
             }
             validateDbToKafkaJobPayload((DbToKafkaJobPayloadDto) request.getPayload());
             break;
+        case HTTP_BATCH:
+            if (!(request.getPayload() instanceof HttpBatchJobPayloadDto)) {
+                throw new InvalidJobConfigurationException("Invalid payload type for HTTP_BATCH job");
+            }
+            validateHttpBatchJobPayload((HttpBatchJobPayloadDto) request.getPayload());
+            break;
         default:
             throw new InvalidJobConfigurationException("Unsupported job type: " + request.getType());
     }
@@ -833,8 +874,31 @@ private void validateDbToKafkaJobPayload(DbToKafkaJobPayloadDto payload) {
     }
 }
 
-private void handleJobFailure(Job job, JobRun run, String errorMessage) {
-    if (shouldRetry(job.getId(), run.getAttempt())) {
+private void validateHttpBatchJobPayload(HttpBatchJobPayloadDto payload) {
+    if (payload.getHttpMethod() == null) {
+        throw new InvalidJobConfigurationException("HTTP method is required for HTTP_BATCH jobs");
+    }
+    boolean hasUrls = payload.getBatchUrls() != null && !payload.getBatchUrls().isEmpty();
+    boolean hasTemplate = payload.getBatchUrlTemplate() != null && !payload.getBatchUrlTemplate().isBlank();
+    if (hasUrls == hasTemplate) {
+        throw new InvalidJobConfigurationException("HTTP_BATCH jobs need either batch URLs or a URL template");
+    }
+    if (hasTemplate) {
+        if (!payload.getBatchUrlTemplate().contains(HttpBatchJobPayload.TEMPLATE_PLACEHOLDER)) {
+            throw new InvalidJobConfigurationException(
+                    "URL template must contain " + HttpBatchJobPayload.TEMPLATE_PLACEHOLDER);
+        }
+        if (payload.getBatchTemplateValues() == null || payload.getBatchTemplateValues().isEmpty()) {
+            throw new InvalidJobConfigurationException("Template values are required with a URL template");
+        }
+    } else if (payload.getBatchUrls().stream().anyMatch(url -> url == null || !url.matches("^https?://.*"))) {
+        throw new InvalidJobConfigurationException("Batch URLs must start with http:// or https://");
+    }
+}
+
+private void handleJobFailure(JobDefinition definition, JobRun run, String errorMessage) {
+    Job job = definition.getJob();
+    if (definition.shouldRetry(run.getAttempt())) {
         try {
             // Check if retry is already scheduled for this attempt to prevent duplicates
             int nextAttempt = run.getAttempt() + 1;
@@ -849,17 +913,19 @@ private void handleJobFailure(Job job, JobRun run, String errorMessage) {
             jobMetrics.recordJobRetry();
             
             // Calculate next retry time based on backoff strategy
-            Instant nextRetryTime = calculateNextRetryTime(job.getId(), run.getAttempt());
+            Instant nextRetryTime = definition.nextRetryTime(run.getAttempt(), Instant.now());
             
-            // Schedule the retry
-            job.setStatus(JobStatus.SCHEDULED);
-            job.setNextRunAt(nextRetryTime);
-            jobRepository.saveAndFlush(job);
+            // Schedule the retry, unless the job was paused or cancelled while it ran
+            if (jobRepository.compareAndSetRetryScheduled(job.getId(), JobStatus.RUNNING,
+                    JobStatus.SCHEDULED, nextRetryTime) == 0) {
+                log.info("Job {} left RUNNING before its retry could be scheduled, not retrying", job.getId());
+                return;
+            }
             
             // Create new run for retry attempt
             JobRun retryRun = JobRun.builder()
                     .id(UlidCreator.getUlid().toString())
-                    .job(job)
+                    .job(jobRepository.getReferenceById(job.getId()))
                     .scheduledTime(nextRetryTime)
                     .attempt(nextAttempt)
                     .build();
@@ -889,8 +955,10 @@ private void handleJobFailure(Job job, JobRun run, String errorMessage) {
 }
 
 private void markJobAsFailed(Job job, JobRun run, String reason) {
-    job.setStatus(JobStatus.FAILED);
-    jobRepository.saveAndFlush(job);
+    if (jobRepository.compareAndSetStatus(job.getId(), JobStatus.RUNNING, JobStatus.FAILED) == 0) {
+        log.info("Job {} left RUNNING before it could be marked FAILED, keeping its current state", job.getId());
+        return;
+    }
     eventPublisher.publishEvent(new JobFailureEvent(this, job, run, reason));
     notificationService.notifyMaxRetriesExceeded(job, run);
 }
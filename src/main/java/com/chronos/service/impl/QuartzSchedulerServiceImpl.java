@@ -1,17 +1,18 @@
 package com.chronos.service.impl;
 
 import com.chronos.domain.model.Job;
-import com.chronos.domain.model.JobRun;
 import com.chronos.domain.model.JobSchedule;
+import com.chronos.domain.model.enums.JobPriority;
 import com.chronos.domain.model.enums.JobStatus;
 import com.chronos.domain.model.enums.ScheduleType;
-import com.chronos.service.JobExecutorService;
 import com.chronos.service.JobService;
 import com.chronos.service.QuartzSchedulerService;
-import com.chronos.repository.JobRunRepository;
+import com.chronos.scheduler.JobFireHandler;
+import com.chronos.scheduler.JobFireHandler.FireOutcome;
+import com.chronos.scheduler.TimingWheelScheduler;
+import com.chronos.service.execution.ClaimDispatcher;
 import com.chronos.util.SpringContext;
 import org.springframework.context.ApplicationContext;
-import com.github.f4b6a3.ulid.UlidCreator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobBuilder;
@@ -37,7 +38,6 @@ import jakarta.annotation.PreDestroy;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
-import java.util.Optional;
 import java.util.TimeZone;
 
 @Service
@@ -47,6 +47,8 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
 
     private final Scheduler scheduler;
     private final ApplicationContext applicationContext;
+    private final TimingWheelScheduler timingWheelScheduler;
+    private final ClaimDispatcher claimDispatcher;
 
     @PostConstruct
     @Override
@@ -60,6 +62,7 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
         log.info("Stopping all jobs...");
         
         // Clear all triggers first
+        timingWheelScheduler.clear();
         scheduler.clear();
         
         // Get all job keys
@@ -93,6 +96,19 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
         if (scheduler.checkExists(jobKey)) {
             scheduler.deleteJob(jobKey);
         }
+
+        // High-frequency jobs bypass the JDBC job store entirely
+        if (timingWheelScheduler.handles(job)) {
+            timingWheelScheduler.schedule(job);
+            return;
+        }
+        timingWheelScheduler.remove(job.getId());
+
+        // Claimed jobs only need jobs.next_run_at, which the job service maintains
+        if (claimDispatcher.handles(job)) {
+            log.info("Job {} will be claimed when due at {}", job.getId(), job.getSchedule().getRunAt());
+            return;
+        }
         
         // For interval jobs, we use a unique trigger key with timestamp
         String triggerKeyName = job.getSchedule().getScheduleType() == ScheduleType.INTERVAL ?
@@ -116,7 +132,7 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
         TriggerBuilder<Trigger> builder = TriggerBuilder.newTrigger()
                 .withIdentity(triggerKey)
                 .forJob(jobDetail)
-                .withPriority(1);
+                .withPriority(triggerPriority(job, false));
         
         // Always start now for initial trigger
         builder.startNow();
@@ -138,7 +154,7 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
             case INTERVAL -> {
                 builder.withSchedule(SimpleScheduleBuilder
                         .simpleSchedule()
-                        .withIntervalInSeconds(schedule.getIntervalSeconds().intValue())
+                        .withIntervalInMilliseconds(schedule.getEffectiveIntervalMs())
                         .repeatForever()
                         .withMisfireHandlingInstructionFireNow());
             }
@@ -169,6 +185,15 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
         if (scheduler.checkExists(jobKey)) {
             scheduler.deleteJob(jobKey);
         }
+
+        if (timingWheelScheduler.handles(job)) {
+            timingWheelScheduler.reschedule(job, nextRunTime, attempt);
+            return;
+        }
+        if (claimDispatcher.handles(job)) {
+            log.info("Job {} (attempt {}) will be claimed when due at {}", job.getId(), attempt, nextRunTime);
+            return;
+        }
         
         // Create new job data map with updated attempt count
         JobDataMap jobDataMap = new JobDataMap();
@@ -190,7 +215,7 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
                 .startAt(Date.from(nextRunTime))
                 .withSchedule(SimpleScheduleBuilder.simpleSchedule()
                     .withMisfireHandlingInstructionFireNow())
-                .withPriority(10)  // Higher priority for retry triggers
+                .withPriority(triggerPriority(job, attempt > 1))
                 .build();
         
         // Schedule both job and trigger
@@ -199,20 +224,35 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
         log.info("Rescheduled job {} (attempt {}) to run at {}", job.getId(), attempt, nextRunTime);
     }
 
+    // Quartz fires the higher priority trigger first when several are due at once. Job priority
+    // dominates; a retry only outranks first attempts of the same priority.
+    private static int triggerPriority(Job job, boolean retry) {
+        JobPriority priority = job.getPriority() != null ? job.getPriority() : JobPriority.MEDIUM;
+        return (priority.ordinal() + 1) * 3 + (retry ? 1 : 0);
+    }
+
     @Override
     public void pauseJob(String jobId) throws SchedulerException {
+        if (timingWheelScheduler.pause(jobId)) {
+            return;
+        }
         scheduler.pauseJob(JobKey.jobKey(jobId));
         log.info("Paused job {}", jobId);
     }
 
     @Override
     public void resumeJob(String jobId) throws SchedulerException {
+        if (timingWheelScheduler.resume(jobId)) {
+            return;
+        }
         scheduler.resumeJob(JobKey.jobKey(jobId));
         log.info("Resumed job {}", jobId);
     }
 
     @Override
     public void deleteJob(String jobId) throws SchedulerException {
+        timingWheelScheduler.remove(jobId);
+
         // Get all triggers for this job
         JobKey jobKey = JobKey.jobKey(jobId);
         if (scheduler.checkExists(jobKey)) {
@@ -237,17 +277,27 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
 
     @Override
     public void triggerJobNow(String jobId) throws SchedulerException {
+        if (timingWheelScheduler.triggerNow(jobId)) {
+            return;
+        }
+        if (!scheduler.checkExists(JobKey.jobKey(jobId)) && claimDispatcher.requestImmediateRun(jobId)) {
+            log.info("Job {} made due for immediate claim", jobId);
+            return;
+        }
         scheduler.triggerJob(JobKey.jobKey(jobId));
         log.info("Triggered job {} immediately", jobId);
     }
 
     @Override
     public boolean isJobScheduled(String jobId) throws SchedulerException {
-        return scheduler.checkExists(JobKey.jobKey(jobId));
+        return timingWheelScheduler.isScheduled(jobId) || scheduler.checkExists(JobKey.jobKey(jobId));
     }
 
     @Override
     public Instant getNextFireTime(String jobId) throws SchedulerException {
+        if (timingWheelScheduler.isScheduled(jobId)) {
+            return timingWheelScheduler.getNextFireTime(jobId);
+        }
         Trigger trigger = scheduler.getTrigger(TriggerKey.triggerKey(jobId));
         return trigger != null && trigger.getNextFireTime() != null ? 
                 trigger.getNextFireTime().toInstant() : null;
@@ -272,99 +322,16 @@ public class QuartzSchedulerServiceImpl implements QuartzSchedulerService {
         public void execute(JobExecutionContext context) throws JobExecutionException {
             String jobId = context.getJobDetail().getJobDataMap().getString("jobId");
             log.info("Quartz triggered execution of job {}", jobId);
-            
-            JobExecutorService jobExecutorService = null;
-            JobService jobService = null;
-            Job job = null;
-            JobRun jobRun = null;
-            
+
             try {
-                // Get Spring beans
-                jobExecutorService = SpringContext.getBean(JobExecutorService.class);
-                jobService = SpringContext.getBean(JobService.class);
-                
-                // Get job
-                job = jobService.findJobOrThrow(jobId);
-                
-                // Check if job is cancelled or in terminal state
-                if (job.getStatus() == JobStatus.CANCELLED) {
-                    log.info("Job {} is cancelled, removing from Quartz", jobId);
-                    context.getScheduler().deleteJob(context.getJobDetail().getKey());
-                    return;
-                }
-                
-                // Check if job is in terminal state
-                // For recurring jobs (CRON/INTERVAL), only FAILED is terminal
-                // For one-time jobs (ONCE), both FAILED and SUCCEEDED are terminal
-                boolean isTerminal = false;
-                if (job.getStatus() == JobStatus.FAILED) {
-                    isTerminal = true;
-                } else if (job.getStatus() == JobStatus.SUCCEEDED && 
-                           job.getSchedule().getScheduleType() == ScheduleType.ONCE) {
-                    isTerminal = true;
-                }
-                
-                if (isTerminal) {
-                    log.warn("Job {} is in terminal state {}, skipping execution", 
-                            jobId, job.getStatus());
-                    return;
-                }
-                
-                // Check if job is already running
-                if (job.getStatus() == JobStatus.RUNNING) {
-                    log.warn("Job {} is already running, skipping execution", jobId);
-                    return;
-                }
-                
-                // Get attempt count from job data map
+                JobFireHandler fireHandler = SpringContext.getBean(JobFireHandler.class);
                 int attempt = context.getMergedJobDataMap().getInt("attempt");
-                log.info("Starting job {} execution attempt {}", jobId, attempt);
-
-                // Try to find existing JobRun for this attempt, or create new one
-                JobRunRepository jobRunRepository = SpringContext.getBean(JobRunRepository.class);
-                Optional<JobRun> existingRun = jobRunRepository.findByJobAndAttempt(job, attempt);
-                
-                if (existingRun.isPresent()) {
-                    // Reuse existing JobRun and update it for execution
-                    jobRun = existingRun.get();
-                    jobRun.setStartTime(Instant.now());
-                    jobRun.setWorkerId(context.getScheduler().getSchedulerInstanceId());
-                    log.debug("Reusing existing JobRun {} for job {} attempt {}", jobRun.getId(), jobId, attempt);
-                } else {
-                    // Create a new JobRun (for initial execution)
-                    jobRun = JobRun.builder()
-                            .id(UlidCreator.getUlid().toString())
-                            .job(job)
-                            .scheduledTime(Instant.now())
-                            .startTime(Instant.now())
-                            .workerId(context.getScheduler().getSchedulerInstanceId())
-                            .attempt(attempt)
-                            .build();
-                    log.debug("Created new JobRun {} for job {} attempt {}", jobRun.getId(), jobId, attempt);
+                FireOutcome outcome = fireHandler.fire(jobId, attempt,
+                        context.getScheduler().getSchedulerInstanceId());
+                if (outcome == FireOutcome.CANCELLED) {
+                    context.getScheduler().deleteJob(context.getJobDetail().getKey());
                 }
-                
-                // Execute the job
-                jobExecutorService.executeJob(job, jobRun);
             } catch (Exception e) {
-                String error = String.format("Failed to execute job %s: %s", jobId, e.getMessage());
-                log.error(error, e);
-                
-                // Try to mark job as failed if we have enough context
-                if (job != null && jobRun != null && jobService != null) {
-                    try {
-                        jobService.markJobAsComplete(job.getId(), jobRun.getId(), false, error);
-                    } catch (Exception ex) {
-                        log.error("Failed to mark job {} as failed: {}", jobId, ex.getMessage());
-                        // Force job status update
-                        try {
-                            job.setStatus(JobStatus.FAILED);
-                            jobService.findJobOrThrow(jobId).setStatus(JobStatus.FAILED);
-                        } catch (Exception updateEx) {
-                            log.error("Failed to force update job {} status: {}", jobId, updateEx.getMessage());
-                        }
-                    }
-                }
-                
                 throw new JobExecutionException(e, false);
             }
         }
@@ -0,0 +1,49 @@
+package com.chronos.service.pagination;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Totals of listings, counted once per TTL and listing instead of with every page.
+ *
+ * Keyset pages run no count of their own; clients that show a total ask for it with the first
+ * page, and a dashboard refreshing every second then costs one count per TTL.
+ */
+@Component
+public class ApproximateTotals {
+
+    private final Cache<String, Long> cache;
+
+    public ApproximateTotals(MeterRegistry meterRegistry,
+                             @Value("${app.pagination.total-cache.max-size:10000}") long maxSize,
+                             @Value("${app.pagination.total-cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "listingTotals");
+    }
+
+    /**
+     * @param wanted whether the client asked for the total
+     * @param key    the listing and every filter applied to it
+     * @return null unless wanted
+     */
+    public Long get(boolean wanted, Supplier<Long> count, Object... key) {
+        if (!wanted) {
+            return null;
+        }
+        return cache.get(Arrays.stream(key).map(String::valueOf).collect(Collectors.joining("|")),
+                k -> count.get());
+    }
+}
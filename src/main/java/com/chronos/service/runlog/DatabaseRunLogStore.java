@@ -0,0 +1,169 @@
+package com.chronos.service.runlog;
+
+import com.chronos.domain.model.JobRunLog;
+import com.chronos.exception.LogSearchException;
+import com.chronos.repository.JobRunLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps run logs in the job_run_logs table, inserting each batch with one multi-row statement;
+ * ids are generated by the database, which keeps Hibernate from batching the inserts itself.
+ */
+@RequiredArgsConstructor
+public class DatabaseRunLogStore implements RunLogStore {
+
+    private static final String INSERT = "INSERT INTO job_run_logs (run_id, timestamp, level, message, context) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?)";
+    private static final String SEARCH = """
+            SELECT l.id, l.run_id, l.timestamp, l.level, l.message, l.context
+            FROM job_run_logs l
+            JOIN job_runs r ON r.id = l.run_id
+            WHERE r.job_id = ? AND MATCH (l.message) AGAINST (? IN BOOLEAN MODE)""";
+    // A quoted phrase or a word
+    private static final Pattern SEARCH_TOKEN = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]+");
+    private static final TypeReference<Map<String, Object>> CONTEXT_TYPE = new TypeReference<>() { };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobRunLogRepository jobRunLogRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void append(List<RunLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT.length() + entries.size() * (ROW.length() + 2)).append(INSERT);
+        Object[] arguments = new Object[entries.size() * 5];
+        int i = 0;
+        for (RunLogEntry entry : entries) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            arguments[i++] = entry.getRunId();
+            arguments[i++] = Timestamp.from(entry.getTimestamp());
+            arguments[i++] = entry.getLevel();
+            arguments[i++] = entry.getMessage();
+            arguments[i++] = json(entry.getContext());
+        }
+        jdbcTemplate.update(sql.toString(), arguments);
+    }
+
+    @Override
+    public Page<RunLogEntry> read(String runId, Pageable pageable) {
+        // Insertion order, which the stream positions of RunLogStreamer rely on
+        Pageable ordered = pageable.isPaged() && pageable.getSort().isUnsorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"))
+                : pageable;
+        return jobRunLogRepository.findByRunId(runId, ordered).map(DatabaseRunLogStore::entry);
+    }
+
+    @Override
+    public List<RunLogEntry> readAfter(String runId, Long afterId, int limit) {
+        return jobRunLogRepository.findPageByRunId(runId, afterId, PageRequest.of(0, limit)).stream()
+                .map(DatabaseRunLogStore::entry)
+                .toList();
+    }
+
+    @Override
+    public long count(String runId) {
+        return jobRunLogRepository.countByRunId(runId);
+    }
+
+    @Override
+    public List<RunLogEntry> search(RunLogQuery query) {
+        StringBuilder sql = new StringBuilder(SEARCH);
+        List<Object> arguments = new ArrayList<>(List.of(query.getJobId(), booleanQuery(query.getText())));
+        if (query.getLevel() != null) {
+            sql.append(" AND l.level = ?");
+            arguments.add(query.getLevel());
+        }
+        if (query.getFrom() != null) {
+            sql.append(" AND l.timestamp >= ?");
+            arguments.add(Timestamp.from(query.getFrom()));
+        }
+        if (query.getTo() != null) {
+            sql.append(" AND l.timestamp < ?");
+            arguments.add(Timestamp.from(query.getTo()));
+        }
+        if (query.getBeforeId() != null) {
+            sql.append(" AND l.id < ?");
+            arguments.add(query.getBeforeId());
+        }
+        sql.append(" ORDER BY l.id DESC LIMIT ?");
+        arguments.add(query.getLimit());
+        return jdbcTemplate.query(sql.toString(), (rs, row) -> new RunLogEntry(
+                rs.getLong("id"),
+                rs.getString("run_id"),
+                rs.getTimestamp("timestamp").toInstant(),
+                rs.getString("level"),
+                rs.getString("message"),
+                context(rs.getString("context"))), arguments.toArray());
+    }
+
+    /**
+     * Turns search text into a boolean mode full-text query in which every word and every quoted
+     * phrase is required. Operators typed by the user are dropped; a word they split, such as
+     * {@code connection-reset}, is searched as a phrase.
+     */
+    static String booleanQuery(String text) {
+        List<String> parts = new ArrayList<>();
+        Matcher matcher = SEARCH_TOKEN.matcher(text != null ? text : "");
+        while (matcher.find()) {
+            boolean phrase = matcher.group(1) != null;
+            String words = BOOLEAN_OPERATORS.matcher(phrase ? matcher.group(1) : matcher.group(2))
+                    .replaceAll(" ").trim().replaceAll("\\s+", " ");
+            if (words.isEmpty()) {
+                continue;
+            }
+            parts.add(phrase || words.indexOf(' ') >= 0 ? "+\"" + words + "\"" : "+" + words);
+        }
+        if (parts.isEmpty()) {
+            throw LogSearchException.invalidQuery("no words to search for");
+        }
+        return String.join(" ", parts);
+    }
+
+    private static RunLogEntry entry(JobRunLog log) {
+        return new RunLogEntry(log.getId(), log.getRun().getId(), log.getTimestamp(), log.getLevel(),
+                log.getMessage(), log.getContext());
+    }
+
+    private Map<String, Object> context(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CONTEXT_TYPE);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String json(Map<String, Object> context) {
+        if (context == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(context);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
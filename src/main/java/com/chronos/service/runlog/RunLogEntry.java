@@ -0,0 +1,22 @@
+package com.chronos.service.runlog;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Value
+public class RunLogEntry {
+    // Assigned by the store, null until the entry is written
+    Long id;
+    String runId;
+    Instant timestamp;
+    String level;
+    String message;
+    Map<String, Object> context;
+
+    public static RunLogEntry of(String runId, Instant timestamp, String level, String message,
+                                 Map<String, Object> context) {
+        return new RunLogEntry(null, runId, timestamp, level, message, context);
+    }
+}
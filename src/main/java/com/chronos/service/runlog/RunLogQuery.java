@@ -0,0 +1,25 @@
+package com.chronos.service.runlog;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * A search over the logs of all runs of a job, newest entries first.
+ */
+@Value
+@Builder
+public class RunLogQuery {
+    String jobId;
+    // Every word must occur in the message, text in double quotes as a phrase
+    String text;
+    String level;
+    // Inclusive
+    Instant from;
+    // Exclusive
+    Instant to;
+    // Only entries older than this one, the cursor of the previous page
+    Long beforeId;
+    int limit;
+}
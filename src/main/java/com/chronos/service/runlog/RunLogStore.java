@@ -0,0 +1,47 @@
+package com.chronos.service.runlog;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Where run log entries end up. Written by {@link RunLogWriter} only, from a single thread.
+ */
+public interface RunLogStore {
+
+    void append(List<RunLogEntry> entries);
+
+    /**
+     * Entries of the run in the order they were logged.
+     */
+    Page<RunLogEntry> read(String runId, Pageable pageable);
+
+    /**
+     * Up to {@code limit} entries of the run logged after the one with the given id, oldest first.
+     *
+     * @param afterId id of the last entry of the previous page, null for the first page
+     */
+    List<RunLogEntry> readAfter(String runId, Long afterId, int limit);
+
+    long count(String runId);
+
+    /**
+     * Entries of the runs of a job matching the query, newest first.
+     *
+     * @throws com.chronos.exception.LogSearchException if the store cannot search
+     */
+    List<RunLogEntry> search(RunLogQuery query);
+
+    /**
+     * Called when the run starts on this node, before anything is logged for it.
+     */
+    default void start(String runId) {
+    }
+
+    /**
+     * Called once the outcome of the run is recorded; entries logged after it are still kept.
+     */
+    default void complete(String runId) {
+    }
+}
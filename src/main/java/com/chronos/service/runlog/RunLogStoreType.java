@@ -0,0 +1,8 @@
+package com.chronos.service.runlog;
+
+public enum RunLogStoreType {
+    // Rows of the job_run_logs table
+    DATABASE,
+    // Append-only files on local disk, compressed per run once it completes
+    SEGMENTS
+}
@@ -0,0 +1,166 @@
+package com.chronos.service.runlog;
+
+import com.chronos.api.mapper.JobMapper;
+import com.chronos.config.RunLogConfig.RunLogProperties;
+import com.chronos.config.RunLogConfig.Tail;
+import com.chronos.repository.JobRunRepository;
+import com.chronos.service.runlog.RunLogTail.Subscription;
+import com.chronos.service.runlog.RunLogTail.TailEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streams the log of a run as server-sent events, for clients that would otherwise poll the
+ * paged log endpoint.
+ *
+ * The id of each {@code log} event is the position of its entry in the log of the run, so a
+ * client reconnecting with that id as {@code Last-Event-ID} continues after the last entry it got.
+ * Entries it missed are read from the {@link RunLogStore}. After that a run executing on this node
+ * is followed through {@link RunLogTail} without touching the store, a run executing on another
+ * node by reading the store every {@code pollInterval}, continuing after the id of the last entry
+ * read rather than counting entries from the start. Once the run completed the stream sends an
+ * {@code end} event and closes; a client cut off for falling behind gets no {@code end} and
+ * reconnects.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RunLogStreamer {
+
+    private static final Duration GAP_FLUSH_TIMEOUT = Duration.ofSeconds(1);
+
+    private final RunLogTail tail;
+    private final RunLogStore store;
+    private final RunLogWriter writer;
+    private final JobRunRepository jobRunRepository;
+    private final JobMapper jobMapper;
+    private final RunLogProperties properties;
+
+    /**
+     * @param after position of the last entry the client has, 0 for the whole log
+     */
+    public SseEmitter stream(String runId, long after) {
+        SseEmitter emitter = new SseEmitter(properties.getTail().getTimeout().toMillis());
+        Thread streamer = Thread.ofVirtual().name("chronos-runlog-stream-" + runId).unstarted(() -> {
+            try {
+                if (follow(runId, Math.max(0, after), emitter)) {
+                    emitter.send(SseEmitter.event().name("end").data(runId));
+                }
+                emitter.complete();
+            } catch (IOException e) {
+                // The client went away, the container reports it to the emitter
+                log.debug("Log stream of run {} closed: {}", runId, e.getMessage());
+            } catch (InterruptedException e) {
+                // The emitter timed out or completed
+                emitter.complete();
+            } catch (Exception e) {
+                log.warn("Log stream of run {} failed: {}", runId, e.getMessage());
+                emitter.completeWithError(e);
+            }
+        });
+        emitter.onTimeout(streamer::interrupt);
+        emitter.onError(e -> streamer.interrupt());
+        emitter.onCompletion(streamer::interrupt);
+        streamer.start();
+        return emitter;
+    }
+
+    // Returns false if the client was cut off before the run completed
+    private boolean follow(String runId, long after, SseEmitter emitter) throws IOException, InterruptedException {
+        Tail settings = properties.getTail();
+        try (Subscription subscription = tail.subscribe(runId, after)) {
+            if (subscription == null) {
+                return poll(runId, after, emitter);
+            }
+            if (subscription.getFirstPosition() > after + 1) {
+                // The entries in between already left the buffer, usually of a client that was away a while
+                writer.flush(GAP_FLUSH_TIMEOUT);
+                sendStored(runId, new StoreCursor(), after, subscription.getFirstPosition() - 1, emitter);
+            }
+            while (true) {
+                TailEvent event = subscription.next(settings.getHeartbeat());
+                if (event != null) {
+                    send(emitter, event.getPosition(), event.getEntry());
+                } else if (subscription.isEnded()) {
+                    return true;
+                } else if (subscription.isOverflowed()) {
+                    log.debug("Log stream of run {} fell behind, closing it", runId);
+                    return false;
+                } else {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                }
+            }
+        }
+    }
+
+    // For runs not executing on this node, or completed already
+    private boolean poll(String runId, long after, SseEmitter emitter) throws IOException, InterruptedException {
+        Tail settings = properties.getTail();
+        StoreCursor cursor = new StoreCursor();
+        long position = after;
+        long lastSent = System.nanoTime();
+        while (true) {
+            // Checked before reading: the log of a run is written before its end is recorded
+            boolean finished = isFinished(runId);
+            long sent = sendStored(runId, cursor, position, Long.MAX_VALUE, emitter);
+            if (finished) {
+                return true;
+            }
+            if (sent > position) {
+                position = sent;
+                lastSent = System.nanoTime();
+            } else if (System.nanoTime() - lastSent >= settings.getHeartbeat().toNanos()) {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+                lastSent = System.nanoTime();
+            }
+            Thread.sleep(settings.getPollInterval());
+        }
+    }
+
+    // Sends the stored entries after position `after` up to position `upTo`, reading on from the
+    // cursor, and returns the last position sent; entries up to `after` are only read past once
+    private long sendStored(String runId, StoreCursor cursor, long after, long upTo, SseEmitter emitter)
+            throws IOException {
+        int pageSize = Math.max(1, properties.getTail().getHistoryPageSize());
+        while (cursor.position < upTo) {
+            List<RunLogEntry> entries = store.readAfter(runId, cursor.lastId, pageSize);
+            for (int i = 0; i < entries.size() && cursor.position < upTo; i++) {
+                RunLogEntry entry = entries.get(i);
+                cursor.lastId = entry.getId();
+                if (++cursor.position > after) {
+                    send(emitter, cursor.position, entry);
+                }
+            }
+            if (entries.size() < pageSize) {
+                break;
+            }
+        }
+        return Math.max(after, cursor.position);
+    }
+
+    private void send(SseEmitter emitter, long position, RunLogEntry entry) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(position))
+                .name("log")
+                .data(jobMapper.toJobRunLogDto(entry), MediaType.APPLICATION_JSON));
+    }
+
+    private boolean isFinished(String runId) {
+        return jobRunRepository.findById(runId)
+                .map(run -> run.getEndTime() != null)
+                .orElse(true);
+    }
+
+    // Where reading the store left off: position and id of the last entry read
+    private static class StoreCursor {
+        long position;
+        Long lastId;
+    }
+}
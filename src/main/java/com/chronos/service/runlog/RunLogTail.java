@@ -0,0 +1,214 @@
+package com.chronos.service.runlog;
+
+import com.chronos.config.RunLogConfig.RunLogProperties;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * The latest log entries of the runs executing on this node, for clients following a run live.
+ *
+ * Entries are numbered by their position in the log of the run, starting at 1, which is also
+ * their position in the {@link RunLogStore} once written. A subscriber first gets the buffered
+ * entries after the position it has seen, then each new one through a queue of its own, so a slow
+ * client never holds up the run. One that falls {@code subscriberBuffer} entries behind is cut off
+ * and is expected to resume from the store.
+ */
+@Component
+public class RunLogTail {
+
+    private final int bufferLines;
+    private final int subscriberBuffer;
+    private final Map<String, RunTail> runs = new ConcurrentHashMap<>();
+
+    public RunLogTail(RunLogProperties properties) {
+        this.bufferLines = Math.max(1, properties.getTail().getBufferLines());
+        this.subscriberBuffer = Math.max(1, properties.getTail().getSubscriberBuffer());
+    }
+
+    /**
+     * Starts keeping entries of the run until it completes. Entries of runs not started here are
+     * only written.
+     */
+    public void start(String runId) {
+        runs.putIfAbsent(runId, new RunTail());
+    }
+
+    /**
+     * Hands the entry to the writer and, if it took it, to the subscribers of the run. Both happen
+     * under the lock of the run, so entries are numbered in the order they are written.
+     *
+     * @return whether the writer took the entry
+     */
+    boolean publish(RunLogEntry entry, Predicate<RunLogEntry> writer) {
+        RunTail tail = runs.get(entry.getRunId());
+        if (tail == null) {
+            return writer.test(entry);
+        }
+        synchronized (tail) {
+            if (!writer.test(entry)) {
+                return false;
+            }
+            tail.add(entry);
+            return true;
+        }
+    }
+
+    /**
+     * Ends the subscriptions of the run; called once all of its entries are written.
+     */
+    void complete(String runId) {
+        RunTail tail = runs.remove(runId);
+        if (tail != null) {
+            synchronized (tail) {
+                tail.end();
+            }
+        }
+    }
+
+    /**
+     * @param after position of the last entry the subscriber has, 0 for none
+     * @return null if the run is not executing on this node
+     */
+    public Subscription subscribe(String runId, long after) {
+        RunTail tail = runs.get(runId);
+        if (tail == null) {
+            return null;
+        }
+        synchronized (tail) {
+            return tail.ended ? null : tail.subscribe(after);
+        }
+    }
+
+    private class RunTail {
+        private final Deque<TailEvent> recent = new ArrayDeque<>();
+        private final List<Subscription> subscriptions = new ArrayList<>();
+        private long position;
+        private boolean ended;
+
+        void add(RunLogEntry entry) {
+            TailEvent event = new TailEvent(++position, entry);
+            if (recent.size() == bufferLines) {
+                recent.removeFirst();
+            }
+            recent.addLast(event);
+            subscriptions.removeIf(subscription -> !subscription.offer(event));
+        }
+
+        void end() {
+            ended = true;
+            subscriptions.forEach(subscription -> subscription.events.add(Subscription.END));
+            subscriptions.clear();
+        }
+
+        Subscription subscribe(long after) {
+            Subscription subscription = new Subscription(this, Math.max(after + 1, position - recent.size() + 1));
+            for (TailEvent event : recent) {
+                if (event.getPosition() > after) {
+                    subscription.events.add(event);
+                }
+            }
+            subscriptions.add(subscription);
+            return subscription;
+        }
+
+        synchronized void unsubscribe(Subscription subscription) {
+            subscriptions.remove(subscription);
+        }
+    }
+
+    @Value
+    public static class TailEvent {
+        long position;
+        RunLogEntry entry;
+    }
+
+    /**
+     * Entries of one run for one client. Not thread-safe on the reading side.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private static final TailEvent END = new TailEvent(0, null);
+        private static final TailEvent OVERFLOW = new TailEvent(0, null);
+
+        private final RunTail tail;
+        private final long firstPosition;
+        // Unbounded so the markers always fit, the limit is checked when offering
+        private final BlockingQueue<TailEvent> events = new LinkedBlockingQueue<>();
+        private boolean ended;
+        private boolean overflowed;
+
+        private Subscription(RunTail tail, long firstPosition) {
+            this.tail = tail;
+            this.firstPosition = firstPosition;
+        }
+
+        /**
+         * Position of the first entry delivered. Entries between the one the subscriber has and
+         * this one were dropped from the buffer already and have to be read from the store.
+         */
+        public long getFirstPosition() {
+            return firstPosition;
+        }
+
+        /**
+         * @return the next entry, or null if there was none within the timeout or the
+         *         subscription is over, see {@link #isEnded()} and {@link #isOverflowed()}
+         */
+        public TailEvent next(Duration timeout) throws InterruptedException {
+            if (ended || overflowed) {
+                return null;
+            }
+            TailEvent event = events.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            if (event == END) {
+                ended = true;
+                return null;
+            }
+            if (event == OVERFLOW) {
+                overflowed = true;
+                return null;
+            }
+            return event;
+        }
+
+        /**
+         * @return true once the run completed and every entry was delivered
+         */
+        public boolean isEnded() {
+            return ended;
+        }
+
+        /**
+         * @return true if the subscriber fell too far behind and was dropped
+         */
+        public boolean isOverflowed() {
+            return overflowed;
+        }
+
+        @Override
+        public void close() {
+            tail.unsubscribe(this);
+        }
+
+        // Called under the lock of the run; false drops the subscription
+        private boolean offer(TailEvent event) {
+            if (events.size() >= bufferLines + subscriberBuffer) {
+                events.add(OVERFLOW);
+                return false;
+            }
+            events.add(event);
+            return true;
+        }
+    }
+}
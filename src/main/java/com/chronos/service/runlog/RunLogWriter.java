@@ -0,0 +1,225 @@
+package com.chronos.service.runlog;
+
+import com.chronos.config.RunLogConfig.RunLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes run log entries to the {@link RunLogStore} in the background, in batches.
+ *
+ * Entries used to be saved one by one on the thread of the run. Here they go into a bounded
+ * buffer and a single writer thread hands them to the store a batch at a time; after the first
+ * entry of a batch it lingers briefly for more, so a burst of output costs one write per batch
+ * rather than per entry. When the buffer is full new entries are dropped
+ * and counted rather than slowing down the run. {@link #flush} waits until everything logged
+ * before it is written, for readers that expect a finished run to have all of its log.
+ */
+@Slf4j
+@Component
+public class RunLogWriter {
+
+    private final RunLogStore store;
+    private final RunLogTail tail;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<Object> buffer;
+    private final Thread writer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer batches;
+    private final AtomicInteger pendingFlushes = new AtomicInteger();
+    private volatile boolean closed;
+
+    public RunLogWriter(RunLogStore store, RunLogTail tail, RunLogProperties properties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.tail = tail;
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.lingerNanos = properties.getLinger().toNanos();
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferCapacity()));
+        this.written = meterRegistry.counter("chronos.runlog.written");
+        this.dropped = meterRegistry.counter("chronos.runlog.dropped");
+        this.failed = meterRegistry.counter("chronos.runlog.failed");
+        this.batches = Timer.builder("chronos.runlog.batch")
+                .description("Time to write one batch of run log entries")
+                .register(meterRegistry);
+        Gauge.builder("chronos.runlog.buffer.depth", buffer, BlockingQueue::size)
+                .description("Run log entries waiting to be written")
+                .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("chronos-runlog-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * Queues an entry; never blocks.
+     *
+     * @return false if the buffer was full and the entry dropped
+     */
+    public boolean append(String runId, Instant timestamp, String level, String message, Map<String, Object> context) {
+        if (!closed && tail.publish(RunLogEntry.of(runId, timestamp, level, message, context), buffer::offer)) {
+            return true;
+        }
+        dropped.increment();
+        log.debug("Run log buffer full, dropped entry of run {}", runId);
+        return false;
+    }
+
+    /**
+     * Waits until the entries queued before the call are written.
+     *
+     * @return false if that took longer than the timeout
+     */
+    public boolean flush(Duration timeout) {
+        if (!writer.isAlive()) {
+            return buffer.isEmpty();
+        }
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        pendingFlushes.incrementAndGet();
+        try {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            if (!buffer.offer(barrier, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                pendingFlushes.decrementAndGet();
+                return false;
+            }
+            barrier.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Tells the store right away that the run started, so it is known before its first entry is written.
+     */
+    public void start(String runId) {
+        try {
+            store.start(runId);
+        } catch (Exception e) {
+            log.warn("Could not start log of run {}: {}", runId, e.getMessage());
+        }
+    }
+
+    /**
+     * Tells the store, once the entries queued before are written, that the run completed.
+     * Skipped when the buffer stays full for the whole timeout.
+     */
+    public void complete(String runId, Duration timeout) {
+        try {
+            if (closed || !buffer.offer(new RunCompleted(runId), timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.debug("Run log buffer full, run {} not reported as completed", runId);
+                tail.complete(runId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops taking entries and waits for the queued ones to be written.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void writeLoop() {
+        List<Object> drained = new ArrayList<>(batchSize);
+        while (!closed || !buffer.isEmpty()) {
+            try {
+                // Wakes up now and then to notice a shutdown
+                Object first = buffer.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                drained.add(first);
+                buffer.drainTo(drained, batchSize - 1);
+                long deadline = System.nanoTime() + lingerNanos;
+                // Someone waiting for a flush ends the linger
+                while (drained.size() < batchSize && pendingFlushes.get() == 0) {
+                    Object next = buffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    drained.add(next);
+                    buffer.drainTo(drained, batchSize - drained.size());
+                }
+                write(drained);
+            } catch (InterruptedException e) {
+                // Only shutdown() ends the writer, once everything queued is written
+            } catch (Exception e) {
+                log.error("Run log writer failed", e);
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    // Entries queued before a flush or completion are written before it is handled
+    private void write(List<Object> drained) {
+        List<RunLogEntry> entries = new ArrayList<>(drained.size());
+        for (Object item : drained) {
+            if (item instanceof RunLogEntry entry) {
+                entries.add(entry);
+                continue;
+            }
+            store(entries);
+            entries.clear();
+            if (item instanceof RunCompleted completed) {
+                try {
+                    store.complete(completed.getRunId());
+                } catch (Exception e) {
+                    log.warn("Could not complete log of run {}: {}", completed.getRunId(), e.getMessage());
+                }
+                tail.complete(completed.getRunId());
+            } else {
+                pendingFlushes.decrementAndGet();
+                ((CompletableFuture<?>) item).complete(null);
+            }
+        }
+        store(entries);
+    }
+
+    private void store(List<RunLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            store.append(entries);
+            written.increment(entries.size());
+        } catch (Exception e) {
+            // A single bad entry, such as one of a deleted run, may fail the whole batch
+            failed.increment(entries.size());
+            log.warn("Could not write {} run log entries: {}", entries.size(), e.getMessage());
+        } finally {
+            batches.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Value
+    private static class RunCompleted {
+        String runId;
+    }
+}
@@ -0,0 +1,696 @@
+package com.chronos.service.runlog;
+
+import com.chronos.config.RunLogConfig.Segments;
+import com.chronos.exception.LogSearchException;
+import com.chronos.exception.RunLogUnavailableException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Keeps run logs in local files instead of the database.
+ *
+ * Entries are appended to a segment file per day, shared by the runs started that day. Each
+ * record points back at the previous record of its run and the in-memory index keeps the position
+ * of every {@code checkpointInterval}th record of a run, so a page is found by walking back at
+ * most that many records from the next checkpoint. Once a run completes, its records are copied
+ * into a file of its own in blocks of {@code checkpointInterval} records, each deflated on its
+ * own, so a page inflates only the blocks it spans. A segment is deleted when all of its runs have
+ * completed. Segments left behind by a restart are compacted when the store opens. Both kinds of
+ * file are read through memory mappings.
+ *
+ * Logs stay on the node that executed the run. Reading a run this node neither executes nor
+ * holds a file of fails with {@link RunLogUnavailableException} rather than answering with an
+ * empty log.
+ *
+ * Segment record: length of the rest (int), position of the previous record of the run or -1
+ * (long), payload. Run file: magic, entry count (long), records per block and block count (int),
+ * the offset of each block and of the end of the last (long), then the blocks of deflated
+ * (length, payload) pairs. Payload: run id, level, message and context JSON as length-prefixed
+ * UTF-8, the latter -1 when absent, and the epoch millisecond timestamp after the run id.
+ */
+@Slf4j
+public class SegmentRunLogStore implements RunLogStore {
+
+    private static final int MAGIC = 0x43524c32;
+    private static final int RUN_HEADER = Integer.BYTES + Long.BYTES + 2 * Integer.BYTES;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int RECORD_HEADER = Integer.BYTES + Long.BYTES;
+    private static final Pattern RUN_ID = Pattern.compile("[A-Za-z0-9_-]{2,64}");
+    private static final TypeReference<Map<String, Object>> CONTEXT = new TypeReference<>() { };
+
+    private final Path segmentDirectory;
+    private final Path runDirectory;
+    private final int checkpointInterval;
+    private final ObjectMapper objectMapper;
+
+    // Guarded by this
+    private final Map<String, RunIndex> runs = new HashMap<>();
+    private Segment current;
+
+    public SegmentRunLogStore(Segments properties, ObjectMapper objectMapper) {
+        this.segmentDirectory = properties.getDirectory().resolve("segments");
+        this.runDirectory = properties.getDirectory().resolve("runs");
+        this.checkpointInterval = Math.max(1, properties.getCheckpointInterval());
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(segmentDirectory);
+        Files.createDirectories(runDirectory);
+        List<Path> leftOver;
+        try (Stream<Path> files = Files.list(segmentDirectory)) {
+            leftOver = files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path file : leftOver) {
+            recover(file);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        // Whatever is still in segments is compacted on the next start
+        runs.values().stream().map(run -> run.segment).distinct().forEach(Segment::close);
+        if (current != null) {
+            current.close();
+        }
+        runs.clear();
+    }
+
+    @Override
+    public synchronized void append(List<RunLogEntry> entries) {
+        Segment today = currentSegment();
+        Map<Segment, ByteArrayOutputStream> batches = new LinkedHashMap<>();
+        Map<RunIndex, Long> lastOffsets = new IdentityHashMap<>();
+        List<RunIndex> appendedTo = new ArrayList<>(entries.size());
+        long[] offsets = new long[entries.size()];
+        Map<String, List<RunLogEntry>> late = new LinkedHashMap<>();
+        try {
+            for (RunLogEntry entry : entries) {
+                RunIndex run = runs.get(entry.getRunId());
+                if (run == null && Files.exists(runFile(entry.getRunId()))) {
+                    late.computeIfAbsent(entry.getRunId(), id -> new ArrayList<>()).add(entry);
+                    continue;
+                }
+                if (run == null) {
+                    run = new RunIndex(today);
+                    today.liveRuns++;
+                    runs.put(entry.getRunId(), run);
+                }
+                ByteArrayOutputStream batch = batches.computeIfAbsent(run.segment, segment -> new ByteArrayOutputStream());
+                long offset = run.segment.size + batch.size();
+                byte[] payload = encode(entry);
+                DataOutputStream out = new DataOutputStream(batch);
+                out.writeInt(Long.BYTES + payload.length);
+                out.writeLong(lastOffsets.getOrDefault(run, run.lastOffset));
+                out.write(payload);
+                lastOffsets.put(run, offset);
+                offsets[appendedTo.size()] = offset;
+                appendedTo.add(run);
+            }
+            for (Map.Entry<Segment, ByteArrayOutputStream> batch : batches.entrySet()) {
+                batch.getKey().write(batch.getValue().toByteArray());
+            }
+            // Only indexed once written, a failed write leaves the index as it was
+            for (int i = 0; i < appendedTo.size(); i++) {
+                appendedTo.get(i).add(offsets[i], checkpointInterval);
+            }
+            // Logged after the run completed, rare enough to rewrite its file
+            for (Map.Entry<String, List<RunLogEntry>> entry : late.entrySet()) {
+                compact(entry.getKey(), null, entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append run log entries", e);
+        }
+    }
+
+    @Override
+    public Page<RunLogEntry> read(String runId, Pageable pageable) {
+        long from = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        return read(runId, from, limit, pageable);
+    }
+
+    // Ids are positions in the log of the run, so the entries after an id start at that offset
+    @Override
+    public List<RunLogEntry> readAfter(String runId, Long afterId, int limit) {
+        return read(runId, afterId != null ? afterId : 0, limit, Pageable.unpaged()).getContent();
+    }
+
+    @Override
+    public long count(String runId) {
+        return read(runId, 0, 0, Pageable.unpaged()).getTotalElements();
+    }
+
+    private Page<RunLogEntry> read(String runId, long from, int limit, Pageable pageable) {
+        RunView view;
+        synchronized (this) {
+            RunIndex run = runs.get(runId);
+            view = run != null ? run.view() : null;
+        }
+        try {
+            if (view != null) {
+                try {
+                    return new PageImpl<>(readLive(view, from, limit), pageable, view.getCount());
+                } catch (ClosedChannelException e) {
+                    // Compacted in the meantime and the segment deleted, the run file has it all
+                    log.debug("Segment of run {} closed while reading, reading the run file", runId);
+                }
+            }
+            return readCompacted(runId, from, limit, pageable);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read log of run " + runId, e);
+        }
+    }
+
+    // Files have no index over messages; scanning every run of a job would be slower than the LIKE it replaces
+    @Override
+    public List<RunLogEntry> search(RunLogQuery query) {
+        throw LogSearchException.unsupported("segments");
+    }
+
+    // Registers the run so that it reads as empty here until something is logged
+    @Override
+    public synchronized void start(String runId) {
+        if (!runs.containsKey(runId) && !Files.exists(runFile(runId))) {
+            Segment today = currentSegment();
+            today.liveRuns++;
+            runs.put(runId, new RunIndex(today));
+        }
+    }
+
+    @Override
+    public void complete(String runId) {
+        RunIndex run;
+        RunView view;
+        synchronized (this) {
+            run = runs.get(runId);
+            if (run == null) {
+                return;
+            }
+            view = run.view();
+        }
+        try {
+            // Outside the lock, the records up to the view are never written again
+            compact(runId, view, List.of());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact log of run " + runId, e);
+        }
+        synchronized (this) {
+            // Entries appended meanwhile would be lost with the index; compacted on the next completion
+            if (run.count == view.getCount()) {
+                runs.remove(runId);
+                release(run.segment);
+            }
+        }
+    }
+
+    // Guarded by this
+    private Segment currentSegment() {
+        String day = LocalDate.now(ZoneOffset.UTC).toString();
+        if (current == null || !current.day.equals(day)) {
+            Segment previous = current;
+            try {
+                current = Segment.open(segmentDirectory.resolve(day + SEGMENT_SUFFIX), day);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open run log segment " + day, e);
+            }
+            if (previous != null && previous.liveRuns == 0) {
+                previous.delete();
+            }
+        }
+        return current;
+    }
+
+    // Guarded by this
+    private void release(Segment segment) {
+        segment.liveRuns--;
+        if (segment.liveRuns == 0 && segment != current) {
+            segment.delete();
+        }
+    }
+
+    private List<RunLogEntry> readLive(RunView view, long from, int limit) throws IOException {
+        if (from >= view.getCount() || limit <= 0) {
+            return List.of();
+        }
+        long end = from + Math.min(limit, view.getCount() - from);
+        RunLogEntry[] page = new RunLogEntry[(int) (end - from)];
+        MappedRecords records = new MappedRecords(view.getChannel(), view.getSize());
+
+        // Walk back from the closest record known to be at or after the last one wanted
+        long[] checkpoints = view.getCheckpoints();
+        int next = (int) ((end - 1) / checkpointInterval) + 1;
+        long index;
+        long offset;
+        if (next < checkpoints.length) {
+            index = (long) next * checkpointInterval;
+            offset = checkpoints[next];
+        } else {
+            index = view.getCount() - 1;
+            offset = view.getLastOffset();
+        }
+        for (; index >= from; index--) {
+            ByteBuffer header = records.at(offset, RECORD_HEADER);
+            int length = header.getInt();
+            long previous = header.getLong();
+            if (index < end) {
+                page[(int) (index - from)] = decode(records.at(offset + RECORD_HEADER, length - Long.BYTES), index + 1);
+            }
+            offset = previous;
+        }
+        return Arrays.asList(page);
+    }
+
+    private Page<RunLogEntry> readCompacted(String runId, long from, int limit, Pageable pageable) throws IOException {
+        Path file = runFile(runId);
+        if (!Files.exists(file)) {
+            // Neither started here nor compacted here: executed on another node
+            throw RunLogUnavailableException.notOnThisNode(runId);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            RunFileHeader header = readHeader(mapped, file);
+            List<RunLogEntry> page = new ArrayList<>((int) Math.min(limit, Math.max(0, header.getCount() - from)));
+            if (limit > 0) {
+                readRecords(mapped, header, from, (index, payload) -> {
+                    page.add(decode(ByteBuffer.wrap(payload), index + 1));
+                    return page.size() < limit;
+                });
+            }
+            return new PageImpl<>(page, pageable, header.getCount());
+        }
+    }
+
+    // Hands the records from index `from` on to the reader until it returns false, inflating from
+    // the block holding `from`
+    private static void readRecords(ByteBuffer content, RunFileHeader header, long from, RecordReader reader)
+            throws IOException {
+        long[] blocks = header.getBlocks();
+        for (int block = (int) (from / header.getBlockSize()); block < blocks.length - 1; block++) {
+            long first = (long) block * header.getBlockSize();
+            long end = Math.min(header.getCount(), first + header.getBlockSize());
+            ByteBuffer compressed = content.slice((int) blocks[block], (int) (blocks[block + 1] - blocks[block]));
+            try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteBufferInputStream(compressed)))) {
+                for (long index = first; index < end; index++) {
+                    int length = in.readInt();
+                    if (index < from) {
+                        in.skipNBytes(length);
+                    } else if (!reader.read(index, in.readNBytes(length))) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the run file from its previous content, if any, the records in the view and the
+     * given entries, replacing the previous file only once complete.
+     */
+    private void compact(String runId, RunView view, List<RunLogEntry> entries) throws IOException {
+        Path file = runFile(runId);
+        Files.createDirectories(file.getParent());
+
+        // Positions of the run's records, found walking back from the last one
+        long[] offsets = new long[view != null ? (int) view.getCount() : 0];
+        MappedRecords records = view != null ? new MappedRecords(view.getChannel(), view.getSize()) : null;
+        long offset = view != null ? view.getLastOffset() : -1;
+        for (int i = offsets.length - 1; i >= 0; i--) {
+            offsets[i] = offset;
+            offset = records.at(offset, RECORD_HEADER).getLong(Integer.BYTES);
+        }
+
+        FileChannel previous = Files.exists(file) ? FileChannel.open(file, StandardOpenOption.READ) : null;
+        Path temporary = Files.createTempFile(file.getParent(), runId, ".tmp");
+        try {
+            MappedByteBuffer previousContent = previous != null
+                    ? previous.map(FileChannel.MapMode.READ_ONLY, 0, previous.size()) : null;
+            RunFileHeader previousHeader = previousContent != null ? readHeader(previousContent, file) : null;
+            long previousCount = previousHeader != null ? previousHeader.getCount() : 0;
+            try (RunFileWriter out = new RunFileWriter(temporary, previousCount + offsets.length + entries.size(),
+                    checkpointInterval)) {
+                if (previousHeader != null) {
+                    readRecords(previousContent, previousHeader, 0, (index, payload) -> {
+                        out.write(payload);
+                        return true;
+                    });
+                }
+                for (long recordOffset : offsets) {
+                    int length = records.at(recordOffset, RECORD_HEADER).getInt() - Long.BYTES;
+                    byte[] payload = new byte[length];
+                    records.at(recordOffset + RECORD_HEADER, length).get(payload);
+                    out.write(payload);
+                }
+                for (RunLogEntry entry : entries) {
+                    out.write(encode(entry));
+                }
+                out.finish();
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            if (previous != null) {
+                previous.close();
+            }
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // Runs left in a segment by a restart are all finished on this node, they are compacted right away
+    private void recover(Path file) throws IOException {
+        Segment segment = Segment.open(file, null);
+        Map<String, RunIndex> found = new LinkedHashMap<>();
+        MappedRecords records = new MappedRecords(segment.channel, segment.size);
+        long offset = 0;
+        while (offset + RECORD_HEADER <= segment.size) {
+            int length = records.at(offset, Integer.BYTES).getInt();
+            if (length < Long.BYTES || offset + Integer.BYTES + length > segment.size) {
+                log.warn("Run log segment {} ends in an incomplete record at {}", file, offset);
+                break;
+            }
+            String runId = readString(records.at(offset + RECORD_HEADER, length - Long.BYTES));
+            found.computeIfAbsent(runId, id -> new RunIndex(segment)).add(offset, checkpointInterval);
+            offset += Integer.BYTES + length;
+        }
+        for (Map.Entry<String, RunIndex> run : found.entrySet()) {
+            compact(run.getKey(), run.getValue().view(), List.of());
+        }
+        segment.delete();
+        log.info("Compacted {} runs left in run log segment {}", found.size(), file);
+    }
+
+    private Path runFile(String runId) {
+        if (!RUN_ID.matcher(runId).matches()) {
+            throw new IllegalArgumentException("Invalid run id: " + runId);
+        }
+        return runDirectory.resolve(runId.substring(runId.length() - 2)).resolve(runId + ".log");
+    }
+
+    private static RunFileHeader readHeader(ByteBuffer content, Path file) throws IOException {
+        if (content.getInt() != MAGIC) {
+            throw new IOException("Not a run log file: " + file);
+        }
+        long count = content.getLong();
+        int blockSize = content.getInt();
+        long[] blocks = new long[content.getInt() + 1];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = content.getLong();
+        }
+        return new RunFileHeader(count, blockSize, blocks);
+    }
+
+    private byte[] encode(RunLogEntry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + entry.getMessage().length());
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, entry.getRunId());
+        out.writeLong(entry.getTimestamp().toEpochMilli());
+        writeString(out, entry.getLevel());
+        writeString(out, entry.getMessage());
+        writeString(out, entry.getContext() != null ? objectMapper.writeValueAsString(entry.getContext()) : null);
+        return bytes.toByteArray();
+    }
+
+    private RunLogEntry decode(ByteBuffer payload, long id) throws IOException {
+        String runId = readString(payload);
+        Instant timestamp = Instant.ofEpochMilli(payload.getLong());
+        String level = readString(payload);
+        String message = readString(payload);
+        String context = readString(payload);
+        return new RunLogEntry(id, runId, timestamp, level, message,
+                context != null ? objectMapper.readValue(context, CONTEXT) : null);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static class Segment {
+        final Path path;
+        // Null for segments recovered at startup
+        final String day;
+        final FileChannel channel;
+        long size;
+        int liveRuns;
+
+        private Segment(Path path, String day, FileChannel channel) throws IOException {
+            this.path = path;
+            this.day = day;
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        static Segment open(Path path, String day) throws IOException {
+            return new Segment(path, day, FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        }
+
+        void write(byte[] bytes) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = size;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            size = position;
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Could not close run log segment {}: {}", path, e.getMessage());
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Could not delete run log segment {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private static class RunIndex {
+        final Segment segment;
+        long count;
+        long lastOffset = -1;
+        long[] checkpoints = new long[4];
+        int checkpointCount;
+
+        RunIndex(Segment segment) {
+            this.segment = segment;
+        }
+
+        void add(long offset, int interval) {
+            if (count % interval == 0) {
+                if (checkpointCount == checkpoints.length) {
+                    checkpoints = Arrays.copyOf(checkpoints, checkpointCount * 2);
+                }
+                checkpoints[checkpointCount++] = offset;
+            }
+            lastOffset = offset;
+            count++;
+        }
+
+        RunView view() {
+            return new RunView(segment.channel, segment.size, count, lastOffset, Arrays.copyOf(checkpoints, checkpointCount));
+        }
+    }
+
+    // What a reader needs of a run, taken under the lock; the records it covers never change
+    @Value
+    private static class RunView {
+        FileChannel channel;
+        long size;
+        long count;
+        long lastOffset;
+        long[] checkpoints;
+    }
+
+    @Value
+    private static class RunFileHeader {
+        long count;
+        int blockSize;
+        // Offset of each block, then of the end of the last
+        long[] blocks;
+    }
+
+    @FunctionalInterface
+    private interface RecordReader {
+        boolean read(long index, byte[] payload) throws IOException;
+    }
+
+    // Deflates the records a block at a time, the header goes in last once the offsets are known
+    private static class RunFileWriter implements Closeable {
+        private final FileChannel channel;
+        private final long count;
+        private final int blockSize;
+        private final long[] blocks;
+        private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+        private DataOutputStream out;
+        private long written;
+        private int blockCount;
+        private long position;
+
+        RunFileWriter(Path file, long count, int blockSize) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.WRITE);
+            this.count = count;
+            this.blockSize = blockSize;
+            this.blocks = new long[(int) ((count + blockSize - 1) / blockSize) + 1];
+            this.position = RUN_HEADER + (long) blocks.length * Long.BYTES;
+        }
+
+        void write(byte[] payload) throws IOException {
+            if (out == null) {
+                out = new DataOutputStream(new DeflaterOutputStream(block));
+            }
+            out.writeInt(payload.length);
+            out.write(payload);
+            if (++written % blockSize == 0) {
+                endBlock();
+            }
+        }
+
+        void finish() throws IOException {
+            if (out != null) {
+                endBlock();
+            }
+            if (written != count) {
+                throw new IOException("Wrote " + written + " of " + count + " run log records");
+            }
+            blocks[blockCount] = position;
+            ByteBuffer header = ByteBuffer.allocate(RUN_HEADER + blocks.length * Long.BYTES);
+            header.putInt(MAGIC).putLong(count).putInt(blockSize).putInt(blockCount);
+            for (long offset : blocks) {
+                header.putLong(offset);
+            }
+            writeAt(header.flip(), 0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private void endBlock() throws IOException {
+            out.close();
+            blocks[blockCount++] = position;
+            position += writeAt(ByteBuffer.wrap(block.toByteArray()), position);
+            block.reset();
+            out = null;
+        }
+
+        private long writeAt(ByteBuffer buffer, long at) throws IOException {
+            long start = at;
+            while (buffer.hasRemaining()) {
+                at += channel.write(buffer, at);
+            }
+            return at - start;
+        }
+    }
+
+    // Maps a window of the file around the records read, segments may outgrow a single mapping
+    private static class MappedRecords {
+        private static final long WINDOW = 64L << 20;
+
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        MappedRecords(FileChannel channel, long size) {
+            this.channel = channel;
+            this.size = size;
+        }
+
+        ByteBuffer at(long offset, int length) throws IOException {
+            if (offset < 0 || offset + length > size) {
+                throw new IOException("Run log record out of bounds at " + offset);
+            }
+            if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+                windowStart = Math.max(0, offset - WINDOW / 2);
+                long end = Math.min(size, Math.max(windowStart + WINDOW, offset + length));
+                window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, end - windowStart);
+            }
+            return window.slice((int) (offset - windowStart), length);
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- High-frequency INTERVAL/ONCE schedules are fired from the in-memory timing wheel instead of Quartz
+ALTER TABLE job_schedules
+ADD COLUMN high_frequency BOOLEAN NOT NULL DEFAULT FALSE,
+ADD COLUMN interval_ms BIGINT NULL;
+
+CREATE INDEX idx_job_schedules_high_frequency ON job_schedules (high_frequency);
@@ -0,0 +1,5 @@
+-- Supports the due-job claim query (status = 'SCHEDULED' AND next_run_at <= now)
+CREATE INDEX idx_jobs_status_next_run_at ON jobs (status, next_run_at);
+
+-- Pending (not yet started) runs are looked up per job when a claimed retry is started
+CREATE INDEX idx_job_runs_job_start ON job_runs (job_id, start_time);
@@ -0,0 +1,2 @@
+-- Optimistic lock column; status transitions are conditional updates that bump it
+ALTER TABLE jobs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
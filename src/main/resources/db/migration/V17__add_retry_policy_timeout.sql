@@ -0,0 +1,2 @@
+-- Per-attempt execution timeout; NULL falls back to app.job.execution.default-timeout
+ALTER TABLE retry_policies ADD COLUMN timeout_seconds INTEGER NULL;
@@ -0,0 +1,2 @@
+-- Per-job response timeout for HTTP jobs; NULL falls back to app.job.http.request-timeout
+ALTER TABLE job_payloads ADD COLUMN http_timeout_seconds INTEGER NULL;
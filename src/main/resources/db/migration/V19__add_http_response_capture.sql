@@ -0,0 +1,3 @@
+-- Streamed response capture for HTTP jobs; NULL keeps discarding the body
+ALTER TABLE job_payloads ADD COLUMN http_capture_response BOOLEAN NULL;
+ALTER TABLE job_payloads ADD COLUMN http_response_preview_kb INTEGER NULL;
@@ -0,0 +1,20 @@
+-- Add HTTP_BATCH payload fields; method, headers, body and timeout share the HTTP columns
+ALTER TABLE job_payloads
+ADD COLUMN batch_urls JSON,
+ADD COLUMN batch_url_template TEXT,
+ADD COLUMN batch_template_values JSON,
+ADD COLUMN batch_concurrency INT,
+ADD COLUMN batch_max_failures INT;
+
+-- Aggregate statistics of runs that fan out
+ALTER TABLE job_runs ADD COLUMN stats JSON;
+
+-- Add HTTP_BATCH to the jobs_type_check constraint
+ALTER TABLE jobs DROP CONSTRAINT jobs_type_check;
+ALTER TABLE jobs ADD CONSTRAINT jobs_type_check 
+CHECK (type IN ('HTTP', 'SCRIPT', 'DUMMY', 'DATABASE', 'FILE_SYSTEM', 'MESSAGE_QUEUE', 'EMAIL', 'CACHE', 'REPORT', 'DB_TO_KAFKA', 'HTTP_BATCH'));
+
+-- Add HTTP_BATCH to the job_payloads_type_check constraint
+ALTER TABLE job_payloads DROP CONSTRAINT job_payloads_type_check;
+ALTER TABLE job_payloads ADD CONSTRAINT job_payloads_type_check 
+CHECK (payload_type IN ('HTTP', 'SCRIPT', 'DUMMY', 'DATABASE', 'FILE_SYSTEM', 'MESSAGE_QUEUE', 'EMAIL', 'CACHE', 'REPORT', 'DB_TO_KAFKA', 'HTTP_BATCH'));
@@ -0,0 +1,2 @@
+-- Per-job request rate for HTTP and HTTP_BATCH jobs; NULL uses the host's configured rate
+ALTER TABLE job_payloads ADD COLUMN http_rate_limit_per_minute INTEGER NULL;
@@ -0,0 +1,2 @@
+-- Word search over run log messages, replacing LIKE '%...%' scans
+ALTER TABLE job_run_logs ADD FULLTEXT INDEX ft_job_run_logs_message (message);
@@ -0,0 +1,21 @@
+-- Ids of these tables are allocated by Hibernate in blocks of 50 from a sequence table instead of
+-- AUTO_INCREMENT, so their inserts can be batched. MySQL has no sequences; Hibernate reads and
+-- bumps next_val, and hands out the 50 ids ending at the value it read. Starting 50 above the current
+-- maximum keeps new ids clear of the existing rows.
+-- job_run_logs keeps AUTO_INCREMENT, its rows are written with multi-row inserts outside Hibernate.
+
+ALTER TABLE job_schedules MODIFY COLUMN id BIGINT NOT NULL;
+CREATE TABLE job_schedules_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO job_schedules_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM job_schedules;
+
+ALTER TABLE notifications MODIFY COLUMN id BIGINT NOT NULL;
+CREATE TABLE notifications_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO notifications_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM notifications;
+
+ALTER TABLE dlq_events MODIFY COLUMN id BIGINT NOT NULL;
+CREATE TABLE dlq_events_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO dlq_events_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM dlq_events;
+
+ALTER TABLE audit_events MODIFY COLUMN id BIGINT NOT NULL;
+CREATE TABLE audit_events_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO audit_events_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM audit_events;
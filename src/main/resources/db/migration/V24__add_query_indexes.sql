@@ -0,0 +1,30 @@
+-- Indexes for the repository queries that scanned or sorted whole tables; QueryPlanTest checks the
+-- plan of every repository query against them. InnoDB appends the primary key to each secondary
+-- index, so an index on (x) also serves ORDER BY id for x = ?.
+
+-- Job listing of one owner, newest first
+CREATE INDEX idx_jobs_owner_id ON jobs (owner_id, id);
+
+-- Due jobs in dispatch order; run_at is checked on the schedule joined by job_id
+CREATE INDEX idx_jobs_status_priority_created ON jobs (status, priority DESC, created_at);
+
+-- Covered by idx_jobs_status_next_run_at and idx_jobs_status_priority_created
+DROP INDEX idx_jobs_status ON jobs;
+
+-- Run of a job by attempt, looked up for every retry
+CREATE INDEX idx_job_runs_job_attempt ON job_runs (job_id, attempt);
+
+-- Stuck runs: started before the timeout and not ended
+CREATE INDEX idx_job_runs_end_start ON job_runs (end_time, start_time);
+
+-- Audit listings, newest first per entity, action and user
+CREATE INDEX idx_audit_events_entity ON audit_events (entity_type, entity_id, created_at);
+CREATE INDEX idx_audit_events_action_created ON audit_events (action, created_at);
+CREATE INDEX idx_audit_events_user_created ON audit_events (user_id, created_at);
+DROP INDEX idx_audit_events_user_id ON audit_events;
+
+-- DLQ listing, newest first, and recent events
+CREATE INDEX idx_dlq_events_created_at ON dlq_events (created_at);
+
+-- Pending notifications, all or of one channel
+CREATE INDEX idx_notifications_sent_at_channel ON notifications (sent_at, channel);
@@ -0,0 +1,71 @@
+package com.chronos.api.dto.page;
+
+import com.chronos.api.dto.page.Cursors.TimeKey;
+import com.chronos.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void of_ExtraRow_ReturnsLimitAndCursorOfLastItem() {
+        // When
+        CursorPage<String> page = CursorPage.of(List.of(5L, 4L, 3L), 2,
+                id -> Cursors.encode(id), String::valueOf);
+
+        // Then
+        assertEquals(List.of("5", "4"), page.getItems());
+        assertEquals(4L, Cursors.longKey(page.getNextCursor()));
+        assertNull(page.getApproximateTotal());
+    }
+
+    @Test
+    void of_NoExtraRow_IsLastPage() {
+        // When
+        CursorPage<String> page = CursorPage.of(List.of(5L, 4L), 2,
+                id -> Cursors.encode(id), String::valueOf);
+
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void timeKey_EncodedCursor_DecodesBothKeys() {
+        // Given
+        Instant createdAt = Instant.parse("2024-03-01T10:15:30.123456Z");
+
+        // When
+        TimeKey key = Cursors.timeKey(Cursors.encode(createdAt, 42L));
+
+        // Then
+        assertEquals(createdAt, key.getTime());
+        assertEquals(42L, key.getId());
+    }
+
+    @Test
+    void decode_BlankCursor_ReturnsNull() {
+        // When & Then
+        assertNull(Cursors.stringKey(null));
+        assertNull(Cursors.timeKey(" "));
+    }
+
+    @Test
+    void decode_MalformedCursor_Throws() {
+        // When & Then
+        assertThrows(InvalidCursorException.class, () -> Cursors.longKey("not base64!"));
+        assertThrows(InvalidCursorException.class, () -> Cursors.longKey(Cursors.encode("abc")));
+        assertThrows(InvalidCursorException.class, () -> Cursors.timeKey(Cursors.encode(42L)));
+    }
+
+    @Test
+    void clampLimit_OutOfRange_ClampsToBounds() {
+        // When & Then
+        assertEquals(1, CursorPage.clampLimit(0));
+        assertEquals(CursorPage.MAX_LIMIT, CursorPage.clampLimit(10_000));
+    }
+}
@@ -0,0 +1,118 @@
+package com.chronos.repository;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.enums.JobStatus;
+import com.chronos.repository.JobClaimRepository.ClaimedRun;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Claims run as native statements next to the entities; a job loaded before a claim must not be
+ * saved over it. Needs Docker; skipped without it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(JobClaimRepository.class)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=none")
+class JobClaimRepositoryTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final String JOB_ID = "01JOB000000000000000000001";
+    private static final Instant NOW = Instant.parse("2024-06-02T00:00:00Z");
+
+    @Autowired
+    private JobClaimRepository claimRepository;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Timestamp due = Timestamp.from(NOW.minusSeconds(60));
+        jdbcTemplate.update("INSERT INTO users (id, email, password_hash, roles, created_at) " +
+                "VALUES (1, 'owner@example.com', 'hash', 'ROLE_USER', ?)", due);
+        jdbcTemplate.update("INSERT INTO jobs (id, owner_id, name, type, status, priority, created_at, next_run_at, version) " +
+                "VALUES (?, 1, 'job-1', 'HTTP', 'SCHEDULED', 'MEDIUM', ?, ?, 0)", JOB_ID, due, due);
+        jdbcTemplate.update("INSERT INTO job_schedules (id, job_id, schedule_type, run_at, timezone, misfire_policy, high_frequency) " +
+                "VALUES (1, ?, 'ONCE', ?, 'UTC', 'FIRE_NOW', FALSE)", JOB_ID, due);
+    }
+
+    @Test
+    void claimDueJobs_StaleJobSavedAfterClaim_FailsOptimisticLock() {
+        // Given: loaded for an update just before the claim
+        Job stale = loadDetached();
+
+        // When
+        List<ClaimedRun> claimed = claimRepository.claimDueJobs(NOW, 10, "worker-1");
+        stale.setStatus(JobStatus.SCHEDULED);
+        stale.setNextRunAt(NOW.plusSeconds(3600));
+
+        // Then
+        assertEquals(1, claimed.size());
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> jobRepository.saveAndFlush(stale));
+        assertEquals("RUNNING", jdbcTemplate.queryForObject("SELECT status FROM jobs WHERE id = ?", String.class, JOB_ID));
+    }
+
+    @Test
+    void releaseClaim_StaleJobSavedAfterRelease_FailsOptimisticLock() {
+        // Given
+        ClaimedRun claim = claimRepository.claimDueJobs(NOW, 10, "worker-1").get(0);
+        Job stale = loadDetached();
+
+        // When
+        claimRepository.releaseClaim(claim);
+        stale.setName("renamed");
+
+        // Then
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT version FROM jobs WHERE id = ?", Long.class, JOB_ID));
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> jobRepository.saveAndFlush(stale));
+    }
+
+    @Test
+    void requestImmediateRun_ScheduledJob_BumpsVersion() {
+        // When
+        boolean requested = claimRepository.requestImmediateRun(JOB_ID, NOW);
+
+        // Then
+        assertTrue(requested);
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT version FROM jobs WHERE id = ?", Long.class, JOB_ID));
+    }
+
+    private Job loadDetached() {
+        Job job = jobRepository.findById(JOB_ID).orElseThrow();
+        entityManager.detach(job);
+        return job;
+    }
+}
@@ -0,0 +1,480 @@
+package com.chronos.repository;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.User;
+import com.chronos.domain.model.enums.JobOutcome;
+import com.chronos.domain.model.enums.JobStatus;
+import com.chronos.domain.model.enums.NotificationChannel;
+import lombok.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every query method of the repositories against seeded data on MySQL and fails if the plan
+ * of a statement it sends reads a whole table or sorts rows, so a query without a supporting index
+ * is caught before it reaches production. Each statement is explained with the parameters it is
+ * sent with. The few queries that have to scan say why.
+ *
+ * Needs Docker; skipped without it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(QueryPlanTest.PlanConfig.class)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=none")
+class QueryPlanTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final PlanRecorder PLANS = new PlanRecorder();
+    private static boolean seeded;
+
+    private static final String JOB_ID = ulid("01JOB", 1);
+    private static final String RUN_ID = ulid("01RUN", 1);
+    private static final Instant NOW = Instant.parse("2024-06-02T00:00:00Z");
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private JobRunRepository jobRunRepository;
+    @Autowired
+    private JobRunLogRepository jobRunLogRepository;
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+    @Autowired
+    private DLQEventRepository dlqEventRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Job job;
+    private JobRun run;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        if (!seeded) {
+            // On a connection of its own, so the rows are committed for every test
+            try (Connection connection = dataSource.getConnection()) {
+                new ResourceDatabasePopulator(new ClassPathResource("db/query-plan-seed.sql")).populate(connection);
+            }
+            seeded = true;
+        }
+        owner = userRepository.getReferenceById(1L);
+        job = jobRepository.getReferenceById(JOB_ID);
+        run = jobRunRepository.getReferenceById(RUN_ID);
+    }
+
+    static Stream<QueryCase> queries() {
+        return Stream.of(
+                query("JobRepository.findSummaries", "first page", t -> t.jobRepository.findSummaries(
+                        t.owner, null, null, null, null, null, PageRequest.of(0, 21))),
+                query("JobRepository.findSummaries", "next page", t -> t.jobRepository.findSummaries(
+                        t.owner, null, null, null, null, ulid("01JOB", 2500), PageRequest.of(0, 21))),
+                query("JobRepository.findSummaries", "by status", t -> t.jobRepository.findSummaries(
+                        t.owner, JobStatus.SCHEDULED, null, null, null, null, PageRequest.of(0, 21))),
+                query("JobRepository.findSummaries", "by name and next run", t -> t.jobRepository.findSummaries(
+                        t.owner, null, "job-1", NOW, NOW.plusSeconds(86400), null, PageRequest.of(0, 21))),
+                query("JobRepository.countSummaries", t -> t.jobRepository.countSummaries(
+                        t.owner, JobStatus.SCHEDULED, null, null, null)),
+                query("JobRepository.findWithDefinitionById", t -> t.jobRepository.findWithDefinitionById(JOB_ID)),
+                query("JobRepository.findByIdAndOwner", t -> t.jobRepository.findByIdAndOwner(JOB_ID, t.owner)),
+                query("JobRepository.existsByNameAndOwner", t -> t.jobRepository.existsByNameAndOwner("job-1", t.owner)),
+                query("JobRepository.updateJobStatus", t -> t.jobRepository.updateJobStatus(JOB_ID, JobStatus.PAUSED)),
+                query("JobRepository.updateAllJobStatus", t -> t.jobRepository.updateAllJobStatus(JobStatus.CANCELLED))
+                        .allowFullScan("cancels every job when the scheduler shuts down"),
+                query("JobRepository.compareAndSetStatus", "from one", t -> t.jobRepository.compareAndSetStatus(
+                        JOB_ID, JobStatus.SUCCEEDED, JobStatus.SCHEDULED)),
+                query("JobRepository.compareAndSetStatus", "from several", t -> t.jobRepository.compareAndSetStatus(
+                        JOB_ID, List.of(JobStatus.SCHEDULED, JobStatus.PAUSED), 0L, JobStatus.CANCELLED)),
+                query("JobRepository.compareAndSetRunning", t -> t.jobRepository.compareAndSetRunning(
+                        JOB_ID, JobStatus.SCHEDULED, JobStatus.RUNNING, NOW, "worker-1")),
+                query("JobRepository.compareAndSetRetryScheduled", t -> t.jobRepository.compareAndSetRetryScheduled(
+                        JOB_ID, JobStatus.RUNNING, JobStatus.SCHEDULED, NOW)),
+                query("JobRepository.findReadyToRun", t -> t.jobRepository.findReadyToRun(
+                        JobStatus.SCHEDULED, NOW, PageRequest.ofSize(50))),
+                query("JobRepository.findAllWithDefinitionByIdIn", t -> t.jobRepository.findAllWithDefinitionByIdIn(
+                        List.of(JOB_ID, ulid("01JOB", 2)))),
+                query("JobRepository.findHighFrequencyJobs", t -> t.jobRepository.findHighFrequencyJobs(
+                        List.of(JobStatus.SCHEDULED, JobStatus.RUNNING))),
+                query("JobRepository.countByStatus", t -> t.jobRepository.countByStatus(JobStatus.SCHEDULED)),
+                query("JobRepository.findStatusById", t -> t.jobRepository.findStatusById(JOB_ID)),
+
+                query("JobRunRepository.findByIdAndJobId", t -> t.jobRunRepository.findByIdAndJobId(RUN_ID, JOB_ID)),
+                query("JobRunRepository.findByJobAndOutcome", t -> t.jobRunRepository.findByJobAndOutcome(
+                        t.job, JobOutcome.SUCCESS, PageRequest.of(0, 20))),
+                query("JobRunRepository.findFirstByJobOrderByStartTimeDesc",
+                        t -> t.jobRunRepository.findFirstByJobOrderByStartTimeDesc(t.job)),
+                query("JobRunRepository.findFirstByJobIdOrderByStartTimeDesc",
+                        t -> t.jobRunRepository.findFirstByJobIdOrderByStartTimeDesc(JOB_ID)),
+                query("JobRunRepository.findByJobId", t -> t.jobRunRepository.findByJobId(JOB_ID, PageRequest.of(0, 20))),
+                query("JobRunRepository.findPageByJobId", "first page", t -> t.jobRunRepository.findPageByJobId(
+                        JOB_ID, null, PageRequest.of(0, 21))),
+                query("JobRunRepository.findPageByJobId", "next page", t -> t.jobRunRepository.findPageByJobId(
+                        JOB_ID, ulid("01RUN", 10001), PageRequest.of(0, 21))),
+                query("JobRunRepository.countByJobId", t -> t.jobRunRepository.countByJobId(JOB_ID)),
+                query("JobRunRepository.findByJobIdAndOutcome", t -> t.jobRunRepository.findByJobIdAndOutcome(
+                        JOB_ID, JobOutcome.FAILURE)),
+                query("JobRunRepository.findByJobIdAndEndTimeIsNull",
+                        t -> t.jobRunRepository.findByJobIdAndEndTimeIsNull(JOB_ID)),
+                query("JobRunRepository.findByJobAndAttempt", t -> t.jobRunRepository.findByJobAndAttempt(t.job, 2)),
+                query("JobRunRepository.existsByJobIdAndAttempt",
+                        t -> t.jobRunRepository.existsByJobIdAndAttempt(JOB_ID, 2)),
+                query("JobRunRepository.countByJobAndOutcome", t -> t.jobRunRepository.countByJobAndOutcome(
+                        t.job, JobOutcome.SUCCESS)),
+                query("JobRunRepository.findByJobSince", t -> t.jobRunRepository.findByJobSince(
+                        t.job, Instant.parse("2024-02-01T00:00:00Z"))),
+                query("JobRunRepository.getAverageDuration", t -> t.jobRunRepository.getAverageDuration(
+                        t.job, JobOutcome.SUCCESS, Instant.parse("2024-02-01T00:00:00Z"))),
+                query("JobRunRepository.findStuckRuns", t -> t.jobRunRepository.findStuckRuns(
+                        Instant.parse("2024-02-05T00:00:00Z"))),
+                query("JobRunRepository.updateStats", t -> t.jobRunRepository.updateStats(
+                        RUN_ID, "{\"total\": 10}")),
+
+                query("JobRunLogRepository.findByRun", t -> t.jobRunLogRepository.findByRun(
+                        t.run, PageRequest.of(0, 50))),
+                query("JobRunLogRepository.findByRunId", t -> t.jobRunLogRepository.findByRunId(
+                        RUN_ID, PageRequest.of(2, 50, Sort.by("id")))),
+                query("JobRunLogRepository.findPageByRunId", t -> t.jobRunLogRepository.findPageByRunId(
+                        RUN_ID, 100L, PageRequest.of(0, 101))),
+                query("JobRunLogRepository.countByRunId", t -> t.jobRunLogRepository.countByRunId(RUN_ID)),
+                query("JobRunLogRepository.findByRunAndLevel", t -> t.jobRunLogRepository.findByRunAndLevel(
+                        t.run, "ERROR", PageRequest.of(0, 20))),
+                query("JobRunLogRepository.findByRunSince", t -> t.jobRunLogRepository.findByRunSince(
+                        t.run, Instant.parse("2024-02-01T00:05:00Z"))),
+                query("JobRunLogRepository.deleteByRunAndTimestampBefore",
+                        t -> t.jobRunLogRepository.deleteByRunAndTimestampBefore(
+                                t.run, Instant.parse("2024-02-01T00:00:30Z"))),
+
+                query("AuditEventRepository.findBetween", t -> t.auditEventRepository.findBetween(
+                        Instant.parse("2024-01-02T00:00:00Z"), Instant.parse("2024-01-02T06:00:00Z"))),
+                query("AuditEventRepository.countRecentActionsByUser",
+                        t -> t.auditEventRepository.countRecentActionsByUser(
+                                t.owner, "LOGIN", Instant.parse("2024-01-10T00:00:00Z"))),
+                query("AuditEventRepository.getEntityHistory",
+                        t -> t.auditEventRepository.getEntityHistory("Job", JOB_ID)),
+                query("AuditEventRepository.findPage", "all", t -> t.auditEventRepository.findPage(
+                        null, null, null, null, null, null, PageRequest.of(0, 21))),
+                query("AuditEventRepository.findPage", "next page", t -> t.auditEventRepository.findPage(
+                        null, null, null, null, Instant.parse("2024-01-05T00:00:00Z"), 5000L, PageRequest.of(0, 21))),
+                query("AuditEventRepository.findPage", "by entity", t -> t.auditEventRepository.findPage(
+                        "Job", JOB_ID, null, null, null, null, PageRequest.of(0, 21))),
+                query("AuditEventRepository.findPage", "by action", t -> t.auditEventRepository.findPage(
+                        null, null, "LOGIN", null, null, null, PageRequest.of(0, 21))),
+                query("AuditEventRepository.findPage", "by user", t -> t.auditEventRepository.findPage(
+                        null, null, null, 1L, null, null, PageRequest.of(0, 21))),
+                query("AuditEventRepository.countPage", "all", t -> t.auditEventRepository.countPage(
+                        null, null, null, null))
+                        .allowFullScan("counts every event; the total is cached by ApproximateTotals"),
+                query("AuditEventRepository.countPage", "by action", t -> t.auditEventRepository.countPage(
+                        null, null, "LOGIN", null)),
+                query("AuditEventRepository.deleteByCreatedAtBefore", t -> t.auditEventRepository.deleteByCreatedAtBefore(
+                        Instant.parse("2024-01-01T01:00:00Z"))),
+
+                query("DLQEventRepository.findByJob", t -> t.dlqEventRepository.findByJob(t.job, PageRequest.of(0, 20))),
+                query("DLQEventRepository.findRecentEvents", t -> t.dlqEventRepository.findRecentEvents(
+                        Instant.parse("2024-03-04T08:00:00Z"))),
+                query("DLQEventRepository.countByJob", t -> t.dlqEventRepository.countByJob(t.job)),
+                query("DLQEventRepository.findPage", "all", t -> t.dlqEventRepository.findPage(
+                        null, null, null, PageRequest.of(0, 21))),
+                query("DLQEventRepository.findPage", "next page", t -> t.dlqEventRepository.findPage(
+                        null, Instant.parse("2024-03-01T12:00:00Z"), 720L, PageRequest.of(0, 21))),
+                query("DLQEventRepository.countPage", "all", t -> t.dlqEventRepository.countPage(null))
+                        .allowFullScan("counts every event; the total is cached by ApproximateTotals"),
+                query("DLQEventRepository.countPage", "by reason", t -> t.dlqEventRepository.countPage("refused"))
+                        .allowFullScan("substring match on the reason; the total is cached by ApproximateTotals"),
+                query("DLQEventRepository.deleteByJobAndCreatedAtBefore",
+                        t -> t.dlqEventRepository.deleteByJobAndCreatedAtBefore(t.job, NOW)),
+                query("DLQEventRepository.findUnresolvedEvents", t -> t.dlqEventRepository.findUnresolvedEvents())
+                        .allowFullScan("checks every event against the later runs of its job"),
+
+                query("NotificationRepository.findByUser", t -> t.notificationRepository.findByUser(
+                        t.owner, PageRequest.of(0, 20))),
+                query("NotificationRepository.findByJob", t -> t.notificationRepository.findByJob(
+                        t.job, PageRequest.of(0, 20))),
+                query("NotificationRepository.findPendingNotifications",
+                        t -> t.notificationRepository.findPendingNotifications()),
+                query("NotificationRepository.findPendingNotificationsByChannel",
+                        t -> t.notificationRepository.findPendingNotificationsByChannel(NotificationChannel.EMAIL)),
+                query("NotificationRepository.countRecentNotifications",
+                        t -> t.notificationRepository.countRecentNotifications(
+                                t.owner, Instant.parse("2024-03-02T00:00:00Z"))),
+                query("NotificationRepository.deleteByJobAndUser",
+                        t -> t.notificationRepository.deleteByJobAndUser(t.job, t.owner)),
+
+                query("UserRepository.findByEmail", t -> t.userRepository.findByEmail("user1@example.com")),
+                query("UserRepository.existsByEmail", t -> t.userRepository.existsByEmail("user1@example.com"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void query_SeededData_ReadsThroughIndexes(QueryCase query) {
+        // When
+        List<Plan> plans = PLANS.record(() -> query.getRun().accept(this));
+
+        // Then
+        assertFalse(plans.isEmpty(), "No statement was sent");
+        for (Plan plan : plans) {
+            for (PlanRow row : plan.getRows()) {
+                if (query.getFullScanReason() == null) {
+                    assertNotEquals("ALL", row.getType(), () -> "Full scan of " + row.getTable() + " in\n" + plan);
+                }
+                assertFalse(row.isFilesort(), () -> "Filesort of " + row.getTable() + " in\n" + plan);
+            }
+        }
+    }
+
+    @Test
+    void queries_CoverEveryRepositoryQuery() {
+        // Given
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        // When
+        Set<String> declared = new TreeSet<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents(QueryPlanTest.class.getPackageName())) {
+            Class<?> repository = forName(definition.getBeanClassName());
+            Arrays.stream(repository.getDeclaredMethods())
+                    .filter(method -> !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                    .forEach(method -> declared.add(repository.getSimpleName() + "." + method.getName()));
+        }
+        Set<String> checked = queries().map(QueryCase::getMethod).collect(Collectors.toCollection(TreeSet::new));
+
+        // Then
+        assertEquals(declared, checked);
+    }
+
+    private static QueryCase query(String method, Consumer<QueryPlanTest> run) {
+        return new QueryCase(method, null, run, null);
+    }
+
+    private static QueryCase query(String method, String variant, Consumer<QueryPlanTest> run) {
+        return new QueryCase(method, variant, run, null);
+    }
+
+    // Ids as seeded: a prefix and the row number, 26 characters like a ULID
+    private static String ulid(String prefix, int n) {
+        return prefix + String.format("%021d", n);
+    }
+
+    private static Class<?> forName(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value
+    static class QueryCase {
+        String method;
+        String variant;
+        Consumer<QueryPlanTest> run;
+        String fullScanReason;
+
+        QueryCase allowFullScan(String reason) {
+            return new QueryCase(method, variant, run, reason);
+        }
+
+        @Override
+        public String toString() {
+            return variant == null ? method : method + " (" + variant + ")";
+        }
+    }
+
+    @Value
+    static class Plan {
+        String sql;
+        List<PlanRow> rows;
+
+        @Override
+        public String toString() {
+            return sql + "\n" + rows.stream().map(PlanRow::toString).collect(Collectors.joining("\n"));
+        }
+    }
+
+    @Value
+    static class PlanRow {
+        String table;
+        String type;
+        String key;
+        String extra;
+
+        boolean isFilesort() {
+            return extra != null && extra.contains("Using filesort");
+        }
+    }
+
+    @TestConfiguration
+    static class PlanConfig {
+
+        @Bean
+        static BeanPostProcessor explainingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? PLANS.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * While recording, explains each query on its connection, with the parameters set on it, right
+     * before it runs.
+     */
+    static class PlanRecorder {
+
+        private final List<Plan> plans = new ArrayList<>();
+        private boolean recording;
+
+        List<Plan> record(Runnable queries) {
+            plans.clear();
+            recording = true;
+            try {
+                queries.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(plans);
+        }
+
+        DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        private Connection wrap(Connection target) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (method.getName().equals("prepareStatement")) {
+                    return wrap((PreparedStatement) result, target, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement target, Connection connection, String sql) {
+            List<Object[]> parameters = new ArrayList<>();
+            List<Method> setters = new ArrayList<>();
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    setters.add(method);
+                    parameters.add(args);
+                } else if (name.equals("clearParameters")) {
+                    setters.clear();
+                    parameters.clear();
+                } else if (recording && args == null && isExecute(name) && isQuery(sql)) {
+                    explain(connection, sql, setters, parameters);
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        private void explain(Connection connection, String sql, List<Method> setters, List<Object[]> parameters)
+                throws SQLException, ReflectiveOperationException {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < setters.size(); i++) {
+                    setters.get(i).invoke(explain, parameters.get(i));
+                }
+                List<PlanRow> rows = new ArrayList<>();
+                try (ResultSet result = explain.executeQuery()) {
+                    while (result.next()) {
+                        rows.add(new PlanRow(result.getString("table"), result.getString("type"),
+                                result.getString("key"), result.getString("Extra")));
+                    }
+                }
+                plans.add(new Plan(sql, rows));
+            }
+        }
+
+        private static boolean isExecute(String name) {
+            return name.equals("executeQuery") || name.equals("executeUpdate") || name.equals("execute")
+                    || name.equals("executeLargeUpdate");
+        }
+
+        private static boolean isQuery(String sql) {
+            String statement = sql.stripLeading().toLowerCase();
+            return statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete");
+        }
+
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(QueryPlanTest.class.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.chronos.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel("test-wheel", 5, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void schedule_DelayElapsed_RunsTaskNotBeforeDeadline() throws InterruptedException {
+        // Given
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] firedAfter = new long[1];
+
+        // When
+        wheel.schedule(timeout -> {
+            firedAfter[0] = System.nanoTime() - start;
+            fired.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(firedAfter[0] >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+
+    @Test
+    void schedule_DelayLongerThanOneRotation_RunsAfterRemainingRounds() throws InterruptedException {
+        // Given: 8 buckets of 5ms make a 40ms rotation
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] firedAfter = new long[1];
+
+        // When
+        wheel.schedule(timeout -> {
+            firedAfter[0] = System.nanoTime() - start;
+            fired.countDown();
+        }, 130, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(firedAfter[0] >= TimeUnit.MILLISECONDS.toNanos(130));
+    }
+
+    @Test
+    void cancel_BeforeDeadline_TaskNeverRuns() throws InterruptedException {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        HashedTimingWheel.Timeout timeout = wheel.schedule(t -> runs.incrementAndGet(), 30, TimeUnit.MILLISECONDS);
+
+        // When
+        boolean cancelled = timeout.cancel();
+        Thread.sleep(100);
+
+        // Then
+        assertTrue(cancelled);
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, runs.get());
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+
+    @Test
+    void schedule_ManyTimers_AllFireOnce() throws InterruptedException {
+        // Given
+        int count = 10_000;
+        CountDownLatch fired = new CountDownLatch(count);
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(timeout -> {
+                runs.incrementAndGet();
+                fired.countDown();
+            }, i % 100, TimeUnit.MILLISECONDS);
+        }
+
+        // Then
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(count, runs.get());
+    }
+
+    @Test
+    void cancel_AfterExpiry_ReturnsFalse() throws InterruptedException {
+        // Given
+        CountDownLatch fired = new CountDownLatch(1);
+        HashedTimingWheel.Timeout timeout = wheel.schedule(t -> fired.countDown(), 0, TimeUnit.MILLISECONDS);
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+
+        // When/Then
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+}
@@ -0,0 +1,112 @@
+package com.chronos.service.execution;
+
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
+import com.chronos.exception.JobExecutionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerRegistryTest {
+
+    private static final String TARGET = "https://api.example.com";
+
+    private ExecutionProperties properties;
+    private CircuitBreakerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExecutionProperties();
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(50));
+        registry = new CircuitBreakerRegistry(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void record_ConsecutiveOutages_OpensBreakerAndRejects() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(registry.tryAcquire(TARGET));
+            registry.record(TARGET, outage());
+        }
+
+        // Then
+        assertEquals(CircuitBreakerRegistry.State.OPEN, registry.getState(TARGET));
+        assertFalse(registry.tryAcquire(TARGET));
+        assertTrue(registry.tryAcquire("https://other.example.com"));
+    }
+
+    @Test
+    void record_FailureThatReachedTarget_DoesNotCountAsOutage() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            registry.tryAcquire(TARGET);
+            registry.record(TARGET, new JobExecutionException("HTTP request failed with status: 400"));
+        }
+
+        // Then
+        assertEquals(CircuitBreakerRegistry.State.CLOSED, registry.getState(TARGET));
+    }
+
+    @Test
+    void tryAcquire_AfterOpenDuration_LetsOneProbeThroughAndClosesOnSuccess() throws InterruptedException {
+        // Given
+        openBreaker();
+        Thread.sleep(80);
+
+        // When
+        boolean probe = registry.tryAcquire(TARGET);
+        boolean second = registry.tryAcquire(TARGET);
+        registry.record(TARGET, null);
+
+        // Then
+        assertTrue(probe);
+        assertFalse(second);
+        assertEquals(CircuitBreakerRegistry.State.CLOSED, registry.getState(TARGET));
+        assertTrue(registry.tryAcquire(TARGET));
+    }
+
+    @Test
+    void record_ProbeFails_ReopensBreaker() throws InterruptedException {
+        // Given
+        openBreaker();
+        Thread.sleep(80);
+        assertTrue(registry.tryAcquire(TARGET));
+
+        // When
+        registry.record(TARGET, outage());
+
+        // Then
+        assertEquals(CircuitBreakerRegistry.State.OPEN, registry.getState(TARGET));
+        assertFalse(registry.tryAcquire(TARGET));
+    }
+
+    @Test
+    void tryAcquire_Disabled_AlwaysAllows() {
+        // Given
+        properties.getCircuitBreaker().setEnabled(false);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            registry.record(TARGET, outage());
+        }
+
+        // Then
+        assertTrue(registry.tryAcquire(TARGET));
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 3; i++) {
+            registry.tryAcquire(TARGET);
+            registry.record(TARGET, outage());
+        }
+    }
+
+    private static Throwable outage() {
+        return new JobExecutionException("HTTP request failed: Connection refused", new ConnectException("Connection refused"));
+    }
+}
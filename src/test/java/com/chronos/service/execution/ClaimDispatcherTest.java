@@ -0,0 +1,137 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.JobSchedule;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.enums.ScheduleType;
+import com.chronos.repository.JobClaimRepository;
+import com.chronos.repository.JobClaimRepository.ClaimedRun;
+import com.chronos.repository.JobRepository;
+import com.chronos.service.JobExecutorService;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimDispatcherTest {
+
+    @Mock
+    private JobClaimRepository claimRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobExecutionEngine executionEngine;
+
+    @Mock
+    private JobExecutorService jobExecutorService;
+
+    @Mock
+    private Scheduler scheduler;
+
+    private ClaimDispatcher claimDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JobDefinitionCache definitionCache = new JobDefinitionCache(jobRepository,
+                new ExecutionPlanCompiler(new ObjectMapper()), new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(5));
+        claimDispatcher = new ClaimDispatcher(claimRepository, definitionCache, executionEngine,
+                jobExecutorService, scheduler, true, 50);
+    }
+
+    @Test
+    void poll_JobsDue_ExecutesClaimedRuns() throws Exception {
+        // Given
+        Instant scheduled = Instant.now().minusSeconds(1);
+        ClaimedRun claim = new ClaimedRun("job-1", "run-1", 2, scheduled, Instant.now(), true);
+        when(executionEngine.getAvailableSlots()).thenReturn(10);
+        when(scheduler.getSchedulerInstanceId()).thenReturn("node-1");
+        when(claimRepository.claimDueJobs(any(), eq(10), eq("node-1"))).thenReturn(List.of(claim));
+        when(jobRepository.findAllWithDefinitionByIdIn(argThat(ids -> ids.contains("job-1")))).thenReturn(List.of(job("job-1")));
+
+        // When
+        claimDispatcher.poll();
+
+        // Then
+        ArgumentCaptor<JobRun> runCaptor = ArgumentCaptor.forClass(JobRun.class);
+        verify(jobExecutorService).executeClaimedJob(argThat(job -> job.getId().equals("job-1")),
+                runCaptor.capture(), any());
+        assertEquals("run-1", runCaptor.getValue().getId());
+        assertEquals(2, runCaptor.getValue().getAttempt());
+        assertEquals(scheduled, runCaptor.getValue().getScheduledTime());
+        assertEquals("node-1", runCaptor.getValue().getWorkerId());
+    }
+
+    @Test
+    void poll_NoFreeSlots_DoesNotClaim() {
+        // Given
+        when(executionEngine.getAvailableSlots()).thenReturn(0);
+
+        // When
+        claimDispatcher.poll();
+
+        // Then
+        verifyNoInteractions(claimRepository, jobExecutorService);
+    }
+
+    @Test
+    void poll_RunRejected_ReleasesClaim() throws Exception {
+        // Given
+        ClaimedRun claim = new ClaimedRun("job-1", "run-1", 1, Instant.now(), Instant.now(), false);
+        when(executionEngine.getAvailableSlots()).thenReturn(5);
+        when(scheduler.getSchedulerInstanceId()).thenReturn("node-1");
+        when(claimRepository.claimDueJobs(any(), eq(5), any())).thenReturn(List.of(claim));
+        when(jobRepository.findAllWithDefinitionByIdIn(any())).thenReturn(List.of(job("job-1")));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return null;
+        }).when(jobExecutorService).executeClaimedJob(any(), any(), any());
+
+        // When
+        claimDispatcher.poll();
+
+        // Then
+        verify(claimRepository).releaseClaim(claim);
+    }
+
+    @Test
+    void handles_OnceScheduleWhenEnabled_ReturnsTrue() {
+        // Given
+        Job once = job("job-1");
+        Job highFrequency = job("job-2");
+        highFrequency.getSchedule().setHighFrequency(true);
+        Job interval = job("job-3");
+        interval.getSchedule().setScheduleType(ScheduleType.INTERVAL);
+
+        // When/Then
+        assertTrue(claimDispatcher.handles(once));
+        assertFalse(claimDispatcher.handles(highFrequency));
+        assertFalse(claimDispatcher.handles(interval));
+    }
+
+    private static Job job(String id) {
+        Job job = new Job();
+        job.setId(id);
+        job.setType(JobType.DUMMY);
+        job.setSchedule(JobSchedule.builder().scheduleType(ScheduleType.ONCE).build());
+        return job;
+    }
+}
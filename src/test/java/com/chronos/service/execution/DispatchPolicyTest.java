@@ -0,0 +1,101 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchPolicyTest {
+
+    private static final long NOW = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    void priorityAging_FreshRuns_OrdersByPriority() {
+        // Given
+        DispatchPolicy policy = new PriorityAgingDispatchPolicy(Duration.ofSeconds(30));
+        PendingRun low = run(JobPriority.LOW, 0, NOW - 2);
+        PendingRun high = run(JobPriority.HIGH, 0, NOW - 1);
+
+        // When
+        List<PendingRun> ordered = sort(policy, low, high);
+
+        // Then
+        assertEquals(List.of(high, low), ordered);
+    }
+
+    @Test
+    void priorityAging_LowRunWaitedPastAging_OvertakesHighRun() {
+        // Given
+        DispatchPolicy policy = new PriorityAgingDispatchPolicy(Duration.ofSeconds(30));
+        PendingRun low = run(JobPriority.LOW, 0, NOW - TimeUnit.SECONDS.toNanos(90));
+        PendingRun high = run(JobPriority.HIGH, 0, NOW - 1);
+
+        // When
+        List<PendingRun> ordered = sort(policy, high, low);
+
+        // Then
+        assertEquals(List.of(low, high), ordered);
+    }
+
+    @Test
+    void earliestDeadline_HighRunSubmittedLater_DueFirst() {
+        // Given
+        DispatchPolicy policy = new EarliestDeadlineDispatchPolicy(Map.of(
+                JobPriority.HIGH, Duration.ofSeconds(5),
+                JobPriority.MEDIUM, Duration.ofSeconds(60),
+                JobPriority.LOW, Duration.ofMinutes(10)));
+        PendingRun medium = run(JobPriority.MEDIUM, 0, NOW - TimeUnit.SECONDS.toNanos(10));
+        PendingRun high = run(JobPriority.HIGH, 0, NOW);
+
+        // When
+        List<PendingRun> ordered = sort(policy, medium, high);
+
+        // Then
+        assertEquals(List.of(high, medium), ordered);
+    }
+
+    @Test
+    void earliestDeadline_MissingPriority_Throws() {
+        // When/Then
+        assertThrows(IllegalArgumentException.class, () -> new EarliestDeadlineDispatchPolicy(
+                Map.of(JobPriority.HIGH, Duration.ofSeconds(5))));
+    }
+
+    @Test
+    void shortestExpectedDuration_OrdersByHistoricalDuration() {
+        // Given
+        DispatchPolicy policy = new ShortestExpectedDurationDispatchPolicy();
+        PendingRun slow = run(JobPriority.HIGH, 5_000, NOW - 2);
+        PendingRun fast = run(JobPriority.LOW, 50, NOW - 1);
+
+        // When
+        List<PendingRun> ordered = sort(policy, slow, fast);
+
+        // Then
+        assertEquals(List.of(fast, slow), ordered);
+    }
+
+    private static List<PendingRun> sort(DispatchPolicy policy, PendingRun... runs) {
+        List<PendingRun> list = new ArrayList<>(List.of(runs));
+        list.sort(policy.order(NOW));
+        return list;
+    }
+
+    private static PendingRun run(JobPriority priority, long expectedDurationMs, long submittedNanos) {
+        return PendingRun.builder()
+                .type(JobType.HTTP)
+                .priority(priority)
+                .expectedDurationMs(expectedDurationMs)
+                .submittedNanos(submittedNanos)
+                .task(() -> { })
+                .onRejected(() -> { })
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.Job;
+import com.chronos.repository.JobRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DurationEstimatorTest {
+
+    private final Job job = Job.builder().id("job-1").build();
+
+    private JobRunRepository jobRunRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobRunRepository = mock(JobRunRepository.class);
+    }
+
+    @Test
+    void estimate_PolicyWithoutDurations_DoesNotQueryHistory() {
+        // Given
+        DurationEstimator estimator = estimator(DispatchPolicy.FIFO);
+
+        // When
+        long estimate = estimator.estimate(job);
+        estimator.record("job-1", 500);
+
+        // Then
+        assertEquals(0, estimate);
+        assertEquals(0, estimator.estimate(job));
+        verifyNoInteractions(jobRunRepository);
+    }
+
+    @Test
+    void estimate_HistoryStillLoading_ReturnsZeroWithoutWaiting() throws Exception {
+        // Given
+        CountDownLatch loaded = new CountDownLatch(1);
+        when(jobRunRepository.getAverageDuration(eq(job), any(), any())).thenAnswer(invocation -> {
+            loaded.await(5, TimeUnit.SECONDS);
+            return 1200.0;
+        });
+        DurationEstimator estimator = estimator(new ShortestExpectedDurationDispatchPolicy());
+
+        // When
+        long first = estimator.estimate(job);
+        loaded.countDown();
+
+        // Then
+        assertEquals(0, first);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (estimator.estimate(job) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1200, estimator.estimate(job));
+        verify(jobRunRepository, times(1)).getAverageDuration(eq(job), any(), any());
+    }
+
+    @Test
+    void record_AfterHistory_MovesEstimateTowardsObservedDuration() throws Exception {
+        // Given
+        when(jobRunRepository.getAverageDuration(eq(job), any(), any())).thenReturn(1000.0);
+        DurationEstimator estimator = estimator(new ShortestExpectedDurationDispatchPolicy());
+        estimator.estimate(job);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (estimator.estimate(job) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // When
+        estimator.record("job-1", 2000);
+
+        // Then
+        assertEquals(1300, estimator.estimate(job));
+    }
+
+    private DurationEstimator estimator(DispatchPolicy policy) {
+        return new DurationEstimator(jobRunRepository, policy, 100, Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,131 @@
+package com.chronos.service.execution;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobSchedule;
+import com.chronos.domain.model.RetryPolicy;
+import com.chronos.domain.model.enums.BackoffStrategy;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.enums.ScheduleType;
+import com.chronos.exception.ResourceNotFoundException;
+import com.chronos.repository.JobRepository;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobDefinitionCacheTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private JobDefinitionCache definitionCache;
+
+    @BeforeEach
+    void setUp() {
+        definitionCache = new JobDefinitionCache(jobRepository, new ExecutionPlanCompiler(new ObjectMapper()),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void get_RepeatedCalls_LoadsJobOnce() {
+        // Given
+        when(jobRepository.findById("job-1")).thenReturn(Optional.of(job("job-1", 3)));
+
+        // When
+        JobDefinition first = definitionCache.get("job-1");
+        JobDefinition second = definitionCache.get("job-1");
+
+        // Then
+        assertSame(first, second);
+        assertEquals(3, first.getMaxAttempts());
+        verify(jobRepository, times(1)).findById("job-1");
+    }
+
+    @Test
+    void get_AfterInvalidate_ReloadsJob() {
+        // Given
+        when(jobRepository.findById("job-1"))
+                .thenReturn(Optional.of(job("job-1", 3)))
+                .thenReturn(Optional.of(job("job-1", 5)));
+        definitionCache.get("job-1");
+
+        // When
+        definitionCache.invalidate("job-1");
+        JobDefinition reloaded = definitionCache.get("job-1");
+
+        // Then
+        assertEquals(5, reloaded.getMaxAttempts());
+        verify(jobRepository, times(2)).findById("job-1");
+    }
+
+    @Test
+    void get_MissingJob_ThrowsNotFound() {
+        // Given
+        when(jobRepository.findById("missing")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class, () -> definitionCache.get("missing"));
+    }
+
+    @Test
+    void getAll_PartlyCached_LoadsOnlyMisses() {
+        // Given
+        when(jobRepository.findById("job-1")).thenReturn(Optional.of(job("job-1", 3)));
+        definitionCache.get("job-1");
+        when(jobRepository.findAllWithDefinitionByIdIn(argThat(ids -> ids.size() == 2 && !ids.contains("job-1"))))
+                .thenReturn(List.of(job("job-2", 3)));
+
+        // When
+        Map<String, JobDefinition> definitions = definitionCache.getAll(List.of("job-1", "job-2", "job-3"));
+
+        // Then
+        assertEquals(2, definitions.size());
+        assertTrue(definitions.containsKey("job-1"));
+        assertTrue(definitions.containsKey("job-2"));
+    }
+
+    @Test
+    void nextRetryTime_ExponentialBackoff_DoublesPerAttempt() {
+        // Given
+        Job job = job("job-1", 5);
+        job.getRetryPolicy().setBackoffStrategy(BackoffStrategy.EXPONENTIAL);
+        JobDefinition definition = JobDefinition.of(job);
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        // When/Then
+        assertEquals(now.plusSeconds(10), definition.nextRetryTime(1, now));
+        assertEquals(now.plusSeconds(40), definition.nextRetryTime(3, now));
+        assertTrue(definition.shouldRetry(4));
+        assertFalse(definition.shouldRetry(5));
+    }
+
+    private static Job job(String id, int maxAttempts) {
+        Job job = new Job();
+        job.setId(id);
+        job.setVersion(1L);
+        job.setType(JobType.DUMMY);
+        job.setSchedule(JobSchedule.builder().scheduleType(ScheduleType.ONCE).build());
+        job.setRetryPolicy(RetryPolicy.builder()
+                .maxAttempts(maxAttempts)
+                .backoffStrategy(BackoffStrategy.FIXED)
+                .backoffSeconds(10)
+                .retryOn(List.of())
+                .build());
+        return job;
+    }
+}
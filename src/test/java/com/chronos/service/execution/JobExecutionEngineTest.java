@@ -0,0 +1,285 @@
+package com.chronos.service.execution;
+
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
+import com.chronos.domain.model.enums.JobPriority;
+import com.chronos.domain.model.enums.JobType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobExecutionEngineTest {
+
+    private ExecutionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private JobExecutionEngine engine;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExecutionProperties();
+        properties.setDefaultTypeConcurrency(1);
+        properties.setDefaultQueueCapacity(1);
+        meterRegistry = new SimpleMeterRegistry();
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void submit_SlotFree_StartsRun() throws InterruptedException {
+        // Given
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, ran::countDown, () -> { }));
+
+        // Then
+        assertEquals(Admission.STARTED, admission);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_TypeLimitReached_QueuesAndDispatchesWhenSlotFrees() throws InterruptedException {
+        // Given
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(run(JobType.HTTP, this::awaitRelease, () -> { }));
+        CountDownLatch queuedRan = new CountDownLatch(1);
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, queuedRan::countDown, () -> { }));
+
+        // Then
+        assertEquals(Admission.QUEUED, admission);
+        assertEquals(1, engine.getQueuedCount(JobType.HTTP));
+        assertFalse(queuedRan.await(100, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(queuedRan.await(5, TimeUnit.SECONDS));
+        assertEquals(0, engine.getQueuedCount(JobType.HTTP));
+        assertEquals(2, meterRegistry.get("chronos.jobs.admission.wait").tag("type", "HTTP").timer().count());
+    }
+
+    @Test
+    void submit_OtherTypeLimitReached_StartsRun() {
+        // Given
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(run(JobType.SCRIPT, this::awaitRelease, () -> { }));
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, () -> { }, () -> { }));
+
+        // Then
+        assertEquals(Admission.STARTED, admission);
+    }
+
+    @Test
+    void submit_QueueFullWithRejectPolicy_InvokesRejectionCallback() {
+        // Given
+        properties.setRejectionPolicy(RejectionPolicy.REJECT);
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(run(JobType.HTTP, this::awaitRelease, () -> { }));
+        engine.submit(run(JobType.HTTP, () -> { }, () -> { }));
+        AtomicBoolean rejected = new AtomicBoolean();
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, () -> fail("should not run"),
+                () -> rejected.set(true)));
+
+        // Then
+        assertEquals(Admission.REJECTED, admission);
+        assertTrue(rejected.get());
+        assertEquals(1.0, meterRegistry.get("chronos.jobs.admission.total")
+                .tags("type", "HTTP", "outcome", "REJECTED").counter().count());
+    }
+
+    @Test
+    void submit_QueueFullWithDropOldestPolicy_EvictsOldestQueuedRun() throws InterruptedException {
+        // Given
+        properties.setRejectionPolicy(RejectionPolicy.DROP_OLDEST);
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(run(JobType.HTTP, this::awaitRelease, () -> { }));
+        AtomicBoolean oldestEvicted = new AtomicBoolean();
+        engine.submit(run(JobType.HTTP, () -> fail("should not run"), () -> oldestEvicted.set(true)));
+        CountDownLatch newestRan = new CountDownLatch(1);
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, newestRan::countDown, () -> { }));
+
+        // Then
+        assertEquals(Admission.QUEUED, admission);
+        assertTrue(oldestEvicted.get());
+        release.countDown();
+        assertTrue(newestRan.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_NoQueueWithDropOldestPolicy_RejectsRun() {
+        // Given
+        properties.setDefaultQueueCapacity(0);
+        properties.setRejectionPolicy(RejectionPolicy.DROP_OLDEST);
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(run(JobType.HTTP, this::awaitRelease, () -> { }));
+        AtomicBoolean rejected = new AtomicBoolean();
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, () -> fail("should not run"),
+                () -> rejected.set(true)));
+
+        // Then
+        assertEquals(Admission.REJECTED, admission);
+        assertTrue(rejected.get());
+        assertEquals(0, engine.getQueuedCount(JobType.HTTP));
+    }
+
+    @Test
+    void submit_QueueFullWithBlockCallerPolicy_BlocksCallerUntilRunCanQueue() throws Exception {
+        // Given
+        properties.setRejectionPolicy(RejectionPolicy.BLOCK_CALLER);
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(run(JobType.HTTP, this::awaitRelease, () -> { }));
+        // Holds the slot once it starts, so the caller can only get the queue entry it leaves
+        CountDownLatch queuedRunRelease = new CountDownLatch(1);
+        engine.submit(run(JobType.HTTP, () -> await(queuedRunRelease), () -> { }));
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<Admission> admission = CompletableFuture.supplyAsync(() -> engine.submit(
+                run(JobType.HTTP, () -> {
+                    threads.add(Thread.currentThread());
+                    ran.countDown();
+                }, () -> { })));
+
+        // Then
+        assertThrows(TimeoutException.class, () -> admission.get(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, engine.getActiveCount(JobType.HTTP));
+        release.countDown();
+        assertEquals(Admission.QUEUED, admission.get(5, TimeUnit.SECONDS));
+        queuedRunRelease.countDown();
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        assertTrue(threads.get(0).isVirtual());
+    }
+
+    @Test
+    void submit_GlobalLimitReached_QueuesRun() {
+        // Given
+        engine = new JobExecutionEngine(properties, 1, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(run(JobType.SCRIPT, this::awaitRelease, () -> { }));
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, () -> { }, () -> { }));
+
+        // Then
+        assertEquals(Admission.QUEUED, admission);
+        assertEquals(1, engine.getQueuedCount(JobType.HTTP));
+    }
+
+    @Test
+    void release_PriorityAgingPolicy_DispatchesHighPriorityRunFirst() throws InterruptedException {
+        // Given
+        properties.setDefaultQueueCapacity(10);
+        engine = new JobExecutionEngine(properties, 10, meterRegistry,
+                new PriorityAgingDispatchPolicy(Duration.ofMinutes(5)));
+        engine.submit(run(JobType.HTTP, this::awaitRelease, () -> { }));
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        for (JobPriority priority : List.of(JobPriority.LOW, JobPriority.LOW, JobPriority.HIGH)) {
+            engine.submit(PendingRun.builder()
+                    .type(JobType.HTTP)
+                    .priority(priority)
+                    .task(() -> {
+                        order.add(priority.name());
+                        done.countDown();
+                    })
+                    .onRejected(() -> { })
+                    .build());
+        }
+
+        // When
+        release.countDown();
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("HIGH", "LOW", "LOW"), order);
+    }
+
+    @Test
+    void submit_TaskReleasesSlotItself_HoldsSlotAfterTaskReturns() throws InterruptedException {
+        // Given
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        AtomicReference<Runnable> releaseSlot = new AtomicReference<>();
+        CountDownLatch returned = new CountDownLatch(1);
+        engine.submit(PendingRun.builder()
+                .type(JobType.HTTP)
+                .onStart(releaseSlot::set)
+                .releasesSlot(true)
+                .task(returned::countDown)
+                .onRejected(() -> { })
+                .build());
+        assertTrue(returned.await(5, TimeUnit.SECONDS));
+        CountDownLatch queuedRan = new CountDownLatch(1);
+
+        // When
+        Admission admission = engine.submit(run(JobType.HTTP, queuedRan::countDown, () -> { }));
+
+        // Then
+        assertEquals(Admission.QUEUED, admission);
+        releaseSlot.get().run();
+        assertTrue(queuedRan.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_ResourceClassLimitReached_QueuesRunOfOtherType() {
+        // Given
+        properties.setResourceConcurrency(new EnumMap<>(Map.of(ResourceClass.PROCESS, 1)));
+        engine = new JobExecutionEngine(properties, 10, meterRegistry, DispatchPolicy.FIFO);
+        engine.submit(PendingRun.builder().type(JobType.SCRIPT).resourceClass(ResourceClass.PROCESS)
+                .task(this::awaitRelease).onRejected(() -> { }).build());
+
+        // When
+        Admission admission = engine.submit(PendingRun.builder().type(JobType.FILE_SYSTEM)
+                .resourceClass(ResourceClass.PROCESS).task(() -> { }).onRejected(() -> { }).build());
+
+        // Then
+        assertEquals(Admission.QUEUED, admission);
+        assertEquals(Admission.STARTED, engine.submit(run(JobType.HTTP, () -> { }, () -> { })));
+    }
+
+    private static PendingRun run(JobType type, Runnable task, Runnable onRejected) {
+        return PendingRun.builder().type(type).task(task).onRejected(onRejected).build();
+    }
+
+    private void awaitRelease() {
+        await(release);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
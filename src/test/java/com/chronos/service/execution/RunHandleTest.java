@@ -0,0 +1,129 @@
+package com.chronos.service.execution;
+
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
+import com.chronos.domain.model.enums.JobType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunHandleTest {
+
+    @Test
+    void cancel_BeforeStart_RunDoesNotStart() {
+        // Given
+        RunHandle handle = new RunHandle("job-1", "run-1");
+        AtomicInteger released = new AtomicInteger();
+
+        // When
+        assertTrue(handle.cancel(CancellationReason.CANCELLED));
+        boolean started = handle.start(Thread.currentThread(), released::incrementAndGet);
+
+        // Then
+        assertFalse(started);
+        assertEquals(1, released.get());
+        assertEquals(CancellationReason.CANCELLED, handle.getCancellation());
+    }
+
+    @Test
+    void cancel_Running_InterruptsThreadAndReleasesSlotOnce() throws InterruptedException {
+        // Given
+        RunHandle handle = new RunHandle("job-1", "run-1");
+        AtomicInteger released = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Thread worker = Thread.ofVirtual().start(() -> {
+            handle.start(Thread.currentThread(), released::incrementAndGet);
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        boolean first = handle.cancel(CancellationReason.TIMED_OUT);
+        boolean second = handle.cancel(CancellationReason.CANCELLED);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1, released.get());
+        assertEquals(CancellationReason.TIMED_OUT, handle.getCancellation());
+        worker.join(5000);
+    }
+
+    @Test
+    void cancel_ProcessAttached_DestroysProcessTree() throws Exception {
+        // Given
+        RunHandle handle = new RunHandle("job-1", "run-1");
+        Process process = new ProcessBuilder("bash", "-c", "sleep 60 & wait").start();
+        handle.attachProcess(process);
+
+        // When
+        handle.cancel(CancellationReason.CANCELLED);
+
+        // Then
+        assertTrue(process.waitFor(5, TimeUnit.SECONDS));
+        assertEquals(0, process.descendants().filter(ProcessHandle::isAlive).count());
+    }
+
+    @Test
+    void cancel_RunHoldingSlot_DispatchesQueuedRun() throws InterruptedException {
+        // Given
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.setDefaultTypeConcurrency(1);
+        JobExecutionEngine engine = new JobExecutionEngine(properties, 10, new SimpleMeterRegistry(), DispatchPolicy.FIFO);
+        RunHandle handle = new RunHandle("job-1", "run-1");
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch queuedRan = new CountDownLatch(1);
+        // A run that ignores interrupts keeps its thread but not its slot
+        engine.submit(PendingRun.builder()
+                .type(JobType.SCRIPT)
+                .jobId("job-1")
+                .onStart(releaseSlot -> handle.start(Thread.currentThread(), releaseSlot))
+                .task(() -> {
+                    started.countDown();
+                    awaitUninterruptibly(stuck);
+                })
+                .onRejected(() -> { })
+                .build());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(Admission.QUEUED, engine.submit(PendingRun.builder()
+                .type(JobType.SCRIPT)
+                .jobId("job-2")
+                .task(queuedRan::countDown)
+                .onRejected(() -> { })
+                .build()));
+
+        try {
+            // When
+            handle.cancel(CancellationReason.TIMED_OUT);
+
+            // Then
+            assertTrue(queuedRan.await(5, TimeUnit.SECONDS));
+        } finally {
+            stuck.countDown();
+            engine.shutdown();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // Simulates a blocking call that does not respond to interrupts
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.chronos.service.execution.plan;
+
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobPayload;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.payload.DbToKafkaJobPayload;
+import com.chronos.domain.model.payload.FileSystemJobPayload;
+import com.chronos.domain.model.payload.HttpJobPayload;
+import com.chronos.domain.model.payload.ScriptJobPayload;
+import com.chronos.exception.JobExecutionException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExecutionPlanCompilerTest {
+
+    private ObjectMapper objectMapper;
+    private ExecutionPlanCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = mock(ObjectMapper.class);
+        compiler = new ExecutionPlanCompiler(objectMapper);
+    }
+
+    @Test
+    void compile_DbToKafkaWithOffsetAndNoWhere_AppendsBoundOffsetCondition() {
+        // Given
+        DbToKafkaJobPayload payload = dbToKafka("SELECT * FROM orders");
+        payload.setOffsetField("id");
+        payload.setLastProcessedValue("42");
+        payload.setMaxRecords(500);
+
+        // When
+        DbToKafkaExecutionPlan plan = (DbToKafkaExecutionPlan) compiler.compile(job(JobType.DB_TO_KAFKA, payload));
+
+        // Then
+        assertEquals("SELECT * FROM orders ORDER BY id ASC LIMIT 500", plan.getQuery());
+        assertEquals("SELECT * FROM orders WHERE id > ? ORDER BY id ASC LIMIT 500", plan.getOffsetQuery());
+        assertEquals("42", plan.getInitialOffset());
+        assertEquals("id", plan.getOffsetField());
+        assertEquals("orders", plan.getTableName());
+        verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    void compile_DbToKafkaWithOffsetAndWhere_PrependsOffsetToExistingCondition() {
+        // Given
+        DbToKafkaJobPayload payload = dbToKafka("SELECT * FROM orders where status = 'NEW'");
+        payload.setOffsetField("updated_at");
+        payload.setLastProcessedValue("2024-06-01 00:00:00");
+
+        // When
+        DbToKafkaExecutionPlan plan = compiler.compileDbToKafka(payload);
+
+        // Then
+        assertEquals("SELECT * FROM orders  WHERE updated_at > ? AND status = 'NEW' ORDER BY updated_at ASC",
+                plan.getOffsetQuery());
+        assertEquals("SELECT * FROM orders where status = 'NEW' ORDER BY updated_at ASC", plan.getQuery());
+        assertFalse(plan.getOffsetQuery().contains("2024-06-01"));
+    }
+
+    @Test
+    void compile_DbToKafkaWithoutOffset_KeepsQueryAndHasNoOffsetQuery() {
+        // Given
+        DbToKafkaJobPayload payload = dbToKafka("  SELECT id, total FROM orders ORDER BY total LIMIT 10  ");
+        payload.setMaxRecords(500);
+
+        // When
+        DbToKafkaExecutionPlan plan = compiler.compileDbToKafka(payload);
+
+        // Then
+        assertEquals("SELECT id, total FROM orders ORDER BY total LIMIT 10", plan.getQuery());
+        assertNull(plan.getOffsetQuery());
+        assertNull(plan.getInitialOffset());
+        assertEquals(1000, plan.getBatchSize());
+    }
+
+    @Test
+    void compile_DbToKafkaWithoutOffsetOrLimit_AddsOnlyMaxRecords() {
+        // Given
+        DbToKafkaJobPayload payload = dbToKafka("SELECT * FROM orders WHERE status = 'NEW'");
+        payload.setMaxRecords(50);
+
+        // When
+        DbToKafkaExecutionPlan plan = compiler.compileDbToKafka(payload);
+
+        // Then
+        assertEquals("SELECT * FROM orders WHERE status = 'NEW' LIMIT 50", plan.getQuery());
+        assertNull(plan.getOffsetQuery());
+    }
+
+    @Test
+    void compile_HttpWithClientManagedHeaders_DropsThemAndDefaultsContentType() {
+        // Given
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Host", "example.com");
+        headers.put("Content-Length", "5");
+        headers.put("CONNECTION", "keep-alive");
+        headers.put("X-Trace", "abc");
+        HttpJobPayload payload = http("post", "hello", headers);
+
+        // When
+        HttpExecutionPlan plan = (HttpExecutionPlan) compiler.compile(job(JobType.HTTP, payload));
+
+        // Then
+        HttpRequest request = plan.getRequest();
+        assertEquals("POST", plan.getMethod());
+        assertEquals(Optional.of("abc"), request.headers().firstValue("X-Trace"));
+        assertTrue(request.headers().firstValue("Host").isEmpty());
+        assertTrue(request.headers().firstValue("Content-Length").isEmpty());
+        assertTrue(request.headers().firstValue("Connection").isEmpty());
+        assertEquals(Optional.of("text/plain;charset=UTF-8"), request.headers().firstValue("Content-Type"));
+    }
+
+    @Test
+    void compile_HttpWithContentType_KeepsIt() {
+        // Given
+        HttpJobPayload payload = http("PUT", "{}", Map.of("content-type", "application/json"));
+
+        // When
+        HttpExecutionPlan plan = compiler.compileHttp(payload);
+
+        // Then
+        assertEquals(List.of("application/json"), plan.getRequest().headers().allValues("Content-Type"));
+    }
+
+    @Test
+    void compile_HttpWithoutBody_SetsNoContentType() {
+        // Given
+        HttpJobPayload payload = http("GET", null, null);
+
+        // When
+        HttpExecutionPlan plan = compiler.compileHttp(payload);
+
+        // Then
+        assertTrue(plan.getRequest().headers().firstValue("Content-Type").isEmpty());
+        assertFalse(plan.isCaptureResponse());
+    }
+
+    @Test
+    void compile_PayloadOfOtherType_ThrowsJobExecutionException() {
+        // Given
+        ScriptJobPayload payload = new ScriptJobPayload();
+        payload.setScript("echo hi");
+
+        // When / Then
+        assertThrows(JobExecutionException.class, () -> compiler.compile(job(JobType.HTTP, payload)));
+        assertThrows(JobExecutionException.class, () -> compiler.compile(job(JobType.DB_TO_KAFKA, payload)));
+        assertThrows(JobExecutionException.class, () -> compiler.compile(job(JobType.FILE_SYSTEM, payload)));
+    }
+
+    @Test
+    void compile_FileSystemWithoutParameters_MatchesEverythingInTopDirectory() {
+        // Given
+        FileSystemJobPayload payload = fileSystem(null);
+
+        // When
+        FileSystemExecutionPlan plan = (FileSystemExecutionPlan) compiler.compile(job(JobType.FILE_SYSTEM, payload));
+
+        // Then
+        assertEquals("DELETE", plan.getOperation());
+        assertEquals(Path.of("/tmp/chronos"), plan.getPath());
+        assertNull(plan.getTargetPath());
+        assertEquals(1, plan.getMaxDepth());
+        assertEquals(1, plan.getMatchers().size());
+        assertTrue(plan.getMatchers().get(0).matches(Path.of("report.csv")));
+        assertNull(plan.getCompressionType());
+    }
+
+    @Test
+    void compile_FileSystemRecursiveWithPatterns_WalksAllLevelsAndMatchesPatterns() {
+        // Given
+        FileSystemJobPayload payload = fileSystem(Map.of(
+                "recursive", true,
+                "filePatterns", List.of("*.log", "*.tmp"),
+                "compressionType", "GZIP"));
+
+        // When
+        FileSystemExecutionPlan plan = compiler.compileFileSystem(payload);
+
+        // Then
+        assertEquals(Integer.MAX_VALUE, plan.getMaxDepth());
+        assertEquals(2, plan.getMatchers().size());
+        assertTrue(plan.getMatchers().get(0).matches(Path.of("app.log")));
+        assertFalse(plan.getMatchers().get(0).matches(Path.of("app.txt")));
+        assertTrue(plan.getMatchers().get(1).matches(Path.of("upload.tmp")));
+        assertEquals("GZIP", plan.getCompressionType());
+    }
+
+    private static Job job(JobType type, JobPayload payload) {
+        return Job.builder().id("job-1").type(type).payload(payload).build();
+    }
+
+    private static DbToKafkaJobPayload dbToKafka(String query) {
+        DbToKafkaJobPayload payload = new DbToKafkaJobPayload();
+        payload.setDatabaseUrl("jdbc:mysql://db:3306/shop");
+        payload.setQuery(query);
+        payload.setKafkaTopic("orders");
+        return payload;
+    }
+
+    private static HttpJobPayload http(String method, String body, Map<String, String> headers) {
+        HttpJobPayload payload = new HttpJobPayload();
+        payload.setHttpUrl("https://example.com/hook");
+        payload.setHttpMethod(method);
+        payload.setHttpBody(body);
+        payload.setHttpHeaders(headers);
+        return payload;
+    }
+
+    private static FileSystemJobPayload fileSystem(Map<String, Object> parameters) {
+        FileSystemJobPayload payload = new FileSystemJobPayload();
+        payload.setPath("/tmp/chronos");
+        payload.setOperation("delete");
+        payload.setParameters(parameters);
+        return payload;
+    }
+}
@@ -6,12 +6,14 @@ import com.chronos.domain.model.payload.DatabaseJobPayload;
 import com.chronos.event.JobLogEvent;
 import com.chronos.exception.JobExecutionException;
 import com.chronos.config.DatabaseJobDataSourceFactory;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
@@ -28,8 +30,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class DatabaseJobExecutorTest {
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private ExecutionPlanCompiler planCompiler = new ExecutionPlanCompiler(new ObjectMapper());
 
     @Mock
     private DatabaseJobDataSourceFactory dataSourceFactory;
@@ -76,8 +78,6 @@ class DatabaseJobExecutorTest {
         testJobRun.setAttempt(1);
 
         // Setup mocks
-        when(objectMapper.convertValue(any(), eq(DatabaseJobPayload.class)))
-            .thenReturn(databasePayload);
         when(dataSourceFactory.createJdbcTemplate(any(DatabaseJobPayload.class))).thenReturn(jdbcTemplate);
     }
 
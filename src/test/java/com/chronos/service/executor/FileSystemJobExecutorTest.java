@@ -5,6 +5,7 @@ import com.chronos.domain.model.enums.*;
 import com.chronos.domain.model.payload.FileSystemJobPayload;
 import com.chronos.event.JobLogEvent;
 import com.chronos.exception.JobExecutionException;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -28,8 +30,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class FileSystemJobExecutorTest {
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private ExecutionPlanCompiler planCompiler = new ExecutionPlanCompiler(new ObjectMapper());
 
     @Mock
     private ApplicationEventPublisher eventPublisher;
@@ -66,9 +68,6 @@ class FileSystemJobExecutorTest {
         testJobRun.setScheduledTime(Instant.now());
         testJobRun.setAttempt(1);
 
-        // Setup mocks
-        when(objectMapper.convertValue(any(), eq(FileSystemJobPayload.class)))
-            .thenReturn(fileSystemPayload);
     }
 
     @Test
@@ -0,0 +1,65 @@
+package com.chronos.service.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HostConcurrencyLimiterTest {
+
+    private static final URI API = URI.create("https://api.example.com/v1/items");
+    private static final URI OTHER = URI.create("https://other.example.com/");
+
+    @Test
+    void acquire_OverLimit_WaitsUntilRelease() {
+        // Given
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1);
+        CompletableFuture<Void> first = limiter.acquire(API);
+
+        // When
+        CompletableFuture<Void> second = limiter.acquire(API);
+        CompletableFuture<Void> otherHost = limiter.acquire(OTHER);
+
+        // Then
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertTrue(otherHost.isDone());
+
+        limiter.release(API);
+        assertTrue(second.isDone());
+        assertEquals(1, limiter.inFlight(API));
+    }
+
+    @Test
+    void release_CancelledWaiter_PassesPermitToNextWaiter() {
+        // Given
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1);
+        limiter.acquire(API);
+        CompletableFuture<Void> cancelled = limiter.acquire(API);
+        CompletableFuture<Void> waiting = limiter.acquire(API);
+        cancelled.cancel(false);
+
+        // When
+        limiter.release(API);
+
+        // Then
+        assertTrue(waiting.isDone());
+        assertFalse(waiting.isCompletedExceptionally());
+        assertEquals(1, limiter.inFlight(API));
+    }
+
+    @Test
+    void release_LastPermit_ForgetsHost() {
+        // Given
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(2);
+        limiter.acquire(API);
+
+        // When
+        limiter.release(API);
+
+        // Then
+        assertEquals(0, limiter.inFlight(API));
+    }
+}
@@ -0,0 +1,126 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.HttpJobClientConfig.HostLimits;
+import com.chronos.config.HttpJobClientConfig.HttpJobProperties;
+import com.chronos.config.HttpJobClientConfig.RateLimit;
+import com.chronos.exception.JobExecutionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HostRateLimiterTest {
+
+    private static final URI API = URI.create("https://api.example.com/v1/items");
+    private static final URI OTHER = URI.create("https://other.example.com/");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpJobProperties properties;
+    private HostRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HttpJobProperties();
+        RateLimit rateLimit = new RateLimit();
+        rateLimit.setRequests(10);
+        rateLimit.setPeriod(Duration.ofSeconds(1));
+        rateLimit.setBurst(1);
+        HostLimits apiLimits = new HostLimits();
+        apiLimits.setRateLimit(rateLimit);
+        properties.getHosts().put("api.example.com", apiLimits);
+        limiter = new HostRateLimiter(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    void acquire_BucketEmpty_WaitsForTokenAndRecordsDelay() throws Exception {
+        // Given
+        // Measured from before the first token, the next one is 100 ms later however slow the test thread is
+        long start = System.nanoTime();
+        limiter.acquire(API, "job-1", null).get(1, TimeUnit.SECONDS);
+
+        // When
+        limiter.acquire(API, "job-1", null).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertEquals(2, meterRegistry.get("chronos.http.throttle.delay").tag("host", "api.example.com").timer().count());
+    }
+
+    @Test
+    void acquire_WaitOverMaximum_FailsWithJobExecutionException() throws Exception {
+        // Given
+        properties.setMaxThrottleWait(Duration.ofMillis(10));
+        limiter.acquire(API, "job-1", null).get(1, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<Void> throttled = limiter.acquire(API, "job-1", null);
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> throttled.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(JobExecutionException.class, e.getCause());
+        assertEquals(1.0, meterRegistry.get("chronos.http.throttle.rejections").counter().count());
+    }
+
+    @Test
+    void acquire_HostWithoutLimit_IsNotThrottled() {
+        // When/Then
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.acquire(OTHER, "job-1", null).isDone());
+        }
+    }
+
+    @Test
+    void acquire_JobOverride_StillTakesHostToken() throws Exception {
+        // Given
+        properties.setMaxThrottleWait(Duration.ofMillis(10));
+        limiter.acquire(API, "job-1", null).get(1, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<Void> overridden = limiter.acquire(API, "job-2", 600);
+
+        // Then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> overridden.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(JobExecutionException.class, e.getCause());
+    }
+
+    @Test
+    void acquire_JobOverrideBelowHostRate_ThrottlesOnlyThatJob() throws Exception {
+        // Given
+        properties.setMaxThrottleWait(Duration.ofMillis(500));
+        limiter.acquire(API, "job-2", 1).get(1, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<Void> sameJob = limiter.acquire(API, "job-2", 1);
+        CompletableFuture<Void> otherJob = limiter.acquire(API, "job-1", null);
+
+        // Then
+        assertThrows(ExecutionException.class, () -> sameJob.get(1, TimeUnit.SECONDS));
+        assertDoesNotThrow(() -> otherJob.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void acquire_JobOverrideWithoutHostLimit_UsesJobBucket() throws Exception {
+        // Given
+        properties.setMaxThrottleWait(Duration.ofMillis(10));
+        limiter.acquire(OTHER, "job-1", 1).get(1, TimeUnit.SECONDS);
+
+        // When
+        CompletableFuture<Void> throttled = limiter.acquire(OTHER, "job-1", 1);
+
+        // Then
+        assertThrows(ExecutionException.class, () -> throttled.get(1, TimeUnit.SECONDS));
+    }
+}
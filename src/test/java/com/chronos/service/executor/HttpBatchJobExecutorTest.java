@@ -0,0 +1,156 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
+import com.chronos.config.HttpJobClientConfig.HttpJobProperties;
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.payload.HttpBatchJobPayload;
+import com.chronos.repository.JobRunRepository;
+import com.chronos.service.JobExecutorService;
+import com.chronos.service.execution.CircuitBreakerRegistry;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class HttpBatchJobExecutorTest {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+
+    private HttpServer server;
+    private HttpClient client;
+    private JobRunRepository jobRunRepository;
+    private HttpBatchJobExecutor executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            received.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            int status = exchange.getRequestURI().getPath().startsWith("/fail") ? 500 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+
+        HttpJobProperties properties = new HttpJobProperties();
+        properties.setVersion(HttpClient.Version.HTTP_1_1);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBean(JobExecutorService.class)).thenReturn(mock(JobExecutorService.class));
+        jobRunRepository = mock(JobRunRepository.class);
+        executor = new HttpBatchJobExecutor(applicationContext, new ExecutionPlanCompiler(new ObjectMapper()),
+                client, properties, new HostRateLimiter(properties, new SimpleMeterRegistry()),
+                new HostConcurrencyLimiter(properties), new CircuitBreakerRegistry(new ExecutionProperties(), new SimpleMeterRegistry()), jobRunRepository,
+                new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        client.close();
+    }
+
+    @Test
+    void executeAsync_TemplateBatch_SendsAllWithinConcurrencyAndRecordsStats() throws Exception {
+        // Given
+        HttpBatchJobPayload payload = payload(3, 0);
+        payload.setBatchUrlTemplate(baseUrl() + "/items/{value}");
+        payload.setBatchTemplateValues(IntStream.range(0, 20).mapToObj(String::valueOf).toList());
+
+        // When
+        RunResult result = run(payload);
+
+        // Then
+        assertTrue(result.isSuccess());
+        assertEquals(20, received.get());
+        assertTrue(maxInFlight.get() <= 3);
+        assertEquals(20, result.getDetails().get("succeeded"));
+        assertEquals(0, result.getDetails().get("failed"));
+        assertTrue(result.getDetails().containsKey("p99Ms"));
+        JsonNode stored = storedStats();
+        assertEquals(20, stored.get("total").asInt());
+        assertEquals(20, stored.get("succeeded").asInt());
+        assertEquals(0, stored.get("failed").asInt());
+        assertEquals(0, stored.get("skipped").asInt());
+        assertTrue(stored.has("p99Ms"));
+    }
+
+    @Test
+    void executeAsync_FailuresOverLimit_FailsRunAndSkipsRemainingRequests() throws Exception {
+        // Given
+        HttpBatchJobPayload payload = payload(1, 1);
+        payload.setBatchUrls(List.of(
+                baseUrl() + "/fail/1", baseUrl() + "/fail/2", baseUrl() + "/ok/3", baseUrl() + "/ok/4"));
+
+        // When
+        RunResult result = run(payload);
+
+        // Then
+        assertFalse(result.isSuccess());
+        assertEquals("2 of 4 batch requests failed", result.getMessage());
+        assertEquals(2, received.get());
+        assertEquals(2, result.getDetails().get("skipped"));
+        assertEquals(2, ((List<?>) result.getDetails().get("errors")).size());
+        JsonNode stored = storedStats();
+        assertEquals(2, stored.get("failed").asInt());
+        assertEquals(2, stored.get("skipped").asInt());
+        assertEquals(2, stored.get("errors").size());
+    }
+
+    private JsonNode storedStats() throws Exception {
+        ArgumentCaptor<String> stats = ArgumentCaptor.forClass(String.class);
+        verify(jobRunRepository).updateStats(eq("run-1"), stats.capture());
+        return new ObjectMapper().readTree(stats.getValue());
+    }
+
+    private RunResult run(HttpBatchJobPayload payload) throws Exception {
+        Job job = Job.builder().id("job-1").type(JobType.HTTP_BATCH).payload(payload).build();
+        JobRun run = JobRun.builder().id("run-1").job(job).attempt(1).build();
+        return executor.executeAsync(RunContext.builder().job(job).run(run).build())
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static HttpBatchJobPayload payload(int concurrency, int maxFailures) {
+        HttpBatchJobPayload payload = new HttpBatchJobPayload();
+        payload.setHttpMethod("GET");
+        payload.setBatchConcurrency(concurrency);
+        payload.setBatchMaxFailures(maxFailures);
+        return payload;
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+}
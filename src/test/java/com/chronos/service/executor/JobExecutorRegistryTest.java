@@ -0,0 +1,52 @@
+package com.chronos.service.executor;
+
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.exception.JobExecutionException;
+import com.chronos.service.execution.ResourceClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobExecutorRegistryTest {
+
+    @Test
+    void get_RegisteredType_ReturnsExecutor() {
+        // Given
+        JobTypeExecutor script = executor(JobType.SCRIPT, ResourceClass.PROCESS);
+        JobExecutorRegistry registry = new JobExecutorRegistry(List.of(script, executor(JobType.HTTP, ResourceClass.IO)));
+
+        // When/Then
+        assertSame(script, registry.get(JobType.SCRIPT));
+        assertEquals(ResourceClass.PROCESS, registry.getResourceClass(JobType.SCRIPT));
+    }
+
+    @Test
+    void get_UnregisteredType_ThrowsJobExecutionException() {
+        // Given
+        JobExecutorRegistry registry = new JobExecutorRegistry(List.of(executor(JobType.HTTP, ResourceClass.IO)));
+
+        // When/Then
+        assertThrows(JobExecutionException.class, () -> registry.get(JobType.EMAIL));
+        assertEquals(ResourceClass.IO, registry.getResourceClass(JobType.EMAIL));
+    }
+
+    @Test
+    void constructor_TwoExecutorsForOneType_Throws() {
+        // Given
+        List<JobTypeExecutor> executors = List.of(
+                executor(JobType.HTTP, ResourceClass.IO), executor(JobType.HTTP, ResourceClass.IO));
+
+        // When/Then
+        assertThrows(IllegalStateException.class, () -> new JobExecutorRegistry(executors));
+    }
+
+    private static JobTypeExecutor executor(JobType type, ResourceClass resourceClass) {
+        JobTypeExecutor executor = mock(JobTypeExecutor.class);
+        lenient().when(executor.getJobType()).thenReturn(type);
+        lenient().when(executor.getResourceClass()).thenReturn(resourceClass);
+        return executor;
+    }
+}
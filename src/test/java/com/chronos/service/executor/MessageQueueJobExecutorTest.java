@@ -5,12 +5,14 @@ import com.chronos.domain.model.enums.*;
 import com.chronos.domain.model.payload.MessageQueueJobPayload;
 import com.chronos.event.JobLogEvent;
 import com.chronos.exception.JobExecutionException;
+import com.chronos.service.execution.plan.ExecutionPlanCompiler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
@@ -28,8 +30,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class MessageQueueJobExecutorTest {
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private ExecutionPlanCompiler planCompiler = new ExecutionPlanCompiler(new ObjectMapper());
 
     @Mock
     private ApplicationEventPublisher eventPublisher;
@@ -79,8 +81,6 @@ class MessageQueueJobExecutorTest {
         testJobRun.setAttempt(1);
 
         // Setup mocks
-        when(objectMapper.convertValue(any(), eq(MessageQueueJobPayload.class)))
-            .thenReturn(messageQueuePayload);
         when(applicationContext.getBean(KafkaTemplate.class)).thenReturn(kafkaTemplate);
     }
 
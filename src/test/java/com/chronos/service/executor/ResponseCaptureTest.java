@@ -0,0 +1,76 @@
+package com.chronos.service.executor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCaptureTest {
+
+    private static final byte[] BODY = "id,name\n".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void read_PlainBody_CountsAndDigestsWholeBody() throws Exception {
+        // When
+        ResponseCapture capture = ResponseCapture.read(new ByteArrayInputStream(BODY), null, 0);
+
+        // Then
+        assertEquals(BODY.length, capture.getBytes());
+        assertEquals(sha256(BODY), capture.getSha256());
+        assertNull(capture.getPreview());
+    }
+
+    @Test
+    void read_GzipBody_DecodesAndKeepsBoundedPreview() throws Exception {
+        // Given
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(BODY);
+        }
+
+        // When
+        ResponseCapture capture = ResponseCapture.read(
+                new ByteArrayInputStream(compressed.toByteArray()), "gzip", 16);
+
+        // Then
+        assertEquals(BODY.length, capture.getBytes());
+        assertEquals(sha256(BODY), capture.getSha256());
+        assertEquals("id,name\nid,name\n", capture.getPreview());
+        assertTrue(capture.isTruncated());
+    }
+
+    @Test
+    void read_DeflateBody_Decodes() throws Exception {
+        // Given
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(compressed)) {
+            deflate.write(BODY);
+        }
+
+        // When
+        ResponseCapture capture = ResponseCapture.read(
+                new ByteArrayInputStream(compressed.toByteArray()), "deflate", BODY.length);
+
+        // Then
+        assertEquals(sha256(BODY), capture.getSha256());
+        assertFalse(capture.isTruncated());
+    }
+
+    @Test
+    void read_UnsupportedEncoding_ThrowsIOException() {
+        assertThrows(IOException.class,
+                () -> ResponseCapture.read(new ByteArrayInputStream(BODY), "br", 0));
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
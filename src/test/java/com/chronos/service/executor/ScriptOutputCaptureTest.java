@@ -0,0 +1,118 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.ScriptJobConfig.Output;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptOutputCaptureTest {
+
+    private final List<String> chunks = new CopyOnWriteArrayList<>();
+    private final List<Map<String, Object>> positions = new CopyOnWriteArrayList<>();
+
+    @Test
+    void await_ManyLines_StoresChunksNotLines() throws Exception {
+        // Given
+        Output properties = properties();
+        properties.setChunkSize(DataSize.ofBytes(100));
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append(String.format("line %03d%n", i));
+        }
+
+        // When
+        ScriptOutputCapture.Summary summary = ScriptOutputCapture.start(stream(text.toString()), properties,
+                this::store, "test").await(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(100, summary.getTotalLines());
+        assertEquals(0, summary.getDroppedLines());
+        assertEquals(10, chunks.size());
+        assertTrue(chunks.stream().allMatch(chunk -> chunk.length() < 100));
+        assertEquals(text.toString().strip(), String.join("\n", chunks));
+        assertEquals(Map.of("firstLine", 12L, "lines", 11), positions.get(1));
+    }
+
+    @Test
+    void await_OutputBeyondMaximum_CountsDroppedLines() throws Exception {
+        // Given
+        Output properties = properties();
+        properties.setMaxCapturedSize(DataSize.ofBytes(20));
+
+        // When
+        ScriptOutputCapture.Summary summary = ScriptOutputCapture.start(stream("first\nsecond\nthird\nfourth\nfifth\n"),
+                properties, this::store, "test").await(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(5, summary.getTotalLines());
+        assertEquals(2, summary.getDroppedLines());
+        assertEquals(13, summary.getDroppedBytes());
+        assertEquals(List.of("first\nsecond\nthird"), chunks);
+    }
+
+    @Test
+    void start_QuietScript_FlushesPartialChunkAfterInterval() throws Exception {
+        // Given
+        Output properties = properties();
+        properties.setFlushInterval(Duration.ofMillis(50));
+        PipedOutputStream script = new PipedOutputStream();
+        ScriptOutputCapture capture = ScriptOutputCapture.start(new PipedInputStream(script), properties,
+                this::store, "test");
+
+        // When
+        script.write("waiting for input\n".getBytes(StandardCharsets.UTF_8));
+        script.flush();
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (chunks.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("waiting for input"), chunks);
+        script.close();
+        capture.await(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void await_OutputHeldOpen_ClosesAfterGrace() throws Exception {
+        // Given
+        PipedOutputStream background = new PipedOutputStream();
+        ScriptOutputCapture capture = ScriptOutputCapture.start(new PipedInputStream(background), properties(),
+                this::store, "test");
+        background.write("started\n".getBytes(StandardCharsets.UTF_8));
+        background.flush();
+
+        // When
+        ScriptOutputCapture.Summary summary = capture.await(Duration.ofMillis(200));
+
+        // Then
+        assertEquals(1, summary.getTotalLines());
+        assertEquals(List.of("started"), chunks);
+    }
+
+    private void store(String chunk, Map<String, Object> position) {
+        chunks.add(chunk);
+        positions.add(position);
+    }
+
+    private static Output properties() {
+        Output properties = new Output();
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        return properties;
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+package com.chronos.service.executor;
+
+import com.chronos.config.ScriptJobConfig.Output;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptWorkerTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<String> chunks = new CopyOnWriteArrayList<>();
+    private ScriptWorker worker;
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.destroy();
+        }
+    }
+
+    @Test
+    void run_SeveralScripts_KeepsRunsApart() throws Exception {
+        // Given
+        worker = ScriptWorker.start(directory, Map.of("PATH", System.getenv("PATH")), 8192);
+        Path first = script("first.sh", "cd /; COUNT=1; echo one; printf 'no line break'; exit 3");
+        Path second = script("second.sh", "echo \"${COUNT:-unset} $(pwd)\"");
+
+        // When
+        int firstExit = run(first);
+        List<String> firstOutput = List.copyOf(chunks);
+        chunks.clear();
+        int secondExit = run(second);
+
+        // Then
+        assertEquals(3, firstExit);
+        assertEquals(List.of("one\nno line break"), firstOutput);
+        assertEquals(0, secondExit);
+        assertEquals(List.of("unset " + directory.toRealPath()), chunks);
+        assertEquals(2, worker.getRuns());
+        assertTrue(worker.isAlive());
+    }
+
+    @Test
+    void run_ScriptReadsInputAndPrintsBlankLines_DoesNotBreakProtocol() throws Exception {
+        // Given
+        worker = ScriptWorker.start(directory, Map.of("PATH", System.getenv("PATH")), 8192);
+        Path script = script("read.sh", "read -r line; echo \"read:${line}\"; echo; echo");
+
+        // When
+        int exitCode = run(script);
+
+        // Then
+        assertEquals(0, exitCode);
+        assertEquals(List.of("read:\n\n"), chunks);
+    }
+
+    @Test
+    void run_ScriptLeavesBackgroundWriter_KillsItBeforeNextRun() throws Exception {
+        // Given
+        worker = ScriptWorker.start(directory, Map.of("PATH", System.getenv("PATH")), 8192);
+        Path first = script("background.sh", "echo started; (sleep 0.3; echo leaked) & exit 0");
+        Path second = script("second.sh", "sleep 0.6; echo second");
+
+        // When
+        int firstExit = run(first);
+        List<String> firstOutput = List.copyOf(chunks);
+        chunks.clear();
+        int secondExit = run(second);
+
+        // Then
+        assertEquals(0, firstExit);
+        assertEquals(List.of("started"), firstOutput);
+        assertEquals(0, secondExit);
+        assertEquals(List.of("second"), chunks);
+        assertFalse(worker.hasDescendants());
+        assertTrue(worker.isAlive());
+    }
+
+    @Test
+    void run_WorkerDestroyed_Fails() throws Exception {
+        // Given
+        worker = ScriptWorker.start(directory, Map.of("PATH", System.getenv("PATH")), 8192);
+        Path script = script("sleep.sh", "sleep 30");
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException ignored) {
+                return;
+            }
+            worker.destroy();
+        });
+
+        // When / Then
+        assertThrows(IOException.class, () -> run(script));
+        assertTrue(worker.getProcess().waitFor(5, TimeUnit.SECONDS));
+    }
+
+    private int run(Path script) throws Exception {
+        Output properties = new Output();
+        ScriptOutputCapture capture = ScriptOutputCapture.open(properties, (chunk, position) -> chunks.add(chunk), "test");
+        try {
+            return worker.run(script, capture);
+        } finally {
+            capture.finish();
+        }
+    }
+
+    private Path script(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+}
@@ -0,0 +1,156 @@
+package com.chronos.service.impl;
+
+import com.chronos.config.ExecutionConfig.ExecutionProperties;
+import com.chronos.domain.model.Job;
+import com.chronos.domain.model.JobRun;
+import com.chronos.domain.model.enums.JobType;
+import com.chronos.domain.model.enums.TransitionResult;
+import com.chronos.service.JobService;
+import com.chronos.service.execution.CircuitBreakerRegistry;
+import com.chronos.service.execution.DispatchPolicy;
+import com.chronos.service.execution.DurationEstimator;
+import com.chronos.service.execution.JobDefinitionCache;
+import com.chronos.service.execution.JobExecutionEngine;
+import com.chronos.service.execution.PendingRun;
+import com.chronos.service.execution.RejectionPolicy;
+import com.chronos.service.execution.ResourceClass;
+import com.chronos.service.executor.JobExecutorRegistry;
+import com.chronos.service.executor.JobTypeExecutor;
+import com.chronos.service.runlog.RunLogTail;
+import com.chronos.service.runlog.RunLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JobExecutorServiceImplTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private JobService jobService;
+    private RunLogWriter runLogWriter;
+    private JobExecutorRegistry executorRegistry;
+    private JobExecutionEngine engine;
+    private JobExecutorServiceImpl executorService;
+
+    @BeforeEach
+    void setUp() {
+        // One HTTP slot and no queue, so a second HTTP run is rejected while the slot is taken
+        ExecutionProperties properties = new ExecutionProperties();
+        properties.setDefaultTypeConcurrency(1);
+        properties.setDefaultQueueCapacity(0);
+        properties.setRejectionPolicy(RejectionPolicy.REJECT);
+        engine = new JobExecutionEngine(properties, 10, new SimpleMeterRegistry(), DispatchPolicy.FIFO);
+        engine.submit(PendingRun.builder().type(JobType.HTTP).task(this::awaitRelease).onRejected(() -> { }).build());
+
+        jobService = mock(JobService.class);
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBean(JobService.class)).thenReturn(jobService);
+        runLogWriter = mock(RunLogWriter.class);
+        when(runLogWriter.flush(any())).thenReturn(true);
+        executorRegistry = mock(JobExecutorRegistry.class);
+        when(executorRegistry.getResourceClass(any())).thenReturn(ResourceClass.IO);
+        executorService = new JobExecutorServiceImpl(runLogWriter, mock(RunLogTail.class),
+                executorRegistry, applicationContext, engine, mock(DurationEstimator.class),
+                mock(JobDefinitionCache.class), properties,
+                new CircuitBreakerRegistry(properties, new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        executorService.shutdown();
+        engine.shutdown();
+    }
+
+    @Test
+    void executeJob_QueueFull_RecordsRejectedRunAsFailedAttempt() {
+        // Given
+        Job job = Job.builder().id("job-1").type(JobType.HTTP).build();
+        JobRun run = JobRun.builder().id("run-1").job(job).build();
+        when(jobService.markJobAsRunning(eq("job-1"), eq("run-1"), anyString())).thenReturn(TransitionResult.APPLIED);
+
+        // When
+        executorService.executeJob(job, run);
+
+        // Then
+        verify(jobService, timeout(5000)).markJobAsComplete(eq("job-1"), eq("run-1"), eq(false), contains("full"));
+        verify(runLogWriter).append(eq("run-1"), any(), eq("WARN"), contains("full"), isNull());
+        assertFalse(executorService.isJobRunning("job-1"));
+    }
+
+    @Test
+    void executeJob_QueueFullAndJobMovedOn_DoesNotCompleteRun() {
+        // Given
+        Job job = Job.builder().id("job-1").type(JobType.HTTP).build();
+        JobRun run = JobRun.builder().id("run-1").job(job).build();
+        when(jobService.markJobAsRunning(eq("job-1"), eq("run-1"), anyString())).thenReturn(TransitionResult.LOST_RACE);
+
+        // When
+        executorService.executeJob(job, run);
+
+        // Then
+        verify(jobService, timeout(5000)).markJobAsRunning(eq("job-1"), eq("run-1"), anyString());
+        verify(jobService, after(200).never()).markJobAsComplete(anyString(), anyString(), anyBoolean(), any());
+    }
+
+    @Test
+    void executeClaimedJob_QueueFull_HandsRunBackToClaimer() {
+        // Given
+        Job job = Job.builder().id("job-1").type(JobType.HTTP).build();
+        JobRun run = JobRun.builder().id("run-1").job(job).build();
+        AtomicBoolean handedBack = new AtomicBoolean();
+
+        // When
+        executorService.executeClaimedJob(job, run, () -> handedBack.set(true));
+
+        // Then
+        assertTrue(handedBack.get());
+        verifyNoInteractions(jobService);
+    }
+
+    @Test
+    void cancelRunningJob_RecordsOutcomeOffTimeoutThread() {
+        // Given
+        release.countDown();
+        Job job = Job.builder().id("job-2").type(JobType.SCRIPT).build();
+        JobRun run = JobRun.builder().id("run-2").job(job).build();
+        JobTypeExecutor executor = mock(JobTypeExecutor.class);
+        when(executor.executeAsync(any())).thenReturn(new CompletableFuture<>());
+        when(executorRegistry.get(JobType.SCRIPT)).thenReturn(executor);
+        when(jobService.markJobAsRunning(eq("job-2"), eq("run-2"), anyString())).thenReturn(TransitionResult.APPLIED);
+        List<String> recordingThreads = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> recordingThreads.add(Thread.currentThread().getName()))
+                .when(jobService).markJobAsComplete(eq("job-2"), eq("run-2"), eq(false), any());
+        executorService.executeJob(job, run);
+        verify(executor, timeout(5000)).executeAsync(any());
+
+        // When
+        executorService.cancelRunningJob("job-2");
+
+        // Then
+        verify(jobService, timeout(5000)).markJobAsComplete(eq("job-2"), eq("run-2"), eq(false), eq("Run cancelled"));
+        assertTrue(recordingThreads.get(0).startsWith("chronos-run-outcome-"));
+        assertFalse(executorService.isJobRunning("job-2"));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.chronos.service.runlog;
+
+import com.chronos.exception.LogSearchException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DatabaseRunLogStoreTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DatabaseRunLogStore store = new DatabaseRunLogStore(jdbcTemplate, null, new ObjectMapper());
+
+    @Test
+    void booleanQuery_WordsAndPhrases_RequiresEach() {
+        // When
+        String query = DatabaseRunLogStore.booleanQuery("timeout \"connection reset\"  retry");
+
+        // Then
+        assertEquals("+timeout +\"connection reset\" +retry", query);
+    }
+
+    @Test
+    void booleanQuery_UserOperators_AreDropped() {
+        // When
+        String query = DatabaseRunLogStore.booleanQuery("-ignored* connection-reset (db) \"a\"\"\"");
+
+        // Then
+        assertEquals("+ignored +\"connection reset\" +db +\"a\"", query);
+    }
+
+    @Test
+    void booleanQuery_NoWords_Throws() {
+        // When & Then
+        assertThrows(LogSearchException.class, () -> DatabaseRunLogStore.booleanQuery(" ** \"\" "));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_AllFilters_AddsConditionsInOrder() {
+        // Given
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to = Instant.parse("2024-01-02T00:00:00Z");
+
+        // When
+        store.search(RunLogQuery.builder()
+                .jobId("job-1")
+                .text("failed")
+                .level("ERROR")
+                .from(from)
+                .to(to)
+                .beforeId(42L)
+                .limit(51)
+                .build());
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> arguments = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), arguments.capture());
+        assertTrue(sql.getValue().endsWith(
+                "AND l.level = ? AND l.timestamp >= ? AND l.timestamp < ? AND l.id < ? ORDER BY l.id DESC LIMIT ?"));
+        assertArrayEquals(new Object[]{"job-1", "+failed", "ERROR", Timestamp.from(from), Timestamp.from(to), 42L, 51},
+                arguments.getValue());
+    }
+}
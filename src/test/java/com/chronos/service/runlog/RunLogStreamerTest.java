@@ -0,0 +1,75 @@
+package com.chronos.service.runlog;
+
+import com.chronos.api.mapper.JobMapper;
+import com.chronos.config.RunLogConfig.RunLogProperties;
+import com.chronos.domain.model.JobRun;
+import com.chronos.repository.JobRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RunLogStreamerTest {
+
+    private static final String RUN_ID = "run-1";
+
+    private RunLogStore store;
+    private JobRunRepository jobRunRepository;
+    private JobMapper jobMapper;
+    private RunLogStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        RunLogProperties properties = new RunLogProperties();
+        properties.getTail().setHistoryPageSize(2);
+        properties.getTail().setPollInterval(Duration.ofMillis(10));
+        store = mock(RunLogStore.class);
+        jobRunRepository = mock(JobRunRepository.class);
+        jobMapper = mock(JobMapper.class);
+        streamer = new RunLogStreamer(new RunLogTail(properties), store, mock(RunLogWriter.class),
+                jobRunRepository, jobMapper, properties);
+
+        // Ids of a shared table, not positions in the run
+        when(store.readAfter(RUN_ID, null, 2)).thenReturn(List.of(entry(11), entry(12)));
+        // Nothing new on the first poll, one entry on the second
+        when(store.readAfter(RUN_ID, 12L, 2)).thenReturn(List.of(), List.of(entry(15)));
+        when(store.readAfter(RUN_ID, 15L, 2)).thenReturn(List.of());
+        when(jobRunRepository.findById(RUN_ID)).thenReturn(
+                Optional.of(JobRun.builder().id(RUN_ID).build()),
+                Optional.of(JobRun.builder().id(RUN_ID).build()),
+                Optional.of(JobRun.builder().id(RUN_ID).endTime(Instant.now()).build()));
+    }
+
+    @Test
+    void stream_RunOnAnotherNode_PollsAfterLastEntryId() {
+        // When
+        streamer.stream(RUN_ID, 0);
+
+        // Then
+        verify(store, timeout(5000)).readAfter(RUN_ID, 15L, 2);
+        verify(store, times(1)).readAfter(RUN_ID, null, 2);
+        verify(store, times(2)).readAfter(RUN_ID, 12L, 2);
+        verify(store, never()).read(anyString(), any());
+        verify(jobMapper, times(3)).toJobRunLogDto(any());
+    }
+
+    @Test
+    void stream_ClientReconnects_SendsOnlyEntriesAfterItsPosition() {
+        // When
+        streamer.stream(RUN_ID, 2);
+
+        // Then
+        verify(store, timeout(5000)).readAfter(RUN_ID, 15L, 2);
+        verify(jobMapper, times(1)).toJobRunLogDto(entry(15));
+    }
+
+    private static RunLogEntry entry(long id) {
+        return new RunLogEntry(id, RUN_ID, Instant.EPOCH, "INFO", "line " + id, null);
+    }
+}
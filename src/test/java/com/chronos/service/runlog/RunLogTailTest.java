@@ -0,0 +1,121 @@
+package com.chronos.service.runlog;
+
+import com.chronos.config.RunLogConfig.RunLogProperties;
+import com.chronos.service.runlog.RunLogTail.Subscription;
+import com.chronos.service.runlog.RunLogTail.TailEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunLogTailTest {
+
+    private static final String RUN_ID = "run-1";
+    private static final Duration WAIT = Duration.ofMillis(100);
+
+    private final List<RunLogEntry> written = new ArrayList<>();
+    private RunLogTail tail;
+
+    @BeforeEach
+    void setUp() {
+        RunLogProperties properties = new RunLogProperties();
+        properties.getTail().setBufferLines(3);
+        properties.getTail().setSubscriberBuffer(2);
+        tail = new RunLogTail(properties);
+        tail.start(RUN_ID);
+    }
+
+    @Test
+    void subscribe_AfterPosition_DeliversBufferedThenNewEntries() throws InterruptedException {
+        // Given
+        publish("one", "two");
+
+        // When
+        Subscription subscription = tail.subscribe(RUN_ID, 1);
+        publish("three");
+
+        // Then
+        assertEquals(2, subscription.getFirstPosition());
+        assertEvent(subscription.next(WAIT), 2, "two");
+        assertEvent(subscription.next(WAIT), 3, "three");
+        assertNull(subscription.next(WAIT));
+        assertFalse(subscription.isEnded());
+    }
+
+    @Test
+    void subscribe_EntriesLeftBuffer_ReportsGapToReadFromStore() throws InterruptedException {
+        // Given
+        publish("one", "two", "three", "four", "five");
+
+        // When
+        Subscription subscription = tail.subscribe(RUN_ID, 0);
+
+        // Then
+        assertEquals(3, subscription.getFirstPosition());
+        assertEvent(subscription.next(WAIT), 3, "three");
+    }
+
+    @Test
+    void complete_Run_EndsSubscriptionAfterRemainingEntries() throws InterruptedException {
+        // Given
+        Subscription subscription = tail.subscribe(RUN_ID, 0);
+        publish("one");
+
+        // When
+        tail.complete(RUN_ID);
+
+        // Then
+        assertEvent(subscription.next(WAIT), 1, "one");
+        assertNull(subscription.next(WAIT));
+        assertTrue(subscription.isEnded());
+        assertNull(tail.subscribe(RUN_ID, 0));
+    }
+
+    @Test
+    void publish_SubscriberTooFarBehind_DropsSubscription() throws InterruptedException {
+        // Given
+        Subscription subscription = tail.subscribe(RUN_ID, 0);
+
+        // When: buffer lines and subscriber buffer together allow five waiting entries
+        publish("1", "2", "3", "4", "5", "6");
+
+        // Then
+        for (int position = 1; position <= 5; position++) {
+            assertEvent(subscription.next(WAIT), position, String.valueOf(position));
+        }
+        assertNull(subscription.next(WAIT));
+        assertTrue(subscription.isOverflowed());
+        assertEquals(6, written.size());
+    }
+
+    @Test
+    void publish_WriterRejectsEntry_DoesNotNumberIt() throws InterruptedException {
+        // Given
+        Subscription subscription = tail.subscribe(RUN_ID, 0);
+
+        // When
+        boolean taken = tail.publish(RunLogEntry.of(RUN_ID, Instant.now(), "INFO", "dropped", null), entry -> false);
+        publish("kept");
+
+        // Then
+        assertFalse(taken);
+        assertEvent(subscription.next(WAIT), 1, "kept");
+    }
+
+    private void publish(String... messages) {
+        for (String message : messages) {
+            assertTrue(tail.publish(RunLogEntry.of(RUN_ID, Instant.now(), "INFO", message, null), written::add));
+        }
+    }
+
+    private static void assertEvent(TailEvent event, long position, String message) {
+        assertNotNull(event);
+        assertEquals(position, event.getPosition());
+        assertEquals(message, event.getEntry().getMessage());
+    }
+}
@@ -0,0 +1,128 @@
+package com.chronos.service.runlog;
+
+import com.chronos.config.RunLogConfig.RunLogProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RunLogWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DatabaseRunLogStore store = new DatabaseRunLogStore(jdbcTemplate, null, new ObjectMapper());
+    private RunLogWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    @Test
+    void flush_EntriesQueued_WritesThemInOneStatement() {
+        // Given
+        writer = start(properties(100, 50, Duration.ofSeconds(1)));
+        for (int i = 0; i < 3; i++) {
+            writer.append("run-1", Instant.now(), "INFO", "line " + i, i == 0 ? Map.of("exitCode", 0) : null);
+        }
+
+        // When
+        boolean flushed = writer.flush(Duration.ofSeconds(5));
+
+        // Then
+        assertTrue(flushed);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> arguments = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), arguments.capture());
+        assertTrue(sql.getValue().endsWith("VALUES (?, ?, ?, ?, ?), (?, ?, ?, ?, ?), (?, ?, ?, ?, ?)"));
+        assertEquals(15, arguments.getValue().length);
+        assertEquals("{\"exitCode\":0}", arguments.getValue()[4]);
+        assertEquals("line 2", arguments.getValue()[13]);
+        assertEquals(3.0, meterRegistry.counter("chronos.runlog.written").count());
+    }
+
+    @Test
+    void append_MoreThanBatchSize_SplitsIntoBatches() {
+        // Given
+        writer = start(properties(100, 2, Duration.ofSeconds(1)));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            writer.append("run-1", Instant.now(), "INFO", "line " + i, null);
+        }
+        writer.flush(Duration.ofSeconds(5));
+
+        // Then
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class));
+        assertEquals(5.0, meterRegistry.counter("chronos.runlog.written").count());
+    }
+
+    @Test
+    void append_BufferFull_DropsAndCounts() throws InterruptedException {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        writer = start(properties(2, 1, Duration.ZERO));
+        writer.append("run-1", Instant.now(), "INFO", "being written", null);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // When
+        boolean first = writer.append("run-1", Instant.now(), "INFO", "queued", null);
+        boolean second = writer.append("run-1", Instant.now(), "INFO", "queued", null);
+        boolean third = writer.append("run-1", Instant.now(), "INFO", "dropped", null);
+        release.countDown();
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(1.0, meterRegistry.counter("chronos.runlog.dropped").count());
+        assertTrue(writer.flush(Duration.ofSeconds(5)));
+        assertEquals(3.0, meterRegistry.counter("chronos.runlog.written").count());
+    }
+
+    @Test
+    void flush_InsertFails_CountsFailedAndReturns() {
+        // Given
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new RuntimeException("run deleted"));
+        writer = start(properties(100, 50, Duration.ZERO));
+        writer.append("run-1", Instant.now(), "INFO", "line", null);
+
+        // When
+        boolean flushed = writer.flush(Duration.ofSeconds(5));
+
+        // Then
+        assertTrue(flushed);
+        assertEquals(1.0, meterRegistry.counter("chronos.runlog.failed").count());
+    }
+
+    private RunLogWriter start(RunLogProperties properties) {
+        return new RunLogWriter(store, new RunLogTail(properties), properties, meterRegistry);
+    }
+
+    private static RunLogProperties properties(int bufferCapacity, int batchSize, Duration linger) {
+        RunLogProperties properties = new RunLogProperties();
+        properties.setBufferCapacity(bufferCapacity);
+        properties.setBatchSize(batchSize);
+        properties.setLinger(linger);
+        return properties;
+    }
+}
@@ -0,0 +1,210 @@
+package com.chronos.service.runlog;
+
+import com.chronos.config.RunLogConfig.Segments;
+import com.chronos.exception.RunLogUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentRunLogStoreTest {
+
+    private static final String RUN_A = "01HZX4Q7G8M2N3P4R5S6T7V8WA";
+    private static final String RUN_B = "01HZX4Q7G8M2N3P4R5S6T7V8WB";
+    private static final String RUN_C = "01HZX4Q7G8M2N3P4R5S6T7V8WC";
+
+    @TempDir
+    Path directory;
+
+    private SegmentRunLogStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void read_InterleavedRuns_ReturnsPageOfOneRun() {
+        // Given
+        appendInterleaved(100);
+
+        // When
+        Page<RunLogEntry> page = store.read(RUN_A, PageRequest.of(3, 7));
+
+        // Then
+        assertEquals(100, page.getTotalElements());
+        assertEquals(7, page.getNumberOfElements());
+        assertEquals("A 21", page.getContent().get(0).getMessage());
+        assertEquals("A 27", page.getContent().get(6).getMessage());
+        assertEquals(22L, page.getContent().get(0).getId());
+        assertTrue(page.getContent().stream().allMatch(entry -> RUN_A.equals(entry.getRunId())));
+    }
+
+    @Test
+    void read_LastPartialPage_StopsAtLastEntry() {
+        // Given
+        appendInterleaved(10);
+
+        // When
+        Page<RunLogEntry> page = store.read(RUN_B, PageRequest.of(1, 6));
+
+        // Then
+        assertEquals(List.of("B 6", "B 7", "B 8", "B 9"), messages(page));
+        assertEquals(10, page.getTotalElements());
+    }
+
+    @Test
+    void complete_Run_ReadsBackFromCompressedFile() throws IOException {
+        // Given
+        appendInterleaved(200);
+
+        // When
+        store.complete(RUN_A);
+        Page<RunLogEntry> page = store.read(RUN_A, PageRequest.of(19, 10));
+
+        // Then
+        assertEquals(200, page.getTotalElements());
+        assertEquals("A 190", page.getContent().get(0).getMessage());
+        assertEquals(Map.of("line", 190), page.getContent().get(0).getContext());
+        assertEquals("B 199", store.read(RUN_B, PageRequest.of(199, 1)).getContent().get(0).getMessage());
+        assertEquals(1, countFiles("runs"));
+    }
+
+    @Test
+    void complete_AllRunsOfPastSegment_DeletesSegment() throws IOException {
+        // Given
+        appendInterleaved(5);
+        store.close();
+        store = open();
+
+        // When
+        Page<RunLogEntry> page = store.read(RUN_B, PageRequest.of(0, 10));
+
+        // Then: the segment left by the previous instance was compacted when opening
+        assertEquals(List.of("B 0", "B 1", "B 2", "B 3", "B 4"), messages(page));
+        assertEquals(0, countFiles("segments"));
+        assertEquals(2, countFiles("runs"));
+    }
+
+    @Test
+    void append_AfterCompletion_AddsToRunFile() {
+        // Given
+        appendInterleaved(3);
+        store.complete(RUN_A);
+
+        // When
+        store.append(List.of(RunLogEntry.of(RUN_A, Instant.now(), "ERROR", "late", null)));
+
+        // Then
+        Page<RunLogEntry> page = store.read(RUN_A, PageRequest.of(0, 10));
+        assertEquals(List.of("A 0", "A 1", "A 2", "late"), messages(page));
+    }
+
+    @Test
+    void read_CompactedRun_InflatesOnlyBlocksOfPage() throws IOException {
+        // Given
+        appendInterleaved(200);
+        store.complete(RUN_A);
+
+        // When: the first block is damaged, pages past it do not touch it
+        Path file = runFile(RUN_A);
+        ByteBuffer header = ByteBuffer.wrap(Files.readAllBytes(file));
+        long firstBlock = header.getLong(20);
+        long secondBlock = header.getLong(28);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate((int) (secondBlock - firstBlock)), firstBlock);
+        }
+
+        // Then
+        assertEquals(List.of("A 190", "A 191"), messages(store.read(RUN_A, PageRequest.of(95, 2))));
+        assertEquals(List.of("A 8", "A 9"), messages(store.read(RUN_A, PageRequest.of(4, 2))));
+        assertThrows(UncheckedIOException.class, () -> store.read(RUN_A, PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void read_RunNotOnThisNode_FailsInsteadOfEmptyLog() {
+        // Given
+        appendInterleaved(3);
+
+        // When / Then
+        assertThrows(RunLogUnavailableException.class, () -> store.read(RUN_C, PageRequest.of(0, 10)));
+        assertThrows(RunLogUnavailableException.class, () -> store.count(RUN_C));
+    }
+
+    @Test
+    void start_RunWithoutEntries_ReadsEmptyBeforeAndAfterCompletion() {
+        // Given
+        store.start(RUN_C);
+
+        // When
+        long live = store.count(RUN_C);
+        store.complete(RUN_C);
+
+        // Then
+        assertEquals(0, live);
+        assertEquals(0, store.read(RUN_C, PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(List.of(), store.readAfter(RUN_C, null, 10));
+    }
+
+    private void appendInterleaved(int perRun) {
+        List<RunLogEntry> batch = new ArrayList<>();
+        for (int i = 0; i < perRun; i++) {
+            batch.add(RunLogEntry.of(RUN_A, Instant.now(), "INFO", "A " + i, Map.of("line", i)));
+            batch.add(RunLogEntry.of(RUN_B, Instant.now(), "INFO", "B " + i, null));
+            // Several writes, as the writer thread would make them
+            if (batch.size() == 30) {
+                store.append(batch);
+                batch.clear();
+            }
+        }
+        store.append(batch);
+    }
+
+    private SegmentRunLogStore open() throws IOException {
+        Segments properties = new Segments();
+        properties.setDirectory(directory);
+        properties.setCheckpointInterval(8);
+        SegmentRunLogStore opened = new SegmentRunLogStore(properties, new ObjectMapper());
+        opened.open();
+        return opened;
+    }
+
+    private Path runFile(String runId) throws IOException {
+        try (Stream<Path> files = Files.walk(directory.resolve("runs"))) {
+            return files.filter(file -> file.getFileName().toString().equals(runId + ".log")).findFirst().orElseThrow();
+        }
+    }
+
+    private long countFiles(String subdirectory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory.resolve(subdirectory))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static List<String> messages(Page<RunLogEntry> page) {
+        return page.getContent().stream().map(RunLogEntry::getMessage).toList();
+    }
+}
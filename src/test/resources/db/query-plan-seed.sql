@@ -0,0 +1,85 @@
+-- Data for QueryPlanTest, sized and skewed so the optimizer plans as it would in production:
+-- 20 users, 5000 jobs (10% SCHEDULED), 20000 runs, 50000 log entries, 20000 audit events,
+-- 5000 DLQ events and 5000 notifications (2% pending). Ids are fixed so the test can refer to them.
+
+CREATE TABLE seed_numbers (n INT PRIMARY KEY);
+INSERT INTO seed_numbers (n)
+SELECT a.d + 10 * b.d + 100 * c.d + 1000 * e.d + 10000 * f.d + 1
+FROM (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a
+CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b
+CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c
+CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) e
+CROSS JOIN (SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4
+      UNION ALL SELECT 5) f;
+
+INSERT INTO users (id, email, password_hash, roles, created_at)
+SELECT n, CONCAT('user', n, '@example.com'), 'hash', 'ROLE_USER', TIMESTAMP '2024-01-01 00:00:00'
+FROM seed_numbers WHERE n <= 20;
+
+INSERT INTO jobs (id, owner_id, name, type, status, priority, created_at, next_run_at, version)
+SELECT CONCAT('01JOB', LPAD(n, 21, '0')), n % 20 + 1, CONCAT('job-', n),
+       CASE n % 3 WHEN 0 THEN 'HTTP' WHEN 1 THEN 'SCRIPT' ELSE 'DATABASE' END,
+       CASE WHEN n % 10 = 0 THEN 'SCHEDULED' WHEN n % 10 = 1 THEN 'RUNNING' WHEN n % 10 = 2 THEN 'FAILED'
+            WHEN n % 10 = 3 THEN 'PAUSED' ELSE 'SUCCEEDED' END,
+       CASE n % 3 WHEN 0 THEN 'LOW' WHEN 1 THEN 'MEDIUM' ELSE 'HIGH' END,
+       TIMESTAMP '2024-01-01 00:00:00' + INTERVAL n MINUTE,
+       CASE WHEN n % 10 = 0 THEN TIMESTAMP '2024-06-01 00:00:00' + INTERVAL n MINUTE END,
+       0
+FROM seed_numbers WHERE n <= 5000;
+
+INSERT INTO job_schedules (id, job_id, schedule_type, run_at, cron_expr, timezone, misfire_policy, high_frequency)
+SELECT n, CONCAT('01JOB', LPAD(n, 21, '0')),
+       CASE WHEN n % 5 = 0 THEN 'CRON' ELSE 'ONCE' END,
+       CASE WHEN n % 5 <> 0 THEN TIMESTAMP '2024-06-01 00:00:00' + INTERVAL n MINUTE END,
+       CASE WHEN n % 5 = 0 THEN '0 0 * * * ?' END,
+       'UTC', 'FIRE_NOW', n % 100 = 7
+FROM seed_numbers WHERE n <= 5000;
+
+-- Four attempts per job; 2% of the runs have not ended and 1% have not started
+INSERT INTO job_runs (id, job_id, scheduled_time, start_time, end_time, attempt, outcome, duration_ms)
+SELECT CONCAT('01RUN', LPAD(n, 21, '0')), CONCAT('01JOB', LPAD((n - 1) % 5000 + 1, 21, '0')),
+       TIMESTAMP '2024-02-01 00:00:00' + INTERVAL n MINUTE,
+       CASE WHEN n % 100 <> 1 THEN TIMESTAMP '2024-02-01 00:00:00' + INTERVAL n MINUTE END,
+       CASE WHEN n % 50 NOT IN (0, 1) THEN TIMESTAMP '2024-02-01 00:01:00' + INTERVAL n MINUTE END,
+       (n - 1) DIV 5000 + 1,
+       CASE WHEN n % 50 IN (0, 1) THEN NULL WHEN n % 4 = 0 THEN 'FAILURE' ELSE 'SUCCESS' END,
+       60000
+FROM seed_numbers WHERE n <= 20000;
+
+-- 500 entries for run 1, the rest spread over the other runs
+INSERT INTO job_run_logs (run_id, timestamp, level, message)
+SELECT CONCAT('01RUN', LPAD(CASE WHEN n <= 500 THEN 1 ELSE n % 19999 + 2 END, 21, '0')),
+       TIMESTAMP '2024-02-01 00:00:00' + INTERVAL n SECOND,
+       CASE WHEN n % 10 = 0 THEN 'ERROR' ELSE 'INFO' END,
+       CONCAT('step ', n, CASE WHEN n % 10 = 0 THEN ' failed: connection reset' ELSE ' done' END)
+FROM seed_numbers WHERE n <= 50000;
+
+INSERT INTO audit_events (id, user_id, action, entity_type, entity_id, created_at)
+SELECT n, n % 20 + 1,
+       CASE n % 8 WHEN 0 THEN 'CREATE_JOB' WHEN 1 THEN 'UPDATE_JOB' WHEN 2 THEN 'DELETE_JOB'
+                  WHEN 3 THEN 'PAUSE_JOB' WHEN 4 THEN 'RESUME_JOB' WHEN 5 THEN 'TRIGGER_JOB'
+                  WHEN 6 THEN 'LOGIN' ELSE 'CANCEL_JOB' END,
+       'Job', CONCAT('01JOB', LPAD(n % 5000 + 1, 21, '0')),
+       TIMESTAMP '2024-01-01 00:00:00' + INTERVAL n MINUTE
+FROM seed_numbers WHERE n <= 20000;
+
+INSERT INTO dlq_events (id, job_id, last_run_id, reason, created_at)
+SELECT n, CONCAT('01JOB', LPAD(n, 21, '0')), CONCAT('01RUN', LPAD(n, 21, '0')),
+       CASE WHEN n % 2 = 0 THEN 'Max retries exceeded' ELSE 'Connection refused' END,
+       TIMESTAMP '2024-03-01 00:00:00' + INTERVAL n MINUTE
+FROM seed_numbers WHERE n <= 5000;
+
+INSERT INTO notifications (id, job_id, user_id, channel, target, template_code, sent_at)
+SELECT n, CONCAT('01JOB', LPAD(n, 21, '0')), n % 20 + 1,
+       CASE WHEN n % 2 = 0 THEN 'EMAIL' ELSE 'WEBHOOK' END,
+       'ops@example.com', 'job-failure',
+       CASE WHEN n % 50 <> 0 THEN TIMESTAMP '2024-03-01 00:00:00' + INTERVAL n MINUTE END
+FROM seed_numbers WHERE n <= 5000;
+
+DROP TABLE seed_numbers;
+
+ANALYZE TABLE users, jobs, job_schedules, job_runs, job_run_logs, audit_events, dlq_events, notifications;